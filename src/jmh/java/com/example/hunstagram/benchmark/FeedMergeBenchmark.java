@@ -0,0 +1,64 @@
+package com.example.hunstagram.benchmark;
+
+import com.example.hunstagram.domain.feed.service.FeedMerger;
+import com.example.hunstagram.domain.feed.store.InMemoryTimelineStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 홈 피드 첫 페이지(20개) 조회 시 celebrity 작성자 게시글 병합 비용 - 팔로우 중인 celebrity 수에 따른 비교
+ * 타임라인 1개 + celebrity 작성자별 최근 게시글 캐시 k 개를 읽어 k-way merge
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FeedMergeBenchmark {
+
+    private static final long READER_ID = 0L;
+    private static final int PAGE_SIZE = 20;
+    private static final int TIMELINE_POSTS = 800;
+    private static final int POSTS_PER_CELEBRITY = 200;
+
+    @Param({"0", "1", "10", "50", "200"})
+    public int celebrities;
+
+    private InMemoryTimelineStore timelineStore;
+    private InMemoryTimelineStore authorCache;
+
+    @Setup
+    public void setup() {
+        timelineStore = new InMemoryTimelineStore(TIMELINE_POSTS, 1);
+        authorCache = new InMemoryTimelineStore(POSTS_PER_CELEBRITY, Math.max(1, celebrities));
+        timelineStore.materialize(READER_ID, List::of);
+        for (long author = 1; author <= celebrities; author++) {
+            authorCache.materialize(author, List::of);
+        }
+
+        // 일반 작성자 게시글과 celebrity 게시글이 번갈아 등록되었다고 가정
+        long postId = 1L;
+        for (int round = 0; round < POSTS_PER_CELEBRITY; round++) {
+            for (int i = 0; i < TIMELINE_POSTS / POSTS_PER_CELEBRITY; i++) {
+                timelineStore.push(READER_ID, postId++);
+            }
+            for (long author = 1; author <= celebrities; author++) {
+                authorCache.push(author, postId++);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Long> merge() {
+        List<List<Long>> sources = new ArrayList<>(celebrities + 1);
+        sources.add(timelineStore.read(READER_ID, null, PAGE_SIZE + 1));
+        for (long author = 1; author <= celebrities; author++) {
+            sources.add(authorCache.read(author, null, PAGE_SIZE + 1));
+        }
+        return FeedMerger.merge(sources, PAGE_SIZE + 1);
+    }
+}
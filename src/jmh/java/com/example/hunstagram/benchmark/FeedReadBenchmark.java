@@ -0,0 +1,72 @@
+package com.example.hunstagram.benchmark;
+
+import com.example.hunstagram.domain.feed.store.InMemoryTimelineStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 홈 피드 첫 페이지(20개) 조회 - 팔로우 수에 따른 비교
+ * - timelineRead : fan-out-on-write 로 미리 구성된 타임라인에서 page 크기만큼 읽음
+ * - pullScan : 팔로우 중인 사용자의 게시글을 모두 모아 정렬 후 상위 20개 (fan-out 없이 조회 시점에 계산)
+ * 타임라인 자료구조만 비교 - DB 조회를 포함한 FeedService.getFeed 전체 경로는 FeedServiceBenchmark
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FeedReadBenchmark {
+
+    private static final long READER_ID = 0L;
+    private static final int PAGE_SIZE = 20;
+    private static final int POSTS_PER_FOLLOWEE = 20;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int followees;
+
+    private InMemoryTimelineStore timelineStore;
+    // followee 별 게시글 id (오름차순)
+    private long[][] postsByFollowee;
+
+    @Setup
+    public void setup() {
+        timelineStore = new InMemoryTimelineStore(800, 1);
+        timelineStore.materialize(READER_ID, List::of);
+        postsByFollowee = new long[followees][POSTS_PER_FOLLOWEE];
+
+        // 팔로우 중인 사용자들이 번갈아 가며 게시글을 등록했다고 가정
+        long postId = 1L;
+        for (int round = 0; round < POSTS_PER_FOLLOWEE; round++) {
+            for (int followee = 0; followee < followees; followee++) {
+                postsByFollowee[followee][round] = postId;
+                timelineStore.push(READER_ID, postId);
+                postId++;
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Long> timelineRead() {
+        return timelineStore.read(READER_ID, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public long[] pullScan() {
+        long[] all = new long[followees * POSTS_PER_FOLLOWEE];
+        int index = 0;
+        for (long[] posts : postsByFollowee) {
+            System.arraycopy(posts, 0, all, index, posts.length);
+            index += posts.length;
+        }
+        Arrays.sort(all);
+        long[] page = new long[PAGE_SIZE];
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page[i] = all[all.length - 1 - i];
+        }
+        return page;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.hunstagram.benchmark;
+
+import com.example.hunstagram.HunstagramApplication;
+import com.example.hunstagram.domain.feed.dto.FeedDto;
+import com.example.hunstagram.domain.feed.service.FeedService;
+import com.example.hunstagram.domain.follow.entity.Follow;
+import com.example.hunstagram.domain.follow.entity.FollowRepository;
+import com.example.hunstagram.domain.post.entity.Post;
+import com.example.hunstagram.domain.post.entity.PostRepository;
+import com.example.hunstagram.domain.user.entity.User;
+import com.example.hunstagram.domain.user.entity.UserRepository;
+import com.example.hunstagram.global.dto.CursorResponse;
+import com.example.hunstagram.global.security.service.LoginUser;
+import com.example.hunstagram.global.type.RoleType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 홈 피드 첫 페이지(20개) 조회 - FeedService.getFeed 전체 경로를 H2 에 데이터를 채워서 측정
+ * 타임라인 읽기 + 팔로우 중인 fan-out 제외 작성자 조회(팔로우 전체 scan) + 작성자 캐시 merge + 게시글 조회
+ * FeedReadBenchmark 와 같은 팔로우 수로 비교 (팔로우 중인 사용자의 1% 는 fan-out 하지 않는 작성자)
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FeedServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int POSTS_PER_FOLLOWEE = 20;
+    private static final int SAVE_CHUNK_SIZE = 1000;
+    private static final long CELEBRITY_THRESHOLD = 10_000L;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int followees;
+
+    private ConfigurableApplicationContext context;
+    private FeedService feedService;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(HunstagramApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:feed-benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "hunstagram.storage.type=local",
+                        "hunstagram.storage.local.root=${java.io.tmpdir}/hunstagram-benchmark-storage",
+                        "hunstagram.feed.celebrity-threshold=" + CELEBRITY_THRESHOLD,
+                        "cloud.aws.stack.auto=false",
+                        "cloud.aws.region.auto=false",
+                        "cloud.aws.region.static=ap-northeast-2",
+                        "logging.level.root=warn",
+                        "logging.level.com.example.hunstagram=warn")
+                .run();
+        feedService = context.getBean(FeedService.class);
+
+        User reader = populate();
+        // 벤치마크 스레드가 setup 스레드와 달라도 같은 로그인 사용자로 조회하도록 전역 SecurityContext 사용
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new LoginUser(reader.getId(), reader.getEmail(), RoleType.USER), null,
+                List.of(new SimpleGrantedAuthority(RoleType.USER.getKey()))));
+
+        // 첫 조회에서 DB 기준으로 타임라인, 작성자 캐시를 구성해두고 이후 조회만 측정
+        feedService.getFeed(null, PAGE_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public CursorResponse<FeedDto.Response> getFeed() {
+        return feedService.getFeed(null, PAGE_SIZE);
+    }
+
+    // 팔로우 중인 사용자들이 번갈아 가며 게시글을 등록했다고 가정 (fan-out 없이 저장 - 타임라인은 첫 조회에서 구성)
+    private User populate() {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        PostRepository postRepository = context.getBean(PostRepository.class);
+        FollowRepository followRepository = context.getBean(FollowRepository.class);
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        User reader = userRepository.save(createUser(0));
+        List<User> authors = new ArrayList<>();
+        for (int from = 0; from < followees; from += SAVE_CHUNK_SIZE) {
+            int to = Math.min(from + SAVE_CHUNK_SIZE, followees);
+            List<User> chunk = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                chunk.add(createUser(i + 1));
+            }
+            authors.addAll(transactionTemplate.execute(status -> userRepository.saveAll(chunk)));
+            transactionTemplate.executeWithoutResult(status -> followRepository.saveAll(chunk.stream()
+                    .map(author -> Follow.builder().fromUser(reader).toUser(author).build())
+                    .toList()));
+        }
+        for (int round = 0; round < POSTS_PER_FOLLOWEE; round++) {
+            for (int from = 0; from < followees; from += SAVE_CHUNK_SIZE) {
+                List<User> chunk = authors.subList(from, Math.min(from + SAVE_CHUNK_SIZE, followees));
+                transactionTemplate.executeWithoutResult(status -> postRepository.saveAll(chunk.stream()
+                        .map(author -> Post.builder().user(author).content("content").thumbnailImage("thumbnail").build())
+                        .toList()));
+            }
+        }
+
+        // 팔로우 중인 사용자의 1% 를 fan-out 하지 않는 작성자로 지정
+        int celebrities = Math.max(1, followees / 100);
+        context.getBean(JdbcTemplate.class).update(
+                "update users set follower_count = ? where user_id in (select user_id from users order by user_id desc limit ?)",
+                CELEBRITY_THRESHOLD, celebrities);
+        return reader;
+    }
+
+    private User createUser(int index) {
+        return User.builder()
+                .email("feed" + index + "@test.com")
+                .password("test123!" + index)
+                .name("feed" + index)
+                .nickname("feed" + index)
+                .build();
+    }
+}
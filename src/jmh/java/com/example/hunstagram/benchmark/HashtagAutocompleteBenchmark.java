@@ -0,0 +1,68 @@
+package com.example.hunstagram.benchmark;
+
+import com.example.hunstagram.domain.hashtag.store.HashtagTrie;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해시태그 자동완성 조회 - 태그 사전 크기, prefix 길이에 따른 trie 조회 시간
+ * setup 시 노드 수 / edge label 문자 수를 출력해서 메모리 사용량을 함께 비교한다
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HashtagAutocompleteBenchmark {
+
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz";
+    private static final int PREFIXES = 1024;
+
+    @Param({"10000", "100000", "1000000"})
+    public int tags;
+
+    @Param({"1", "2", "4"})
+    public int prefixLength;
+
+    private HashtagTrie trie;
+    private String[] prefixes;
+    private int next;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        Map<String, Long> counts = new HashMap<>();
+        while (counts.size() < tags) {
+            // 사용 횟수는 소수 태그에 몰리도록 (long tail)
+            counts.put(randomWord(random, 4 + random.nextInt(8)), (long) (1_000_000 / (1 + random.nextInt(100_000))));
+        }
+        trie = new HashtagTrie(10);
+        trie.addAll(counts);
+
+        prefixes = new String[PREFIXES];
+        for (int i = 0; i < PREFIXES; i++) {
+            prefixes[i] = randomWord(random, prefixLength);
+        }
+        System.out.printf("%ntags=%d, nodes=%d, labelChars=%d%n", trie.wordCount(), trie.nodeCount(), trie.labelChars());
+    }
+
+    @Benchmark
+    public List<HashtagTrie.Suggestion> search() {
+        next = (next + 1) & (PREFIXES - 1);
+        return trie.search(prefixes[next], 10);
+    }
+
+    private static String randomWord(SplittableRandom random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+}
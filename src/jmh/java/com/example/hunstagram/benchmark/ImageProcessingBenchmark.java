@@ -0,0 +1,84 @@
+package com.example.hunstagram.benchmark;
+
+import com.example.hunstagram.global.image.ImageProcessor;
+import com.example.hunstagram.global.type.ImageVariantType;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 1장 처리량 (디코딩 1번 + 썸네일/중간 크기 JPEG 인코딩) - 원본 긴 변 길이, 동시 처리 스레드 수에 따른 비교
+ * 가로/세로/정사각형 비율의 사진 형태(그라데이션 + 노이즈) JPEG 8장을 corpus 로 번갈아 처리
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImageProcessingBenchmark {
+
+    private static final int CORPUS_SIZE = 8;
+    // 가로 / 세로 비율
+    private static final double[] ASPECT_RATIOS = {4.0 / 3, 3.0 / 4, 1.0, 16.0 / 9};
+
+    @Param({"1080", "2048", "4032"})
+    public int longEdge;
+
+    private final ImageProcessor imageProcessor = new ImageProcessor();
+    private final AtomicInteger next = new AtomicInteger();
+    private byte[][] corpus;
+
+    @Setup
+    public void setup() throws IOException {
+        Random random = new Random(42);
+        corpus = new byte[CORPUS_SIZE][];
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            double ratio = ASPECT_RATIOS[i % ASPECT_RATIOS.length];
+            int width = ratio >= 1 ? longEdge : (int) (longEdge * ratio);
+            int height = ratio >= 1 ? (int) (longEdge / ratio) : longEdge;
+            corpus[i] = createPhoto(width, height, random);
+        }
+    }
+
+    private byte[] createPhoto(int width, int height, Random random) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int noise = random.nextInt(32);
+                int r = Math.min(255, x * 255 / width + noise);
+                int g = Math.min(255, y * 255 / height + noise);
+                int b = Math.min(255, (x + y) * 255 / (width + height) + noise);
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        return out.toByteArray();
+    }
+
+    private Map<ImageVariantType, byte[]> processNext() {
+        byte[] image = corpus[Math.floorMod(next.getAndIncrement(), CORPUS_SIZE)];
+        return imageProcessor.process(new ByteArrayInputStream(image));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Map<ImageVariantType, byte[]> process_1thread() {
+        return processNext();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Map<ImageVariantType, byte[]> process_4threads() {
+        return processNext();
+    }
+}
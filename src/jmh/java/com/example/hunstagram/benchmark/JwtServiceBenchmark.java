@@ -0,0 +1,92 @@
+package com.example.hunstagram.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.hunstagram.global.security.service.JwtService;
+import com.example.hunstagram.global.security.service.LoginUser;
+import com.example.hunstagram.global.type.RoleType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.auth0.jwt.algorithms.Algorithm.HMAC256;
+import static com.example.hunstagram.global.security.service.JwtService.CLAIM_ID;
+import static com.example.hunstagram.global.security.service.JwtService.CLAIM_ROLE;
+import static com.example.hunstagram.global.security.service.JwtService.JWT_SECRET;
+
+/**
+ * 요청 1건 기준 access token 검증 비용 비교
+ * - reverify : 필터에서 1회 + 서비스의 getId(), getEmail() 호출마다 JWTVerifier를 새로 만들어 재검증 (기존)
+ * - verify_once : 캐싱된 JWTVerifier로 필터에서 1회만 검증하고, 서비스는 LoginUser principal을 그대로 사용
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtServiceBenchmark {
+
+    // 같은 토큰만 반복 검증하지 않도록 사용자별 토큰을 미리 만들어 순환 (2의 거듭제곱)
+    private static final int TOKEN_COUNT = 1024;
+
+    private JwtService jwtService;
+    private String[] accessTokens;
+    private final AtomicInteger nextToken = new AtomicInteger();
+
+    @Setup
+    public void setup() {
+        jwtService = new JwtService();
+        accessTokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            accessTokens[i] = jwtService.createAccessToken("bench" + i + "@test.com", RoleType.USER, i + 1L);
+        }
+    }
+
+    private String nextToken() {
+        return accessTokens[nextToken.getAndIncrement() & (TOKEN_COUNT - 1)];
+    }
+
+    @Benchmark
+    public DecodedJWT verify_rebuild_verifier() {
+        return JWT.require(HMAC256(JWT_SECRET)).build().verify(nextToken());
+    }
+
+    @Benchmark
+    public DecodedJWT verify_cached_verifier() {
+        return jwtService.verifyToken(nextToken());
+    }
+
+    @Benchmark
+    public void request_reverify(Blackhole bh) {
+        String accessToken = nextToken();
+        DecodedJWT filtered = JWT.require(HMAC256(JWT_SECRET)).build().verify(accessToken);
+        bh.consume(filtered);
+        bh.consume(JWT.require(HMAC256(JWT_SECRET)).build().verify(accessToken).getClaim(CLAIM_ID).asLong());
+        bh.consume(JWT.require(HMAC256(JWT_SECRET)).build().verify(accessToken).getSubject());
+    }
+
+    @Benchmark
+    public void request_verify_once(Blackhole bh) {
+        String accessToken = nextToken();
+        DecodedJWT decodedJWT = jwtService.verifyToken(accessToken);
+        LoginUser loginUser = new LoginUser(
+                decodedJWT.getClaim(CLAIM_ID).asLong(),
+                decodedJWT.getSubject(),
+                RoleType.fromKey(decodedJWT.getClaim(CLAIM_ROLE).asString())
+        );
+        UsernamePasswordAuthenticationToken authToken
+                = new UsernamePasswordAuthenticationToken(loginUser, accessToken, List.of());
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+
+        bh.consume(jwtService.getId());
+        bh.consume(jwtService.getEmail());
+        // 요청이 끝나면 필터 체인이 context 를 비우는 것까지 요청 1건의 비용에 포함
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.hunstagram.benchmark;
+
+import com.example.hunstagram.global.storage.LocalObjectStorage;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 저장소 객체 1개 읽기 - transferTo / mmap / InputStream 복사 비교 (썸네일 ~ 원본 크기)
+ * 응답 대신 버리는 channel 로 전송해서 저장소 읽기 비용만 측정
+ * 버리는 channel 은 socket 이 아니므로 transferTo 는 sendfile 대신 JDK 복사 경로를 탄다 (실제 응답 전송에서는 복사가 더 줄어든다)
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LocalObjectStorageBenchmark {
+
+    private static final String KEY = "image.jpg";
+
+    @Param({"32768", "1048576", "8388608"})
+    public int size;
+
+    private Path root;
+    private LocalObjectStorage storage;
+    // 스레드 간 lock 경합이 없는 버리는 channel
+    private final WritableByteChannel discard = new WritableByteChannel() {
+        @Override
+        public int write(ByteBuffer src) {
+            int remaining = src.remaining();
+            src.position(src.limit());
+            return remaining;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    @Setup
+    public void setup() throws IOException {
+        root = Files.createTempDirectory("hunstagram-storage-benchmark");
+        storage = new LocalObjectStorage(root.toString(), "/images");
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        storage.put(KEY, bytes, "image/jpeg");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long transfer_to() throws IOException {
+        return storage.transferTo(KEY, 0, size, discard);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int mmap() throws IOException {
+        ByteBuffer buffer = storage.read(KEY);
+        return discard.write(buffer);
+    }
+
+    // 비교 기준 - 힙 버퍼로 읽어서 복사
+    @Benchmark
+    @Threads(4)
+    public long input_stream_copy() throws IOException {
+        try (InputStream in = Files.newInputStream(root.resolve(KEY))) {
+            return in.transferTo(Channels.newOutputStream(discard));
+        }
+    }
+}
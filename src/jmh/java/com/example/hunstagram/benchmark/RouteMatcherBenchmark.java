@@ -0,0 +1,61 @@
+package com.example.hunstagram.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.example.hunstagram.global.security.filter.CustomAuthorizationFilter.PROTECTED_ROUTES;
+
+/**
+ * CustomAuthorizationFilter.shouldNotFilter 비교
+ * - antPathMatcher : 요청마다 AntPathMatcher를 생성하고 최대 9개의 pattern을 순서대로 매칭 (기존)
+ * - protectedRouteMatcher : 시작 시 컴파일 된 trie로 path segment 단위 매칭
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouteMatcherBenchmark {
+
+    @Param({
+            "GET:/v1/users/profile/12",
+            "POST:/v1/posts/123/like",
+            "DELETE:/v1/comments/55",
+            "GET:/v1/follow/followee/3"
+    })
+    public String request;
+
+    private String method;
+    private String path;
+
+    @Setup
+    public void setup() {
+        String[] split = request.split(":", 2);
+        method = split[0];
+        path = split[1];
+    }
+
+    @Benchmark
+    public boolean antPathMatcher() {
+        AntPathMatcher pathMatcher = new AntPathMatcher();
+        return !(
+                pathMatcher.match("/v1/users/logout", path) ||
+                        pathMatcher.match("/v1/users/profile/my", path) ||
+                        pathMatcher.match("/v1/follow/{toUserId:\\d+}", path) ||
+                        pathMatcher.match("/v1/posts/**/like", path) ||
+                        (pathMatcher.match("/v1/posts/**", path) && method.equals("POST")) ||
+                        (pathMatcher.match("/v1/posts/**", path) && method.equals("DELETE")) ||
+                        pathMatcher.match("/v1/comments/**/like", path) ||
+                        (pathMatcher.match("/v1/comments/**", path) && method.equals("POST")) ||
+                        (pathMatcher.match("/v1/comments/**", path) && method.equals("DELETE"))
+        );
+    }
+
+    @Benchmark
+    public boolean protectedRouteMatcher() {
+        return !PROTECTED_ROUTES.matches(method, path);
+    }
+}
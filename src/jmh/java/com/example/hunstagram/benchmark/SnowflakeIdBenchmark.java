@@ -0,0 +1,46 @@
+package com.example.hunstagram.benchmark;
+
+import com.example.hunstagram.global.id.SnowflakeIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snowflake id 생성 처리량 - 동시 생성 스레드 수에 따른 비교
+ * 노드 하나의 생성기를 모든 스레드가 공유 (CAS 경합 포함)
+ * 노드 당 최대치는 4096 * 1000 = 약 4.1M/s (초과분은 다음 ms 를 미리 사용하고, 허용 범위를 넘으면 대기)
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SnowflakeIdBenchmark {
+
+    private SnowflakeIdGenerator generator;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        // 반복마다 새로 만들어 미리 사용한 ms 가 누적되지 않도록 한다
+        generator = new SnowflakeIdGenerator(1);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long nextId_1thread() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long nextId_4threads() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long nextId_16threads() {
+        return generator.nextId();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.hunstagram.domain.comment.dto;
 
+import com.example.hunstagram.global.id.JsonStringId;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,10 +23,12 @@ public class CommentDto {
     }
 
     @Getter
+    @AllArgsConstructor
     public static class Response {
+        @JsonStringId
         private Long commentId;
         private Long userId;
-        private Long writerNickname;
+        private String writerNickname;
         private String content;
         private Long likeCount;
         private LocalDateTime createdAt;
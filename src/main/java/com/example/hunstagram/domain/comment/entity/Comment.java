@@ -7,11 +7,11 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 
 import static javax.persistence.FetchType.LAZY;
-import static javax.persistence.GenerationType.IDENTITY;
 import static lombok.AccessLevel.PRIVATE;
 import static lombok.AccessLevel.PROTECTED;
 
@@ -27,7 +27,8 @@ import static lombok.AccessLevel.PROTECTED;
 public class Comment extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(generator = "snowflake")
+    @GenericGenerator(name = "snowflake", strategy = "com.example.hunstagram.global.id.SnowflakeIdentifierGenerator")
     @Column(name = "comment_id")
     private Long id;
 
@@ -41,4 +42,8 @@ public class Comment extends BaseTimeEntity {
 
     @Column(name = "content", nullable = false)
     private String content;
+
+    // 반정규화 카운트 - 좋아요 시 CommentRepository의 bulk update로만 갱신
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private long likeCount;
 }
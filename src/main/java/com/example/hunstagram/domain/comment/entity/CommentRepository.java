@@ -1,8 +1,12 @@
 package com.example.hunstagram.domain.comment.entity;
 
+import com.example.hunstagram.domain.comment.dto.CommentDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,4 +19,26 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             "join fetch c.user u " +
             "where c.id = :commentId")
     Optional<Comment> findByIdWithUser(Long commentId);
+
+    @Query("select new com.example.hunstagram.domain.comment.dto.CommentDto$Response(" +
+            "c.id, u.id, u.nickname, c.content, c.likeCount, c.createdAt) " +
+            "from Comment c " +
+            "join c.user u " +
+            "where c.post.id = :postId " +
+            "order by c.id")
+    List<CommentDto.Response> findResponsesByPostId(Long postId, Pageable pageable);
+
+    @Modifying
+    @Query("update Comment c set c.likeCount = c.likeCount + :delta where c.id = :commentId")
+    void addLikeCount(Long commentId, long delta);
+
+    @Query("select c.id from Comment c where c.id > :lastId order by c.id")
+    List<Long> findIdsAfter(Long lastId, Pageable pageable);
+
+    // 카운트 보정
+    @Modifying
+    @Query("update Comment c set " +
+            "c.likeCount = (select count(l) from Like l where l.comment.id = c.id) " +
+            "where c.id in :commentIds")
+    int reconcileCounts(List<Long> commentIds);
 }
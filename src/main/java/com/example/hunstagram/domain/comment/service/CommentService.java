@@ -6,6 +6,7 @@ import com.example.hunstagram.domain.comment.entity.CommentRepository;
 import com.example.hunstagram.domain.like.dto.LikeDto;
 import com.example.hunstagram.domain.like.entity.Like;
 import com.example.hunstagram.domain.like.entity.LikeRepository;
+import com.example.hunstagram.domain.like.service.LikeCountBuffer;
 import com.example.hunstagram.domain.post.entity.Post;
 import com.example.hunstagram.domain.post.entity.PostRepository;
 import com.example.hunstagram.domain.user.entity.User;
@@ -13,13 +14,15 @@ import com.example.hunstagram.domain.user.entity.UserRepository;
 import com.example.hunstagram.global.exception.CustomException;
 import com.example.hunstagram.global.security.service.JwtService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Objects;
-import java.util.Optional;
 
 import static com.example.hunstagram.global.exception.CustomErrorCode.*;
+import static org.springframework.transaction.annotation.Propagation.SUPPORTS;
 
 /**
  * @author : Hunseong-Park
@@ -35,6 +38,8 @@ public class CommentService {
     private final UserRepository userRepository;
     private final LikeRepository likeRepository;
     private final PostRepository postRepository;
+    private final LikeCountBuffer likeCountBuffer;
+    private final TransactionTemplate transactionTemplate;
 
     public void createComment(CommentDto.Request requestDto) {
         Post post = postRepository.findById(requestDto.getPostId())
@@ -47,6 +52,7 @@ public class CommentService {
                 .content(requestDto.getContent())
                 .build();
         commentRepository.save(comment);
+        postRepository.addCommentCount(post.getId(), 1);
     }
 
     public void deleteComment(Long commentId) {
@@ -59,27 +65,43 @@ public class CommentService {
             throw new CustomException(NOT_USER_OWN_COMMENT);
         }
         commentRepository.delete(comment);
+        postRepository.addCommentCount(comment.getPost().getId(), -1);
     }
 
+    // 좋아요 토글 - 취소(삭제)와 추가(insert)를 각각 짧은 트랜잭션에서 실행 (insert 실패가 바깥 트랜잭션을 rollback-only 로 만들지 않도록)
+    @Transactional(propagation = SUPPORTS)
     public LikeDto.Response like(Long commentId) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CustomException(COMMENT_NOT_FOUND));
-        User user = userRepository.findById(jwtService.getId())
-                .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
-        Optional<Like> like = likeRepository.findByCommentAndUserId(comment.getId(), user.getId());
+        Long userId = jwtService.getId();
 
-        // 좋아요 취소
-        if (like.isPresent()) {
-            likeRepository.delete(like.get());
+        // 좋아요 취소 - 먼저 삭제를 시도하고 삭제된 row 가 없을 때만 추가 (조회 후 쓰기 경쟁 제거)
+        Boolean canceled = transactionTemplate.execute(status -> {
+            if (likeRepository.deleteByCommentAndUserId(comment.getId(), userId) == 0) {
+                return false;
+            }
+            likeCountBuffer.addCommentLike(comment.getId(), -1);
+            return true;
+        });
+        if (Boolean.TRUE.equals(canceled)) {
             return new LikeDto.Response(false);
-        } else {
-            // 좋아요 추가
-            Like newLike = Like.builder()
-                    .user(user)
-                    .comment(comment)
-                    .build();
-            likeRepository.save(newLike);
-            return new LikeDto.Response(true);
         }
+
+        // 좋아요 추가
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+        Like like = Like.builder()
+                .user(user)
+                .comment(comment)
+                .build();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                likeRepository.saveAndFlush(like);
+                likeCountBuffer.addCommentLike(comment.getId(), 1);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 같은 요청이 먼저 추가한 경우 - (user_id, comment_id) unique 제약 위반, 이미 좋아요 상태이므로 같은 응답
+        }
+        return new LikeDto.Response(true);
     }
 }
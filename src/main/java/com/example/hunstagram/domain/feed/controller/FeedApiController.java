@@ -0,0 +1,28 @@
+package com.example.hunstagram.domain.feed.controller;
+
+import com.example.hunstagram.domain.feed.dto.FeedDto;
+import com.example.hunstagram.domain.feed.service.FeedService;
+import com.example.hunstagram.global.dto.CursorResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@RequiredArgsConstructor
+@RequestMapping("/v1/feed")
+@RestController
+public class FeedApiController {
+
+    private final FeedService feedService;
+
+    @GetMapping
+    public ResponseEntity<CursorResponse<FeedDto.Response>> getFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(feedService.getFeed(cursor, size));
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.hunstagram.domain.feed.dto;
+
+import com.example.hunstagram.global.id.JsonStringId;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public class FeedDto {
+
+    @Getter
+    @AllArgsConstructor
+    public static class Response {
+        @JsonStringId
+        private Long postId;
+        private Long writerId;
+        private String writerNickname;
+        private String writerProfileImage;
+        private String thumbnailImage;
+        private String content;
+        private Long likeCount;
+        private Long commentCount;
+        private LocalDateTime createdAt;
+    }
+}
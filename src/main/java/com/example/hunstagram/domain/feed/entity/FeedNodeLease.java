@@ -0,0 +1,40 @@
+package com.example.hunstagram.domain.feed.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 피드 타임라인을 관리하는 노드의 lease - 한 row 만 사용하고, 만료 전까지 owner 노드만 갱신할 수 있다
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Entity
+public class FeedNodeLease {
+
+    @Id
+    @Column(name = "feed_node_lease_id")
+    private Long id;
+
+    // 노드(JVM)마다 기동 시 생성하는 id
+    @Column(nullable = false)
+    private String owner;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public FeedNodeLease(Long id, String owner, LocalDateTime expiresAt) {
+        this.id = id;
+        this.owner = owner;
+        this.expiresAt = expiresAt;
+    }
+}
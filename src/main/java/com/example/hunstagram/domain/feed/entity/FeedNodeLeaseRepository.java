@@ -0,0 +1,24 @@
+package com.example.hunstagram.domain.feed.entity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public interface FeedNodeLeaseRepository extends JpaRepository<FeedNodeLease, Long> {
+
+    // 내가 가진 lease 이거나 만료된 lease 만 갱신 (조건부 update 한 번이라 동시에 시도해도 한 노드만 성공)
+    @Modifying
+    @Query("update FeedNodeLease l set l.owner = :owner, l.expiresAt = :expiresAt " +
+            "where l.id = :id and (l.owner = :owner or l.expiresAt < :now)")
+    int renew(Long id, String owner, LocalDateTime now, LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("update FeedNodeLease l set l.expiresAt = :now where l.id = :id and l.owner = :owner")
+    int release(Long id, String owner, LocalDateTime now);
+}
@@ -0,0 +1,111 @@
+package com.example.hunstagram.domain.feed.service;
+
+import com.example.hunstagram.domain.feed.store.AuthorRecentPostCache;
+import com.example.hunstagram.domain.feed.store.TimelineStore;
+import com.example.hunstagram.domain.follow.dto.FollowDto;
+import com.example.hunstagram.domain.follow.entity.FollowRepository;
+import com.example.hunstagram.domain.follow.event.FollowCanceledEvent;
+import com.example.hunstagram.domain.post.entity.PostRepository;
+import com.example.hunstagram.domain.post.event.PostCreatedEvent;
+import com.example.hunstagram.domain.user.entity.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 등록 시 팔로워들의 타임라인에 post id 를 push (fan-out-on-write)
+ * 팔로워 수가 기준 이상인 작성자는 push 하지 않고 작성자 캐시에만 반영 (조회 시 FeedService 에서 병합)
+ * 팔로워 수가 기준 아래로 내려가면 조회 시 병합도 멈추므로, 그동안 push 하지 않은 최근 게시글을 팔로워 타임라인에 채운다
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class FeedFanoutService {
+
+    private static final int FOLLOWER_CHUNK_SIZE = 1000;
+
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final TimelineStore timelineStore;
+    private final AuthorRecentPostCache authorRecentPostCache;
+    @Qualifier("feedFanoutExecutor")
+    private final Executor feedFanoutExecutor;
+
+    @Value("${hunstagram.feed.celebrity-threshold:10000}")
+    private long celebrityThreshold;
+
+    // 게시글 트랜잭션 커밋 후 요청 스레드와 분리해서 fan-out
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        feedFanoutExecutor.execute(() -> {
+            try {
+                fanout(event.getUserId(), event.getPostId());
+            } catch (RuntimeException e) {
+                log.error("feed fan-out failed. postId={}", event.getPostId(), e);
+            }
+        });
+    }
+
+    public void fanout(Long authorId, Long postId) {
+        timelineStore.push(authorId, postId);
+
+        long followerCount = userRepository.findFollowerCountById(authorId).orElse(0L);
+        if (followerCount >= celebrityThreshold) {
+            authorRecentPostCache.add(authorId, postId);
+            return;
+        }
+
+        forEachFollower(authorId, followerId -> timelineStore.push(followerId, postId));
+    }
+
+    // 팔로우 취소로 팔로워 수가 celebrity 기준 바로 아래가 된 경우만 (기준을 내려갈 때 한 번)
+    @TransactionalEventListener
+    public void onFollowCanceled(FollowCanceledEvent event) {
+        if (event.getFollowerCount() != celebrityThreshold - 1) {
+            return;
+        }
+        feedFanoutExecutor.execute(() -> {
+            try {
+                backfill(event.getToUserId());
+            } catch (RuntimeException e) {
+                log.error("feed backfill failed. authorId={}", event.getToUserId(), e);
+            }
+        });
+    }
+
+    // 타임라인은 post id 순서로 삽입하고 중복은 무시하므로, 이미 push 된 게시글이 섞여 있어도 된다
+    public void backfill(Long authorId) {
+        List<Long> postIds = postRepository.findPostIdsByUserId(authorId, PageRequest.ofSize(timelineStore.capacity()));
+        if (postIds.isEmpty()) {
+            return;
+        }
+        forEachFollower(authorId, followerId -> postIds.forEach(postId -> timelineStore.push(followerId, postId)));
+    }
+
+    // 팔로워가 많아도 메모리에 한 번에 올리지 않도록 follow_id keyset 으로 나눠서 순회
+    private void forEachFollower(Long authorId, Consumer<Long> action) {
+        Pageable chunk = PageRequest.ofSize(FOLLOWER_CHUNK_SIZE);
+        long lastFollowId = 0L;
+        while (true) {
+            List<FollowDto.Follower> followers = followRepository.findFollowersAfter(authorId, lastFollowId, chunk);
+            if (followers.isEmpty()) {
+                return;
+            }
+            followers.forEach(f -> action.accept(f.getUserId()));
+            lastFollowId = followers.get(followers.size() - 1).getFollowId();
+        }
+    }
+}
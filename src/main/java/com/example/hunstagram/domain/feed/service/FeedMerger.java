@@ -0,0 +1,77 @@
+package com.example.hunstagram.domain.feed.service;
+
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * post id 내림차순으로 정렬된 여러 목록을 k-way merge
+ * 각 목록의 현재 원소를 max heap 에 두고 limit 개를 꺼내므로 O(k + limit * log k)
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@NoArgsConstructor(access = PRIVATE)
+public class FeedMerger {
+
+    public static List<Long> merge(List<List<Long>> sources, int limit) {
+        if (sources.size() == 1) {
+            List<Long> source = sources.get(0);
+            return source.size() <= limit ? source : source.subList(0, limit);
+        }
+
+        PriorityQueue<Head> heap = new PriorityQueue<>(Math.max(1, sources.size()));
+        for (List<Long> source : sources) {
+            if (!source.isEmpty()) {
+                heap.add(new Head(source));
+            }
+        }
+        if (heap.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> merged = new ArrayList<>(limit);
+        long last = Long.MAX_VALUE;
+        while (!heap.isEmpty() && merged.size() < limit) {
+            Head head = heap.poll();
+            long postId = head.value();
+            // 타임라인과 작성자 캐시에 같은 게시글이 있을 수 있으므로 중복 제거
+            if (postId != last) {
+                merged.add(postId);
+                last = postId;
+            }
+            if (head.next()) {
+                heap.add(head);
+            }
+        }
+        return merged;
+    }
+
+    private static final class Head implements Comparable<Head> {
+        private final List<Long> source;
+        private int index;
+
+        private Head(List<Long> source) {
+            this.source = source;
+        }
+
+        private long value() {
+            return source.get(index);
+        }
+
+        private boolean next() {
+            return ++index < source.size();
+        }
+
+        @Override
+        public int compareTo(Head other) {
+            // 큰 post id(최신) 우선
+            return Long.compare(other.value(), value());
+        }
+    }
+}
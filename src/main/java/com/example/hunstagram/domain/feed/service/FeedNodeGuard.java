@@ -0,0 +1,83 @@
+package com.example.hunstagram.domain.feed.service;
+
+import com.example.hunstagram.domain.feed.entity.FeedNodeLease;
+import com.example.hunstagram.domain.feed.entity.FeedNodeLeaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * 타임라인(InMemoryTimelineStore)과 fan-out 은 JVM 메모리에만 있으므로 피드는 한 노드에서만 운영한다
+ * 기동 시 DB lease 를 잡지 못하면(다른 노드가 운영 중) 기동을 실패시키고, 운영 중에는 주기적으로 lease 를 갱신한다
+ * lease 만료 판단은 각 노드의 시계를 사용하므로 ttl 은 갱신 주기와 노드 간 시계 오차보다 충분히 길게 둔다
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class FeedNodeGuard {
+
+    private static final Long LEASE_ID = 1L;
+
+    private final FeedNodeLeaseRepository feedNodeLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    @Value("${hunstagram.feed.lease-ttl-ms:30000}")
+    private long leaseTtlMs;
+
+    @PostConstruct
+    public void acquire() {
+        if (!renew()) {
+            throw new IllegalStateException("feed timeline lease is held by another node");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${hunstagram.feed.lease-renew-ms:10000}")
+    public void heartbeat() {
+        // 갱신이 ttl 보다 오래 밀려 다른 노드가 lease 를 가져감 - 두 노드의 타임라인이 갈라지므로 운영자가 확인해야 함
+        if (!renew()) {
+            log.error("feed timeline lease lost. owner={}", owner);
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        // 정상 종료 시 바로 만료시켜 다음 노드가 ttl 을 기다리지 않고 기동하도록 함
+        transactionTemplate.executeWithoutResult(status ->
+                feedNodeLeaseRepository.release(LEASE_ID, owner, LocalDateTime.now()));
+    }
+
+    // 내 lease 이거나 만료된 lease 를 갱신, lease row 가 없으면 새로 만든다 (동시에 만들면 한 노드만 성공)
+    private boolean renew() {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                LocalDateTime expiresAt = now.plus(leaseTtlMs, ChronoUnit.MILLIS);
+                if (feedNodeLeaseRepository.renew(LEASE_ID, owner, now, expiresAt) > 0) {
+                    return true;
+                }
+                if (feedNodeLeaseRepository.existsById(LEASE_ID)) {
+                    return false;
+                }
+                feedNodeLeaseRepository.saveAndFlush(new FeedNodeLease(LEASE_ID, owner, expiresAt));
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.hunstagram.domain.feed.service;
+
+import com.example.hunstagram.domain.feed.dto.FeedDto;
+import com.example.hunstagram.domain.feed.store.AuthorRecentPostCache;
+import com.example.hunstagram.domain.feed.store.TimelineStore;
+import com.example.hunstagram.domain.follow.entity.FollowRepository;
+import com.example.hunstagram.domain.post.entity.PostRepository;
+import com.example.hunstagram.global.dto.CursorResponse;
+import com.example.hunstagram.global.security.service.JwtService;
+import com.example.hunstagram.global.util.CursorUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 홈 피드 조회 - 팔로우 수와 무관하게 타임라인에서 page 크기만큼 읽고 게시글 1회 조회
+ * fan-out 하지 않는 작성자(팔로워 수 기준 이상)의 최근 게시글은 조회 시점에 타임라인과 k-way merge
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class FeedService {
+
+    private final JwtService jwtService;
+    private final TimelineStore timelineStore;
+    private final PostRepository postRepository;
+    private final FollowRepository followRepository;
+    private final AuthorRecentPostCache authorRecentPostCache;
+
+    @Value("${hunstagram.feed.celebrity-threshold:10000}")
+    private long celebrityThreshold;
+
+    public CursorResponse<FeedDto.Response> getFeed(String cursor, Integer size) {
+        Long userId = jwtService.getId();
+        int pageSize = CursorUtils.pageSize(size);
+
+        // 처음 조회하는 사용자(또는 재시작 후)는 DB 기준으로 타임라인을 채운다
+        if (!timelineStore.contains(userId)) {
+            timelineStore.materialize(userId,
+                    () -> postRepository.findTimelinePostIds(userId, PageRequest.ofSize(timelineStore.capacity())));
+        }
+
+        Long cursorPostId = CursorUtils.decode(cursor);
+        List<List<Long>> sources = new ArrayList<>();
+        sources.add(timelineStore.read(userId, cursorPostId, pageSize + 1));
+        for (Long authorId : followRepository.findCelebrityFolloweeIds(userId, celebrityThreshold)) {
+            sources.add(authorRecentPostCache.read(authorId, cursorPostId, pageSize + 1));
+        }
+
+        List<Long> postIds = FeedMerger.merge(sources, pageSize + 1);
+        boolean hasNext = postIds.size() > pageSize;
+        List<Long> pageIds = hasNext ? postIds.subList(0, pageSize) : postIds;
+        return CursorResponse.of(findFeedPosts(pageIds), hasNext ? pageIds.get(pageSize - 1) : null);
+    }
+
+    // 타임라인 순서 유지, 그 사이 삭제된 게시글은 제외
+    private List<FeedDto.Response> findFeedPosts(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, FeedDto.Response> posts = postRepository.findFeedPosts(postIds)
+                .stream()
+                .collect(Collectors.toMap(FeedDto.Response::getPostId, Function.identity()));
+        return postIds.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.hunstagram.domain.feed.store;
+
+import com.example.hunstagram.domain.post.entity.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 팔로워가 많은 작성자(celebrity)의 최근 게시글 id 캐시
+ * fan-out 하지 않는 작성자의 게시글을 피드 조회 시점에 병합하기 위해 사용
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Component
+public class AuthorRecentPostCache {
+
+    private final PostRepository postRepository;
+    // 작성자별 최근 게시글 - 타임라인과 같은 구조를 작성자 id 기준으로 사용
+    private final InMemoryTimelineStore recentPosts;
+
+    public AuthorRecentPostCache(PostRepository postRepository,
+                                 @Value("${hunstagram.feed.author-cache-capacity:200}") int capacity,
+                                 @Value("${hunstagram.feed.max-cached-authors:1000}") int maxAuthors) {
+        this.postRepository = postRepository;
+        this.recentPosts = new InMemoryTimelineStore(capacity, maxAuthors);
+    }
+
+    // 캐시가 구성된 작성자에게만 반영 (없으면 다음 조회 시 DB 에서 구성)
+    public void add(Long authorId, long postId) {
+        recentPosts.push(authorId, postId);
+    }
+
+    public List<Long> read(Long authorId, Long cursorPostId, int limit) {
+        if (!recentPosts.contains(authorId)) {
+            recentPosts.materialize(authorId,
+                    () -> postRepository.findPostIdsByUserId(authorId, PageRequest.ofSize(recentPosts.capacity())));
+        }
+        return recentPosts.read(authorId, cursorPostId, limit);
+    }
+}
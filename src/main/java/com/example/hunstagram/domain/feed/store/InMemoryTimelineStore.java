@@ -0,0 +1,186 @@
+package com.example.hunstagram.domain.feed.store;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별로 크기가 제한된 ring buffer 에 post id 를 오름차순으로 보관
+ * - push : post id 는 대부분 증가하는 순서로 들어오므로 보통 O(1) append
+ * - read : 이진 탐색 후 page 크기만큼만 읽음 O(log n + limit)
+ * - 가득 차면 가장 오래된 post id 를 버린다
+ * 보관하는 사용자 수는 max-timelines 로 제한하고, 넘으면 CLOCK 으로 최근에 조회되지 않은 타임라인부터 제거
+ * (push 는 조회로 보지 않으므로 피드를 보지 않는 사용자의 타임라인은 fan-out 이 계속되어도 제거된다)
+ * JVM 메모리에만 있으므로 단일 노드로 운영한다 (FeedNodeGuard)
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Component
+public class InMemoryTimelineStore implements TimelineStore {
+
+    private final int capacity;
+    private final int maxTimelines;
+    private final ConcurrentHashMap<Long, Timeline> timelines = new ConcurrentHashMap<>();
+    // 등록 순서대로 user id 를 돌며 제거 대상을 찾는다 (materialize 에서만 변경)
+    private final ArrayDeque<Long> clock = new ArrayDeque<>();
+
+    public InMemoryTimelineStore(
+            @Value("${hunstagram.feed.timeline-capacity:800}") int capacity,
+            @Value("${hunstagram.feed.max-timelines:10000}") int maxTimelines
+    ) {
+        this.capacity = capacity;
+        this.maxTimelines = Math.max(1, maxTimelines);
+    }
+
+    @Override
+    public void push(Long userId, long postId) {
+        Timeline timeline = timelines.get(userId);
+        if (timeline != null) {
+            timeline.add(postId);
+        }
+    }
+
+    @Override
+    public boolean contains(Long userId) {
+        Timeline timeline = timelines.get(userId);
+        return timeline != null && timeline.loaded;
+    }
+
+    @Override
+    public void materialize(Long userId, Supplier<List<Long>> postIds) {
+        Timeline timeline;
+        synchronized (clock) {
+            timeline = timelines.get(userId);
+            if (timeline == null) {
+                while (timelines.size() >= maxTimelines) {
+                    evict();
+                }
+                timeline = new Timeline(capacity);
+                // 채우는 중에 바로 제거되지 않도록 한 번 조회된 것으로 본다
+                timeline.referenced = true;
+                timelines.put(userId, timeline);
+                clock.addLast(userId);
+            }
+        }
+        if (timeline.loaded) {
+            return;
+        }
+        // 등록 이후의 push 는 timeline 에 쌓이므로 DB 조회 중에 커밋된 게시글도 빠지지 않는다 (중복은 insert 에서 무시)
+        timeline.addAll(postIds.get());
+        // 채우는 동안만 제거를 미루고, 이후에는 조회된 경우에만 남긴다 (노출 전에 되돌려야 조회 표시를 덮어쓰지 않음)
+        timeline.referenced = false;
+        timeline.loaded = true;
+    }
+
+    @Override
+    public List<Long> read(Long userId, Long cursorPostId, int limit) {
+        Timeline timeline = timelines.get(userId);
+        if (timeline == null || !timeline.loaded) {
+            return Collections.emptyList();
+        }
+        timeline.referenced = true;
+        return timeline.read(cursorPostId == null ? Long.MAX_VALUE : cursorPostId, limit);
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    // 최근에 조회된 타임라인은 한 번 더 남기고, 조회되지 않은 타임라인을 제거
+    private void evict() {
+        while (true) {
+            Long userId = clock.pollFirst();
+            Timeline timeline = timelines.get(userId);
+            if (!timeline.referenced) {
+                timelines.remove(userId);
+                return;
+            }
+            timeline.referenced = false;
+            clock.addLast(userId);
+        }
+    }
+
+    static final class Timeline {
+        private final long[] ids;
+        // 가장 오래된 post id 의 물리 index
+        private int head;
+        private int size;
+        private volatile boolean referenced;
+        // DB 조회 결과까지 채워졌는지 - 채워지기 전에는 push 만 받고 조회에는 노출하지 않는다
+        private volatile boolean loaded;
+
+        Timeline(int capacity) {
+            this.ids = new long[capacity];
+        }
+
+        synchronized void add(long postId) {
+            insert(postId);
+        }
+
+        synchronized void addAll(List<Long> postIds) {
+            postIds.forEach(this::insert);
+        }
+
+        synchronized List<Long> read(long cursorPostId, int limit) {
+            // [0, end) 가 cursor 미만
+            int end = lowerBound(cursorPostId);
+            List<Long> result = new ArrayList<>(Math.min(limit, end));
+            for (int i = end - 1; i >= 0 && result.size() < limit; i--) {
+                result.add(get(i));
+            }
+            return result;
+        }
+
+        private void insert(long postId) {
+            int pos = lowerBound(postId);
+            if (pos < size && get(pos) == postId) {
+                return;
+            }
+            if (size == ids.length) {
+                // 가득 찬 상태에서 가장 오래된 것보다 오래된 post 는 버림
+                if (pos == 0) {
+                    return;
+                }
+                head = (head + 1) % ids.length;
+                size--;
+                pos--;
+            }
+            // 순서가 뒤바뀌어 들어온 경우에만 뒤쪽을 한 칸씩 민다
+            for (int i = size; i > pos; i--) {
+                set(i, get(i - 1));
+            }
+            set(pos, postId);
+            size++;
+        }
+
+        private int lowerBound(long postId) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (get(mid) < postId) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        private long get(int index) {
+            return ids[(head + index) % ids.length];
+        }
+
+        private void set(int index, long postId) {
+            ids[(head + index) % ids.length] = postId;
+        }
+    }
+}
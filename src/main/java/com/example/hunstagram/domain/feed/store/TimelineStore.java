@@ -0,0 +1,39 @@
+package com.example.hunstagram.domain.feed.store;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 홈 타임라인(post id 목록) 저장소
+ * 기본 구현은 InMemoryTimelineStore 이며, Redis 등 외부 저장소로 교체할 수 있다
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public interface TimelineStore {
+
+    /**
+     * 타임라인이 생성되어 있는 사용자에게만 post id 를 추가한다
+     * (한 번도 피드를 조회하지 않은 사용자의 타임라인은 만들지 않음)
+     */
+    void push(Long userId, long postId);
+
+    // 타임라인이 생성되어 있는지 - 없으면 호출한 쪽에서 DB 기준으로 materialize 해야 한다
+    boolean contains(Long userId);
+
+    /**
+     * postIds(DB 조회)로 채운 타임라인을 생성한다 (이미 있으면 무시)
+     * postIds 를 조회하기 전에 타임라인을 먼저 등록해서 DB 조회와 등록 사이에 들어온 push 도 받고,
+     * 다 채운 뒤에 contains / read 에 노출하므로 동시에 조회해도 비어있는 타임라인을 읽지 않는다
+     */
+    void materialize(Long userId, Supplier<List<Long>> postIds);
+
+    /**
+     * cursorPostId 미만의 post id 를 최신순(내림차순)으로 최대 limit 개 조회
+     * cursorPostId 가 null 이면 가장 최신부터
+     */
+    List<Long> read(Long userId, Long cursorPostId, int limit);
+
+    // 사용자별 최대 보관 개수
+    int capacity();
+}
@@ -2,6 +2,7 @@ package com.example.hunstagram.domain.follow.controller;
 
 import com.example.hunstagram.domain.follow.dto.FollowDto;
 import com.example.hunstagram.domain.follow.service.FollowService;
+import com.example.hunstagram.global.dto.CursorResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -37,4 +38,22 @@ public class FollowApiController {
     ) {
         return ResponseEntity.ok(followService.getFollowingList(pageable, userId));
     }
+
+    @GetMapping("/followee/{userId}/cursor")
+    public ResponseEntity<CursorResponse<FollowDto.ListResponse>> getFolloweeListByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @PathVariable Long userId
+    ) {
+        return ResponseEntity.ok(followService.getFolloweeListByCursor(cursor, size, userId));
+    }
+
+    @GetMapping("/following/{userId}/cursor")
+    public ResponseEntity<CursorResponse<FollowDto.ListResponse>> getFollowingListByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @PathVariable Long userId
+    ) {
+        return ResponseEntity.ok(followService.getFollowingListByCursor(cursor, size, userId));
+    }
 }
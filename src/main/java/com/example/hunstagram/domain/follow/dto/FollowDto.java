@@ -1,11 +1,10 @@
 package com.example.hunstagram.domain.follow.dto;
 
 import com.example.hunstagram.domain.user.entity.User;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
-import static lombok.AccessLevel.PRIVATE;
-
 /**
  * @author : Hunseong-Park
  * @date : 2022-11-21
@@ -20,14 +19,25 @@ public class FollowDto {
     }
 
     @Getter
-    @AllArgsConstructor(access = PRIVATE)
+    @AllArgsConstructor
     public static class ListResponse {
+        // 커서 계산용
+        @JsonIgnore
+        private Long followId;
         private String name;
         private String nickname;
         private String profileImage;
 
         public static ListResponse fromEntity(User user) {
-            return new ListResponse(user.getName(), user.getNickname(), user.getProfileImage());
+            return new ListResponse(null, user.getName(), user.getNickname(), user.getProfileImage());
         }
     }
+
+    // 피드 fan-out 시 팔로워 id 를 follow_id 기준 keyset 으로 순회하기 위한 projection
+    @Getter
+    @AllArgsConstructor
+    public static class Follower {
+        private Long followId;
+        private Long userId;
+    }
 }
@@ -6,11 +6,11 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 
 import static javax.persistence.FetchType.LAZY;
-import static javax.persistence.GenerationType.IDENTITY;
 import static lombok.AccessLevel.PRIVATE;
 import static lombok.AccessLevel.PROTECTED;
 
@@ -22,11 +22,18 @@ import static lombok.AccessLevel.PROTECTED;
 @Builder
 @AllArgsConstructor(access = PRIVATE)
 @NoArgsConstructor(access = PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_follow_from_user_to_user", columnNames = {"from_user_id", "to_user_id"}
+), indexes = {
+        @Index(name = "idx_follow_to_user_id", columnList = "to_user_id, follow_id"),
+        @Index(name = "idx_follow_from_user_id", columnList = "from_user_id, follow_id")
+})
 @Entity
 public class Follow extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(generator = "snowflake")
+    @GenericGenerator(name = "snowflake", strategy = "com.example.hunstagram.global.id.SnowflakeIdentifierGenerator")
     @Column(name = "follow_id")
     private Long id;
 
@@ -1,10 +1,13 @@
 package com.example.hunstagram.domain.follow.entity;
 
+import com.example.hunstagram.domain.follow.dto.FollowDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,11 +21,61 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
             "and f.toUser.id = :toUserId")
     Optional<Follow> findByFromAndToUserId(Long fromUserId, Long toUserId);
 
-    @Query("select f from Follow f where f.toUser.id = :userId")
-    Page<Follow> findFolloweeList(Pageable pageable, Long userId);
+    // 팔로우 취소 - (from_user_id, to_user_id) unique 인덱스로 조회 없이 바로 삭제
+    @Modifying
+    @Query("delete from Follow f " +
+            "where f.fromUser.id = :fromUserId " +
+            "and f.toUser.id = :toUserId")
+    int deleteByFromAndToUserId(Long fromUserId, Long toUserId);
+
+    // 목록 조회는 User 엔티티 대신 필요한 컬럼만 DTO 로 projection (password, refreshToken 미조회)
+    @Query(value = "select new com.example.hunstagram.domain.follow.dto.FollowDto$ListResponse(" +
+            "f.id, u.name, u.nickname, u.profileImage) " +
+            "from Follow f " +
+            "join f.fromUser u " +
+            "where f.toUser.id = :userId",
+            countQuery = "select count(f) from Follow f where f.toUser.id = :userId")
+    Page<FollowDto.ListResponse> findFolloweeList(Pageable pageable, Long userId);
+
+    @Query(value = "select new com.example.hunstagram.domain.follow.dto.FollowDto$ListResponse(" +
+            "f.id, u.name, u.nickname, u.profileImage) " +
+            "from Follow f " +
+            "join f.toUser u " +
+            "where f.fromUser.id = :userId",
+            countQuery = "select count(f) from Follow f where f.fromUser.id = :userId")
+    Page<FollowDto.ListResponse> findFollowingList(Pageable pageable, Long userId);
+
+    // 커서(follow_id) 이전 항목을 최신순으로 조회 - offset/count 없이 (to_user_id, follow_id) 인덱스만 탐색
+    @Query("select new com.example.hunstagram.domain.follow.dto.FollowDto$ListResponse(" +
+            "f.id, u.name, u.nickname, u.profileImage) " +
+            "from Follow f " +
+            "join f.fromUser u " +
+            "where f.toUser.id = :userId " +
+            "and f.id < :cursorId " +
+            "order by f.id desc")
+    List<FollowDto.ListResponse> findFolloweeListByCursor(Long userId, Long cursorId, Pageable pageable);
+
+    @Query("select new com.example.hunstagram.domain.follow.dto.FollowDto$ListResponse(" +
+            "f.id, u.name, u.nickname, u.profileImage) " +
+            "from Follow f " +
+            "join f.toUser u " +
+            "where f.fromUser.id = :userId " +
+            "and f.id < :cursorId " +
+            "order by f.id desc")
+    List<FollowDto.ListResponse> findFollowingListByCursor(Long userId, Long cursorId, Pageable pageable);
+
+    @Query("select new com.example.hunstagram.domain.follow.dto.FollowDto$Follower(f.id, f.fromUser.id) " +
+            "from Follow f " +
+            "where f.toUser.id = :userId " +
+            "and f.id > :lastFollowId " +
+            "order by f.id")
+    List<FollowDto.Follower> findFollowersAfter(Long userId, Long lastFollowId, Pageable pageable);
 
-    @Query("select f from Follow f where f.fromUser.id = :userId")
-    Page<Follow> findFollowingList(Pageable pageable, Long userId);
+    // 팔로우 중인 사용자 중 fan-out 하지 않는(팔로워 수가 기준 이상인) 작성자 id
+    @Query("select f.toUser.id from Follow f " +
+            "where f.fromUser.id = :userId " +
+            "and f.toUser.followerCount >= :threshold")
+    List<Long> findCelebrityFolloweeIds(Long userId, long threshold);
 
     @Query("select count(f) from Follow f where f.toUser.id = :userId")
     Integer countFolloweeByUserId(Long userId);
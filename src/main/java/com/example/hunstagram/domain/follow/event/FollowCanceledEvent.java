@@ -0,0 +1,19 @@
+package com.example.hunstagram.domain.follow.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 팔로우 취소 커밋 후 피드 backfill 등에 사용
+ * followerCount : 취소가 반영된 toUser 의 팔로워 수
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Getter
+@RequiredArgsConstructor
+public class FollowCanceledEvent {
+    private final Long fromUserId;
+    private final Long toUserId;
+    private final long followerCount;
+}
@@ -3,17 +3,27 @@ package com.example.hunstagram.domain.follow.service;
 import com.example.hunstagram.domain.follow.dto.FollowDto;
 import com.example.hunstagram.domain.follow.entity.Follow;
 import com.example.hunstagram.domain.follow.entity.FollowRepository;
+import com.example.hunstagram.domain.follow.event.FollowCanceledEvent;
 import com.example.hunstagram.domain.user.entity.User;
 import com.example.hunstagram.domain.user.entity.UserRepository;
+import com.example.hunstagram.global.dto.CursorResponse;
 import com.example.hunstagram.global.exception.CustomException;
 import com.example.hunstagram.global.security.service.JwtService;
+import com.example.hunstagram.global.util.CursorUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
 
 import static com.example.hunstagram.global.exception.CustomErrorCode.USER_NOT_FOUND;
+import static org.springframework.transaction.annotation.Propagation.SUPPORTS;
 
 /**
  * @author : Hunseong-Park
@@ -27,43 +37,88 @@ public class FollowService {
     private final JwtService jwtService;
     private final FollowRepository followRepository;
     private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
+    // 팔로우 토글 - 취소(삭제)와 추가(insert)를 각각 짧은 트랜잭션에서 실행 (insert 실패가 바깥 트랜잭션을 rollback-only 로 만들지 않도록)
+    @Transactional(propagation = SUPPORTS)
     public FollowDto.Response follow(Long toUserId) {
         Long fromUserId = jwtService.getId();
-        Follow follow = followRepository.findByFromAndToUserId(fromUserId, toUserId)
-                .orElse(null);
-
-        // 팔로우 추가
-        if (follow == null) {
-            User fromUser = userRepository.findById(fromUserId)
-                    .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
-            User toUser = userRepository.findById(toUserId)
-                    .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
 
-            follow = Follow.builder()
-                    .fromUser(fromUser)
-                    .toUser(toUser)
-                    .build();
-            followRepository.save(follow);
-            return new FollowDto.Response(true);
-        } else {
-            // 팔로우 취소
-            followRepository.delete(follow);
+        // 팔로우 취소 - 먼저 삭제를 시도하고 삭제된 row 가 없을 때만 추가 (조회 후 쓰기 경쟁 제거)
+        Boolean canceled = transactionTemplate.execute(status -> {
+            if (followRepository.deleteByFromAndToUserId(fromUserId, toUserId) == 0) {
+                return false;
+            }
+            updateFollowCounts(fromUserId, toUserId, -1);
+            // 같은 트랜잭션에서 읽으므로 이번 취소가 반영된 값 - celebrity 기준 아래로 내려갔는지 피드에서 판단
+            long followerCount = userRepository.findFollowerCountById(toUserId).orElse(0L);
+            eventPublisher.publishEvent(new FollowCanceledEvent(fromUserId, toUserId, followerCount));
+            return true;
+        });
+        if (Boolean.TRUE.equals(canceled)) {
             return new FollowDto.Response(false);
         }
+
+        // 팔로우 추가
+        User fromUser = userRepository.findById(fromUserId)
+                .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+        User toUser = userRepository.findById(toUserId)
+                .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+        Follow follow = Follow.builder()
+                .fromUser(fromUser)
+                .toUser(toUser)
+                .build();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                followRepository.saveAndFlush(follow);
+                updateFollowCounts(fromUserId, toUserId, 1);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 같은 요청이 먼저 추가한 경우 - (from_user_id, to_user_id) unique 제약 위반, 이미 팔로우 상태이므로 같은 응답
+        }
+        return new FollowDto.Response(true);
+    }
+
+    private void updateFollowCounts(Long fromUserId, Long toUserId, long delta) {
+        userRepository.addFollowingCount(fromUserId, delta);
+        userRepository.addFollowerCount(toUserId, delta);
     }
 
     @Transactional(readOnly = true)
     public Page<FollowDto.ListResponse> getFolloweeList(Pageable pageable, Long userId) {
         validateUserExists(userId);
-        return followRepository.findFolloweeList(pageable, userId)
-                .map(f -> FollowDto.ListResponse.fromEntity(f.getFromUser()));
+        return followRepository.findFolloweeList(pageable, userId);
     }
 
+    @Transactional(readOnly = true)
     public Page<FollowDto.ListResponse> getFollowingList(Pageable pageable, Long userId) {
         validateUserExists(userId);
-        return followRepository.findFollowingList(pageable, userId)
-                .map(f -> FollowDto.ListResponse.fromEntity(f.getToUser()));
+        return followRepository.findFollowingList(pageable, userId);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponse<FollowDto.ListResponse> getFolloweeListByCursor(String cursor, Integer size, Long userId) {
+        validateUserExists(userId);
+        int pageSize = CursorUtils.pageSize(size);
+        List<FollowDto.ListResponse> follows = followRepository.findFolloweeListByCursor(
+                userId, cursorId(cursor), PageRequest.ofSize(pageSize + 1));
+        return CursorResponse.of(follows, pageSize, FollowDto.ListResponse::getFollowId);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponse<FollowDto.ListResponse> getFollowingListByCursor(String cursor, Integer size, Long userId) {
+        validateUserExists(userId);
+        int pageSize = CursorUtils.pageSize(size);
+        List<FollowDto.ListResponse> follows = followRepository.findFollowingListByCursor(
+                userId, cursorId(cursor), PageRequest.ofSize(pageSize + 1));
+        return CursorResponse.of(follows, pageSize, FollowDto.ListResponse::getFollowId);
+    }
+
+    // 첫 페이지는 가장 큰 id 부터
+    private Long cursorId(String cursor) {
+        Long cursorId = CursorUtils.decode(cursor);
+        return cursorId == null ? Long.MAX_VALUE : cursorId;
     }
 
     private void validateUserExists(Long userId) {
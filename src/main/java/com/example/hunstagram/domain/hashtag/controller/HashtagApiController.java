@@ -0,0 +1,45 @@
+package com.example.hunstagram.domain.hashtag.controller;
+
+import com.example.hunstagram.domain.hashtag.dto.HashtagDto;
+import com.example.hunstagram.domain.hashtag.service.HashtagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@RequiredArgsConstructor
+@RequestMapping("/v1/hashtags")
+@RestController
+public class HashtagApiController {
+
+    private final HashtagService hashtagService;
+
+    @GetMapping("/search")
+    public ResponseEntity<HashtagDto.SearchResponse> search(
+            @RequestParam String tag,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(hashtagService.search(tag, cursor, size));
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<List<HashtagDto.TrendingResponse>> getTrending(
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(hashtagService.getTrending(size));
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<HashtagDto.AutocompleteResponse>> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(hashtagService.autocomplete(prefix, size));
+    }
+}
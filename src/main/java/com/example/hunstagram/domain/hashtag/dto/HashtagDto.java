@@ -1,5 +1,8 @@
 package com.example.hunstagram.domain.hashtag.dto;
 
+import com.example.hunstagram.domain.post.dto.PostDto;
+import com.example.hunstagram.global.dto.CursorResponse;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 /**
@@ -9,8 +12,32 @@ import lombok.Getter;
 public class HashtagDto {
 
     @Getter
+    @AllArgsConstructor
     public static class Response {
         private Long id;
         private String hashtag;
     }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SearchResponse {
+        private String tag;
+        private long postCount;
+        private CursorResponse<PostDto.PostThumbnailResponse> posts;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TrendingResponse {
+        private String tag;
+        // 최근 bucket 일수록 가중치가 큰 근사 사용 횟수
+        private long score;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class AutocompleteResponse {
+        private String tag;
+        private long postCount;
+    }
 }
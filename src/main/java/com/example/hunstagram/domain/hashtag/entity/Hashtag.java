@@ -7,7 +7,7 @@ import lombok.NoArgsConstructor;
 import javax.persistence.*;
 
 import static javax.persistence.FetchType.LAZY;
-import static javax.persistence.GenerationType.IDENTITY;
+import static javax.persistence.GenerationType.SEQUENCE;
 import static lombok.AccessLevel.PROTECTED;
 
 /**
@@ -20,7 +20,8 @@ import static lombok.AccessLevel.PROTECTED;
 public class Hashtag {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = "hashtag_seq")
+    @SequenceGenerator(name = "hashtag_seq", sequenceName = "hashtag_seq", allocationSize = 50)
     @Column(name = "hashtag_id")
     private Long id;
 
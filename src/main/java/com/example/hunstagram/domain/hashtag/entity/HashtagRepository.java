@@ -1,10 +1,20 @@
 package com.example.hunstagram.domain.hashtag.entity;
 
+import com.example.hunstagram.domain.hashtag.dto.HashtagDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 /**
  * @author : Hunseong-Park
  * @date : 2022-11-08
  */
 public interface HashtagRepository extends JpaRepository<Hashtag, Long> {
+
+    @Query("select new com.example.hunstagram.domain.hashtag.dto.HashtagDto$Response(h.id, h.hashtag) " +
+            "from Hashtag h " +
+            "where h.post.id = :postId " +
+            "order by h.id")
+    List<HashtagDto.Response> findResponsesByPostId(Long postId);
 }
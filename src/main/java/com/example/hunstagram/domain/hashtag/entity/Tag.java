@@ -0,0 +1,53 @@
+package com.example.hunstagram.domain.hashtag.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.util.Locale;
+
+import static javax.persistence.GenerationType.SEQUENCE;
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 해시태그 사전 - 정규화된 태그명 당 1 row
+ * 검색은 name unique index 로 태그를 찾고 TagPosting 에서 게시글을 조회한다
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_tag_name", columnNames = "name"))
+@Entity
+public class Tag {
+
+    @Id
+    @GeneratedValue(strategy = SEQUENCE, generator = "tag_seq")
+    @SequenceGenerator(name = "tag_seq", sequenceName = "tag_seq", allocationSize = 50)
+    @Column(name = "tag_id")
+    private Long id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    // 반정규화 카운트 - TagRepository 의 bulk update 로만 갱신
+    @Column(name = "post_count", nullable = false, updatable = false)
+    private long postCount;
+
+    public Tag(String name) {
+        this.name = name;
+    }
+
+    // "#Spring " -> "spring", 비어 있으면 null
+    public static String normalize(String hashtag) {
+        if (hashtag == null) {
+            return null;
+        }
+        String name = hashtag.strip();
+        while (name.startsWith("#")) {
+            name = name.substring(1).strip();
+        }
+        return name.isEmpty() ? null : name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.hunstagram.domain.hashtag.entity;
+
+import com.example.hunstagram.domain.post.entity.Post;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+import static javax.persistence.FetchType.LAZY;
+import static javax.persistence.GenerationType.SEQUENCE;
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 태그 -> 게시글 역색인
+ * (tag_id, post_id) unique index 를 post_id 내림차순으로 range scan 해서 최신 게시글부터 조회
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_tag_posting_tag_post", columnNames = {"tag_id", "post_id"}),
+        indexes = @Index(name = "idx_tag_posting_post_id", columnList = "post_id")
+)
+@Entity
+public class TagPosting {
+
+    @Id
+    @GeneratedValue(strategy = SEQUENCE, generator = "tag_posting_seq")
+    @SequenceGenerator(name = "tag_posting_seq", sequenceName = "tag_posting_seq", allocationSize = 50)
+    @Column(name = "tag_posting_id")
+    private Long id;
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "tag_id", nullable = false)
+    private Tag tag;
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "post_id", nullable = false)
+    private Post post;
+
+    public TagPosting(Tag tag, Post post) {
+        this.tag = tag;
+        this.post = post;
+    }
+}
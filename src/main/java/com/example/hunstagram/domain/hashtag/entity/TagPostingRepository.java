@@ -0,0 +1,39 @@
+package com.example.hunstagram.domain.hashtag.entity;
+
+import com.example.hunstagram.domain.post.dto.PostDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public interface TagPostingRepository extends JpaRepository<TagPosting, Long> {
+
+    @Query("select new com.example.hunstagram.domain.post.dto.PostDto$PostThumbnailResponse(p.id, p.thumbnailImage) " +
+            "from TagPosting tp " +
+            "join tp.post p " +
+            "where tp.tag.id = :tagId " +
+            "and tp.post.id < :cursorId " +
+            "order by tp.post.id desc")
+    List<PostDto.PostThumbnailResponse> findThumbnailsByTagIdAndCursor(Long tagId, Long cursorId, Pageable pageable);
+
+    @Query("select tp.tag from TagPosting tp where tp.post.id = :postId")
+    List<Tag> findTagsByPostId(Long postId);
+
+    @Query("select tp.tag from TagPosting tp where tp.post.id = :postId and tp.tag.name in :names")
+    List<Tag> findTagsByPostIdAndNames(Long postId, Collection<String> names);
+
+    @Modifying
+    @Query("delete from TagPosting tp where tp.post.id = :postId")
+    void deleteByPostId(Long postId);
+
+    @Modifying
+    @Query("delete from TagPosting tp where tp.post.id = :postId and tp.tag.id in :tagIds")
+    void deleteByPostIdAndTagIds(Long postId, Collection<Long> tagIds);
+}
@@ -0,0 +1,39 @@
+package com.example.hunstagram.domain.hashtag.entity;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    Optional<Tag> findByName(String name);
+
+    List<Tag> findAllByNameIn(Collection<String> names);
+
+    // 자동완성 trie 적재
+    @Query("select t from Tag t where t.id > :lastId and t.postCount > 0 order by t.id")
+    List<Tag> findUsedTagsAfter(Long lastId, Pageable pageable);
+
+    @Modifying
+    @Query("update Tag t set t.postCount = t.postCount + :delta where t.id in :tagIds")
+    void addPostCount(Collection<Long> tagIds, long delta);
+
+    @Query("select t.id from Tag t where t.id > :lastId order by t.id")
+    List<Long> findIdsAfter(Long lastId, Pageable pageable);
+
+    // 카운트 보정
+    @Modifying
+    @Query("update Tag t set " +
+            "t.postCount = (select count(tp) from TagPosting tp where tp.tag.id = t.id) " +
+            "where t.id in :tagIds")
+    int reconcileCounts(List<Long> tagIds);
+}
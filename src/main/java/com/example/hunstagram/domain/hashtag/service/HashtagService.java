@@ -0,0 +1,179 @@
+package com.example.hunstagram.domain.hashtag.service;
+
+import com.example.hunstagram.domain.hashtag.dto.HashtagDto;
+import com.example.hunstagram.domain.hashtag.entity.Tag;
+import com.example.hunstagram.domain.hashtag.entity.TagPosting;
+import com.example.hunstagram.domain.hashtag.entity.TagPostingRepository;
+import com.example.hunstagram.domain.hashtag.entity.TagRepository;
+import com.example.hunstagram.domain.hashtag.store.HashtagAutocompleteStore;
+import com.example.hunstagram.domain.hashtag.store.TrendingHashtagStore;
+import com.example.hunstagram.domain.post.dto.PostDto;
+import com.example.hunstagram.domain.post.entity.Post;
+import com.example.hunstagram.global.dto.CursorResponse;
+import com.example.hunstagram.global.util.CursorUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.springframework.transaction.annotation.Propagation.SUPPORTS;
+
+/**
+ * 해시태그 역색인(Tag, TagPosting) 관리 및 태그별 게시글 검색
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class HashtagService {
+
+    private final TagRepository tagRepository;
+    private final TagPostingRepository tagPostingRepository;
+    private final TrendingHashtagStore trendingHashtagStore;
+    private final HashtagAutocompleteStore hashtagAutocompleteStore;
+    private final TagRegistrationService tagRegistrationService;
+
+    private static final int TRENDING_DEFAULT_SIZE = 10;
+    private static final int TRENDING_MAX_SIZE = 50;
+    private static final int AUTOCOMPLETE_DEFAULT_SIZE = 10;
+
+    // 태그 조회(unique index) 1번 + postings range scan 1번
+    @Transactional(readOnly = true)
+    public HashtagDto.SearchResponse search(String hashtag, String cursor, Integer size) {
+        int pageSize = CursorUtils.pageSize(size);
+        Long cursorId = CursorUtils.decode(cursor);
+        String name = Tag.normalize(hashtag);
+        Tag tag = name == null ? null : tagRepository.findByName(name).orElse(null);
+        if (tag == null) {
+            return new HashtagDto.SearchResponse(name, 0L, CursorResponse.of(Collections.emptyList(), null));
+        }
+
+        List<PostDto.PostThumbnailResponse> thumbnails = tagPostingRepository.findThumbnailsByTagIdAndCursor(
+                tag.getId(), cursorId == null ? Long.MAX_VALUE : cursorId, PageRequest.ofSize(pageSize + 1));
+        return new HashtagDto.SearchResponse(tag.getName(), tag.getPostCount(),
+                CursorResponse.of(thumbnails, pageSize, PostDto.PostThumbnailResponse::getPostId));
+    }
+
+    // 인기 해시태그 - DB 조회 없이 메모리 sketch 에서 계산 (트랜잭션 불필요)
+    @Transactional(propagation = SUPPORTS)
+    public List<HashtagDto.TrendingResponse> getTrending(Integer size) {
+        int limit = size == null || size < 1 ? TRENDING_DEFAULT_SIZE : Math.min(size, TRENDING_MAX_SIZE);
+        return trendingHashtagStore.top(limit)
+                .stream()
+                .map(t -> new HashtagDto.TrendingResponse(t.getName(), Math.round(t.getScore())))
+                .toList();
+    }
+
+    // 해시태그 자동완성 - 메모리 trie 에서 prefix 로 사용 횟수 상위 태그 조회
+    @Transactional(propagation = SUPPORTS)
+    public List<HashtagDto.AutocompleteResponse> autocomplete(String prefix, Integer size) {
+        String normalized = Tag.normalize(prefix);
+        if (normalized == null) {
+            return Collections.emptyList();
+        }
+        int limit = size == null || size < 1 ? AUTOCOMPLETE_DEFAULT_SIZE : size;
+        return hashtagAutocompleteStore.search(normalized, limit)
+                .stream()
+                .map(s -> new HashtagDto.AutocompleteResponse(s.getTag(), s.getCount()))
+                .toList();
+    }
+
+    /* 사전에 없는 태그를 게시글 트랜잭션을 열기 전에 등록 - 태그마다 짧은 트랜잭션으로 바로 커밋한다
+     * 게시글 트랜잭션 안에서 등록하면 동시 등록(unique 제약 위반)에 게시글까지 롤백되고,
+     * 새 트랜잭션(REQUIRES_NEW)으로 분리하면 요청당 커넥션을 두 개 점유해서 pool 이 고갈될 수 있다
+     */
+    @Transactional(propagation = SUPPORTS)
+    public void registerTags(Collection<String> hashtags) {
+        Set<String> names = normalize(hashtags);
+        if (names.isEmpty()) {
+            return;
+        }
+        tagRepository.findAllByNameIn(names).forEach(t -> names.remove(t.getName()));
+        if (!names.isEmpty()) {
+            register(names);
+        }
+    }
+
+    // 게시글의 해시태그를 역색인에 추가 (태그는 registerTags 로 미리 등록되어 있어야 한다)
+    public void index(Post post, Collection<String> hashtags) {
+        Set<String> names = normalize(hashtags);
+        if (names.isEmpty()) {
+            return;
+        }
+
+        List<Tag> tags = new ArrayList<>(tagRepository.findAllByNameIn(names));
+        tags.forEach(t -> names.remove(t.getName()));
+        if (!names.isEmpty()) {
+            // 미리 등록되지 않은 태그는 게시글 트랜잭션에서 등록 (동시 등록과 충돌하면 게시글도 롤백)
+            tags.addAll(tagRegistrationService.register(names));
+        }
+
+        tagPostingRepository.saveAll(tags.stream().map(t -> new TagPosting(t, post)).toList());
+        tagRepository.addPostCount(tags.stream().map(Tag::getId).toList(), 1);
+        hashtagAutocompleteStore.add(tags.stream().map(Tag::getName).toList(), 1);
+    }
+
+    private Set<String> normalize(Collection<String> hashtags) {
+        Set<String> names = new LinkedHashSet<>();
+        if (hashtags != null) {
+            hashtags.stream().map(Tag::normalize).filter(Objects::nonNull).forEach(names::add);
+        }
+        return names;
+    }
+
+    /* 다른 게시글이 같은 태그를 동시에 등록하면 unique 제약 위반
+     * 태그별로 다시 등록하고, 이미 등록된 태그는 새 트랜잭션에서 조회해서 확인한다
+     */
+    private void register(Set<String> names) {
+        try {
+            tagRegistrationService.register(names);
+        } catch (DataIntegrityViolationException e) {
+            names.forEach(this::register);
+        }
+    }
+
+    private void register(String name) {
+        try {
+            tagRegistrationService.register(List.of(name));
+        } catch (DataIntegrityViolationException e) {
+            tagRegistrationService.find(name).orElseThrow(() -> e);
+        }
+    }
+
+    // 게시글 삭제 시 역색인에서 제거
+    public void unindex(Long postId) {
+        List<Tag> tags = tagPostingRepository.findTagsByPostId(postId);
+        if (tags.isEmpty()) {
+            return;
+        }
+        tagPostingRepository.deleteByPostId(postId);
+        tagRepository.addPostCount(tags.stream().map(Tag::getId).toList(), -1);
+        hashtagAutocompleteStore.add(tags.stream().map(Tag::getName).toList(), -1);
+    }
+
+    // 게시글 수정 시 제거된 태그만 역색인에서 제거
+    public void unindex(Long postId, Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        List<Tag> tags = tagPostingRepository.findTagsByPostIdAndNames(postId, names);
+        if (tags.isEmpty()) {
+            return;
+        }
+        List<Long> tagIds = tags.stream().map(Tag::getId).toList();
+        tagPostingRepository.deleteByPostIdAndTagIds(postId, tagIds);
+        tagRepository.addPostCount(tagIds, -1);
+        hashtagAutocompleteStore.add(tags.stream().map(Tag::getName).toList(), -1);
+    }
+}
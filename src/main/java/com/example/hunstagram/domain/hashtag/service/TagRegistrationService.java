@@ -0,0 +1,38 @@
+package com.example.hunstagram.domain.hashtag.service;
+
+import com.example.hunstagram.domain.hashtag.entity.Tag;
+import com.example.hunstagram.domain.hashtag.entity.TagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 태그 사전 등록 - 게시글 트랜잭션을 열기 전에 호출해서 짧은 트랜잭션으로 바로 커밋한다 (HashtagService.registerTags)
+ * 같은 새 태그를 동시에 등록해도 게시글 트랜잭션이 unique 제약 위반으로 롤백되지 않고,
+ * 게시글 트랜잭션 안에서 새 트랜잭션(REQUIRES_NEW)을 열지 않으므로 요청당 커넥션은 하나만 사용한다
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class TagRegistrationService {
+
+    private final TagRepository tagRepository;
+
+    // 다른 트랜잭션이 같은 태그를 먼저 등록했으면 DataIntegrityViolationException
+    public List<Tag> register(Collection<String> names) {
+        return tagRepository.saveAllAndFlush(names.stream().map(Tag::new).toList());
+    }
+
+    // 등록 실패 후 새 트랜잭션에서 조회하므로 다른 트랜잭션이 방금 커밋한 태그도 보인다
+    @Transactional(readOnly = true)
+    public Optional<Tag> find(String name) {
+        return tagRepository.findByName(name);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.hunstagram.domain.hashtag.store;
+
+import com.example.hunstagram.domain.hashtag.entity.Tag;
+import com.example.hunstagram.domain.hashtag.entity.TagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 해시태그 자동완성 - 시작 시 태그 사전 전체로 trie 를 만들고, 이후 게시글 작성/수정/삭제 시 증분 반영
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Slf4j
+@Component
+public class HashtagAutocompleteStore {
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final TagRepository tagRepository;
+    private final int topN;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private HashtagTrie trie;
+
+    public HashtagAutocompleteStore(TagRepository tagRepository,
+                                    @Value("${hunstagram.hashtag.autocomplete.top-n:10}") int topN) {
+        this.tagRepository = tagRepository;
+        this.topN = topN;
+        this.trie = new HashtagTrie(topN);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // 사용 중인 태그를 id keyset 으로 나눠서 적재한 뒤 새 trie 로 교체
+        Map<String, Long> counts = new HashMap<>();
+        Pageable chunk = PageRequest.ofSize(LOAD_CHUNK_SIZE);
+        long lastId = 0L;
+        while (true) {
+            List<Tag> tags = tagRepository.findUsedTagsAfter(lastId, chunk);
+            if (tags.isEmpty()) {
+                break;
+            }
+            tags.forEach(t -> counts.put(t.getName(), t.getPostCount()));
+            lastId = tags.get(tags.size() - 1).getId();
+        }
+
+        HashtagTrie built = new HashtagTrie(topN);
+        built.addAll(counts);
+        lock.writeLock().lock();
+        try {
+            trie = built;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("hashtag autocomplete built. tags={}, nodes={}, labelChars={}",
+                built.wordCount(), built.nodeCount(), built.labelChars());
+    }
+
+    // 태그 사용 횟수 증감 - 트랜잭션이 롤백되면 반영하지 않는다
+    public void add(Collection<String> names, long delta) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                names.forEach(name -> trie.add(name, delta));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public List<HashtagTrie.Suggestion> search(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            return trie.search(prefix, Math.min(limit, topN));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.hunstagram.domain.hashtag.store;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 해시태그 자동완성용 compressed radix trie
+ * 노드마다 하위 태그 중 사용 횟수 상위 N 개를 미리 유지해서 조회는 prefix 길이만큼만 탐색한다
+ * 동기화는 호출하는 쪽에서 처리
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public class HashtagTrie {
+
+    private static final Comparator<Node> BY_COUNT =
+            Comparator.comparingLong((Node n) -> n.count).reversed().thenComparing(n -> n.word);
+
+    private final int topN;
+    private final Node root = new Node("");
+    private int nodeCount = 1;
+    private int wordCount;
+    private long labelChars;
+
+    public HashtagTrie(int topN) {
+        this.topN = topN;
+    }
+
+    // 태그 사용 횟수 증감 (없는 태그의 감소는 무시)
+    public void add(String word, long delta) {
+        List<Node> path = delta > 0 ? insert(word) : find(word);
+        if (path == null || delta == 0) {
+            return;
+        }
+        Node node = path.get(path.size() - 1);
+        long oldCount = node.count;
+        node.count = Math.max(0, oldCount + delta);
+        node.word = word;
+        if (node.count == oldCount) {
+            return;
+        }
+        if (oldCount == 0 && node.count > 0) {
+            wordCount++;
+        } else if (oldCount > 0 && node.count == 0) {
+            wordCount--;
+        }
+
+        // 아래에서부터 갱신해야 부모가 재계산할 때 자식의 상위 목록이 최신 상태
+        for (int i = path.size() - 1; i >= 0; i--) {
+            refreshTop(path.get(i), node, oldCount);
+        }
+    }
+
+    // 시작 시 전체 적재 - 모두 넣은 뒤 상위 목록을 한 번만 계산
+    public void addAll(Map<String, Long> counts) {
+        counts.forEach((word, count) -> {
+            if (count > 0) {
+                Node node = last(insert(word));
+                if (node.count == 0) {
+                    wordCount++;
+                }
+                node.count += count;
+                node.word = word;
+            }
+        });
+        recomputeAll(root);
+    }
+
+    public List<Suggestion> search(String prefix, int limit) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(i));
+            if (child == null) {
+                return Collections.emptyList();
+            }
+            int common = commonPrefix(child.label, prefix, i);
+            if (i + common == prefix.length()) {
+                // prefix 가 edge 중간에서 끝나도 해당 자식 노드의 하위 태그가 후보
+                node = child;
+                break;
+            }
+            if (common < child.label.length()) {
+                return Collections.emptyList();
+            }
+            i += common;
+            node = child;
+        }
+        return node.top.stream()
+                .limit(limit)
+                .map(n -> new Suggestion(n.word, n.count))
+                .toList();
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    public int wordCount() {
+        return wordCount;
+    }
+
+    public long labelChars() {
+        return labelChars;
+    }
+
+    // root 부터 word 까지의 경로 (필요하면 노드 생성 / edge 분할)
+    private List<Node> insert(String word) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < word.length()) {
+            char c = word.charAt(i);
+            Node child = node.children.get(c);
+            if (child == null) {
+                child = newNode(word.substring(i));
+                node.children.put(c, child);
+                path.add(child);
+                return path;
+            }
+            int common = commonPrefix(child.label, word, i);
+            if (common < child.label.length()) {
+                // edge 분할 : node -(공통)-> mid -(나머지)-> child
+                Node mid = newNode(child.label.substring(0, common));
+                labelChars -= common;
+                child.label = child.label.substring(common);
+                mid.children.put(child.label.charAt(0), child);
+                mid.top = new ArrayList<>(child.top);
+                node.children.put(c, mid);
+                child = mid;
+            }
+            i += common;
+            node = child;
+            path.add(node);
+        }
+        return path;
+    }
+
+    private List<Node> find(String word) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < word.length()) {
+            Node child = node.children.get(word.charAt(i));
+            if (child == null || commonPrefix(child.label, word, i) < child.label.length()) {
+                return null;
+            }
+            i += child.label.length();
+            node = child;
+            path.add(node);
+        }
+        return path;
+    }
+
+    private void refreshTop(Node node, Node changed, long oldCount) {
+        boolean contained = node.top.contains(changed);
+        if (changed.count > oldCount) {
+            if (contained) {
+                node.top.sort(BY_COUNT);
+            } else if (node.top.size() < topN || BY_COUNT.compare(changed, last(node.top)) < 0) {
+                node.top.add(changed);
+                node.top.sort(BY_COUNT);
+                if (node.top.size() > topN) {
+                    node.top.remove(node.top.size() - 1);
+                }
+            }
+        } else if (contained) {
+            // 상위 목록에 있던 태그가 줄어들면 밖에 있던 태그가 올라올 수 있으므로 재계산
+            recompute(node);
+        }
+    }
+
+    private void recomputeAll(Node node) {
+        node.children.values().forEach(this::recomputeAll);
+        recompute(node);
+    }
+
+    private void recompute(Node node) {
+        List<Node> candidates = new ArrayList<>();
+        if (node.count > 0) {
+            candidates.add(node);
+        }
+        node.children.values().forEach(child -> candidates.addAll(child.top));
+        candidates.sort(BY_COUNT);
+        node.top = new ArrayList<>(candidates.subList(0, Math.min(topN, candidates.size())));
+    }
+
+    private Node newNode(String label) {
+        nodeCount++;
+        labelChars += label.length();
+        return new Node(label);
+    }
+
+    private static int commonPrefix(String label, String word, int offset) {
+        int max = Math.min(label.length(), word.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == word.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static <T> T last(List<T> list) {
+        return list.get(list.size() - 1);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Suggestion {
+        private String tag;
+        private long count;
+    }
+
+    private static final class Node {
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private List<Node> top = new ArrayList<>(0);
+        private String word;
+        private long count;
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.hunstagram.domain.hashtag.store;
+
+import com.example.hunstagram.domain.hashtag.entity.Tag;
+import com.example.hunstagram.global.util.CountMinSketch;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 인기 해시태그 집계 - 시간 bucket 마다 Count-Min sketch + top-K heap 을 두는 sliding window
+ * 조회 시 bucket 들의 top-K 후보를 모아, bucket 나이만큼 감쇠(decay^age)한 추정치 합으로 정렬한다
+ * 메모리는 bucket 수 x (sketch 크기 + K) 로 태그 종류 수와 무관하게 고정
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Component
+public class TrendingHashtagStore {
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 2048;
+
+    private final long bucketMillis;
+    private final int topK;
+    private final double decay;
+    private final Clock clock;
+    private final Bucket[] buckets;
+
+    @Autowired
+    public TrendingHashtagStore(@Value("${hunstagram.hashtag.trending.bucket-seconds:300}") int bucketSeconds,
+                                @Value("${hunstagram.hashtag.trending.buckets:12}") int bucketCount,
+                                @Value("${hunstagram.hashtag.trending.top-k:100}") int topK,
+                                @Value("${hunstagram.hashtag.trending.decay:0.8}") double decay) {
+        this(bucketSeconds, bucketCount, topK, decay, Clock.systemUTC());
+    }
+
+    public TrendingHashtagStore(int bucketSeconds, int bucketCount, int topK, double decay, Clock clock) {
+        this.bucketMillis = bucketSeconds * 1000L;
+        this.topK = topK;
+        this.decay = decay;
+        this.clock = clock;
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 후에 집계 - 롤백되면 반영하지 않는다
+    public void record(Collection<String> hashtags) {
+        if (hashtags == null || hashtags.isEmpty()) {
+            return;
+        }
+        // 게시글 하나에 같은 태그가 여러 번 있어도 1번만 집계
+        Set<String> names = new HashSet<>();
+        hashtags.stream().map(Tag::normalize).filter(Objects::nonNull).forEach(names::add);
+        if (names.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> add(names));
+    }
+
+    private void add(Set<String> names) {
+        long epoch = currentEpoch();
+        Bucket bucket = buckets[slot(epoch)];
+        synchronized (bucket) {
+            bucket.rotate(epoch);
+            names.forEach(bucket::add);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    public List<TrendingHashtag> top(int limit) {
+        long epoch = currentEpoch();
+        List<Bucket> window = new ArrayList<>(buckets.length);
+        Set<String> candidates = new HashSet<>();
+        for (Bucket bucket : buckets) {
+            synchronized (bucket) {
+                long age = epoch - bucket.epoch;
+                if (age >= 0 && age < buckets.length) {
+                    window.add(bucket);
+                    candidates.addAll(bucket.candidates.keySet());
+                }
+            }
+        }
+
+        // 후보마다 window 안의 모든 bucket 추정치를 감쇠 합산, 상위 limit 개만 min heap 에 유지
+        PriorityQueue<TrendingHashtag> heap =
+                new PriorityQueue<>(Comparator.comparingDouble(TrendingHashtag::getScore));
+        for (String name : candidates) {
+            double score = 0;
+            for (Bucket bucket : window) {
+                synchronized (bucket) {
+                    long age = epoch - bucket.epoch;
+                    if (age >= 0 && age < buckets.length) {
+                        score += Math.pow(decay, age) * bucket.sketch.estimate(name);
+                    }
+                }
+            }
+            heap.add(new TrendingHashtag(name, score));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<TrendingHashtag> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingDouble(TrendingHashtag::getScore).reversed()
+                .thenComparing(TrendingHashtag::getName));
+        return result;
+    }
+
+    private long currentEpoch() {
+        return clock.millis() / bucketMillis;
+    }
+
+    private int slot(long epoch) {
+        return (int) Math.floorMod(epoch, (long) buckets.length);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TrendingHashtag {
+        private String name;
+        private double score;
+    }
+
+    private final class Bucket {
+        private final CountMinSketch sketch = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+        // 추정치 기준 min heap - 가득 차면 가장 작은 후보를 밀어낸다
+        private final PriorityQueue<Candidate> heap = new PriorityQueue<>(Comparator.comparingInt(c -> c.count));
+        private final Map<String, Candidate> candidates = new HashMap<>();
+        private long epoch = Long.MIN_VALUE;
+
+        // 같은 slot 을 재사용할 때 이전 window 의 집계를 버린다
+        private void rotate(long currentEpoch) {
+            if (epoch != currentEpoch) {
+                sketch.clear();
+                heap.clear();
+                candidates.clear();
+                epoch = currentEpoch;
+            }
+        }
+
+        private void add(String name) {
+            int count = sketch.add(name);
+            Candidate candidate = candidates.get(name);
+            if (candidate != null) {
+                heap.remove(candidate);
+                candidate.count = count;
+                heap.add(candidate);
+                return;
+            }
+            if (candidates.size() < topK) {
+                candidate = new Candidate(name, count);
+            } else if (heap.peek().count < count) {
+                candidates.remove(heap.poll().name);
+                candidate = new Candidate(name, count);
+            } else {
+                return;
+            }
+            heap.add(candidate);
+            candidates.put(name, candidate);
+        }
+    }
+
+    private static final class Candidate {
+        private final String name;
+        private int count;
+
+        private Candidate(String name, int count) {
+            this.name = name;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.hunstagram.domain.image.controller;
+
+import com.example.hunstagram.domain.image.service.ImageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 저장소 이미지 서빙 - 로컬 저장소 url, hunstagram.storage.s3.base-url 을 지정한 S3 url 이 가리키는 경로
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@RequiredArgsConstructor
+@RequestMapping("/images")
+@RestController
+public class ImageController {
+
+    private final ImageService imageService;
+
+    @GetMapping("/{key}")
+    public void getImage(
+            @PathVariable String key,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        imageService.serve(key, request, response);
+    }
+}
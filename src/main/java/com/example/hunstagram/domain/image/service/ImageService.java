@@ -0,0 +1,147 @@
+package com.example.hunstagram.domain.image.service;
+
+import com.example.hunstagram.global.exception.CustomException;
+import com.example.hunstagram.global.storage.HotObjectCache;
+import com.example.hunstagram.global.storage.HotObjectCache.CachedObject;
+import com.example.hunstagram.global.storage.ObjectStorage;
+import com.example.hunstagram.global.storage.StoredObject;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.hunstagram.global.exception.CustomErrorCode.IMAGE_NOT_FOUND;
+import static org.springframework.http.HttpHeaders.ACCEPT_RANGES;
+import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
+import static org.springframework.http.HttpHeaders.CONTENT_RANGE;
+import static org.springframework.http.HttpHeaders.IF_RANGE;
+import static org.springframework.http.HttpHeaders.RANGE;
+import static org.springframework.http.HttpMethod.HEAD;
+import static org.springframework.http.HttpStatus.PARTIAL_CONTENT;
+import static org.springframework.http.HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE;
+
+/**
+ * 저장소의 이미지를 응답으로 전송 (CDN origin)
+ * - 캐시 : key 의 내용은 바뀌지 않으므로 immutable Cache-Control + ETag(수정 시각, 크기) / If-None-Match 시 304
+ * - Range : 단일 범위만 206 으로 응답하고, 여러 범위 요청은 전체(200)로 응답
+ * - 본문 : 인기 있는 작은 객체는 HotObjectCache 에서, 로컬 파일은 Tomcat sendfile 로, 그 외에는 저장소에서 스트리밍
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@RequiredArgsConstructor
+@Service
+public class ImageService {
+
+    // Tomcat 이 sendfile 을 지원하면 request 에 설정하는 속성, 응답 반환 후 아래 속성의 파일을 직접 전송한다
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ObjectStorage objectStorage;
+    private final HotObjectCache hotObjectCache;
+
+    @Value("${hunstagram.image.cache-control:public, max-age=31536000, immutable}")
+    private String cacheControl;
+
+    public void serve(String key, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<CachedObject> cached = hotObjectCache.get(key);
+        StoredObject image = cached.isPresent()
+                ? cached.get().getObject()
+                : objectStorage.stat(key).orElseThrow(() -> new CustomException(IMAGE_NOT_FOUND));
+
+        String etag = etag(image);
+        response.setHeader(CACHE_CONTROL, cacheControl);
+        response.setHeader(ACCEPT_RANGES, "bytes");
+        // If-None-Match / If-Modified-Since 가 일치하면 304 (ETag, Last-Modified 헤더도 함께 설정된다)
+        if (new ServletWebRequest(request, response).checkNotModified(etag, image.getLastModified().toEpochMilli())) {
+            return;
+        }
+
+        long size = image.getSize();
+        long start = 0;
+        long length = size;
+        Optional<HttpRange> range;
+        try {
+            range = range(request, etag, size);
+        } catch (IllegalArgumentException e) {
+            response.setStatus(REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            response.setHeader(CONTENT_RANGE, "bytes */" + size);
+            return;
+        }
+        if (range.isPresent()) {
+            start = range.get().getRangeStart(size);
+            length = range.get().getRangeEnd(size) - start + 1;
+            response.setStatus(PARTIAL_CONTENT.value());
+            response.setHeader(CONTENT_RANGE, "bytes " + start + "-" + (start + length - 1) + "/" + size);
+        }
+        response.setContentType(image.getContentType());
+        response.setContentLengthLong(length);
+        if (HEAD.matches(request.getMethod())) {
+            return;
+        }
+
+        if (cached.isPresent()) {
+            response.getOutputStream().write(cached.get().getBytes(), (int) start, (int) length);
+            return;
+        }
+        if (hotObjectCache.admit(image)) {
+            byte[] bytes = read(key);
+            hotObjectCache.put(image, bytes);
+            response.getOutputStream().write(bytes, (int) start, (int) length);
+            return;
+        }
+        Optional<Path> path = objectStorage.localPath(key);
+        if (path.isPresent() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.get().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        objectStorage.transferTo(key, start, length, Channels.newChannel(response.getOutputStream()));
+    }
+
+    // 파일 크기, 수정 시각 기반 strong ETag - 같은 key 는 다시 쓰이지 않으므로 서버 간에도 같은 값
+    private String etag(StoredObject image) {
+        return "\"" + Long.toHexString(image.getLastModified().toEpochMilli()) + "-"
+                + Long.toHexString(image.getSize()) + "\"";
+    }
+
+    /* 단일 Range 만 반환, 범위가 잘못되었거나 만족할 수 없으면 IllegalArgumentException
+     * If-Range 가 현재 ETag 와 다르면 Range 를 무시하고 전체를 보낸다
+     */
+    private Optional<HttpRange> range(HttpServletRequest request, String etag, long size) {
+        String header = request.getHeader(RANGE);
+        String ifRange = request.getHeader(IF_RANGE);
+        if (header == null || (ifRange != null && !ifRange.equals(etag))) {
+            return Optional.empty();
+        }
+        List<HttpRange> ranges = HttpRange.parseRanges(header);
+        if (ranges.size() != 1) {
+            return Optional.empty();
+        }
+        HttpRange range = ranges.get(0);
+        if (range.getRangeEnd(size) < range.getRangeStart(size)) {
+            throw new IllegalArgumentException("unsatisfiable range: " + header);
+        }
+        return Optional.of(range);
+    }
+
+    private byte[] read(String key) throws IOException {
+        ByteBuffer buffer = objectStorage.read(key);
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
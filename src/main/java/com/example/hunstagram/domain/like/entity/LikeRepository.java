@@ -1,23 +1,25 @@
 package com.example.hunstagram.domain.like.entity;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
-import java.util.Optional;
-
 /**
  * @author : Hunseong-Park
  * @date : 2022-11-08
  */
 public interface LikeRepository extends JpaRepository<Like, Long> {
 
-    @Query("select l from Like l " +
+    // 좋아요 취소 - (user_id, post_id) unique 인덱스로 조회 없이 바로 삭제
+    @Modifying
+    @Query("delete from Like l " +
             "where l.post.id = :postId " +
             "and l.user.id = :userId")
-    Optional<Like> findByPostAndUserId(Long postId, Long userId);
+    int deleteByPostAndUserId(Long postId, Long userId);
 
-    @Query("select l from Like l " +
+    @Modifying
+    @Query("delete from Like l " +
             "where l.comment.id = :commentId " +
             "and l.user.id = :userId")
-    Optional<Like> findByCommentAndUserId(Long commentId, Long userId);
+    int deleteByCommentAndUserId(Long commentId, Long userId);
 }
@@ -0,0 +1,145 @@
+package com.example.hunstagram.domain.like.service;
+
+import com.example.hunstagram.domain.comment.entity.CommentRepository;
+import com.example.hunstagram.domain.post.entity.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * 좋아요 카운트 write-behind 버퍼
+ * 좋아요 여부(likes row)는 요청 트랜잭션에서 바로 반영하고,
+ * 게시글/댓글의 like_count 증감만 메모리에 모아 주기적으로 한 번에 반영한다.
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LikeCountBuffer {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Long, Delta> postDeltas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Delta> commentDeltas = new ConcurrentHashMap<>();
+
+    public void addPostLike(Long postId, long delta) {
+        afterCommit(() -> add(postDeltas, postId, delta));
+    }
+
+    public void addCommentLike(Long commentId, long delta) {
+        afterCommit(() -> add(commentDeltas, commentId, delta));
+    }
+
+    // 스케줄러와 종료 시 flush 가 같은 증감을 두 번 반영하지 않도록 flush 끼리만 직렬화 (add 는 잠그지 않음)
+    @Scheduled(fixedDelayString = "${hunstagram.like.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        flush(postDeltas, postRepository::addLikeCount);
+        flush(commentDeltas, commentRepository::addLikeCount);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flush(ConcurrentHashMap<Long, Delta> deltas, BiConsumer<Long, Long> addLikeCount) {
+        // id 순으로 정렬해서 반영 (동시 flush 간 row lock 순서 고정)
+        Map<Long, Long> drained = new TreeMap<>();
+        deltas.forEach((id, current) -> {
+            long delta = current.sum.sum();
+            if (delta != 0) {
+                // reset 대신 읽은 만큼만 빼서 sum 이후 들어온 증감은 다음 flush 로 넘긴다
+                current.sum.add(-delta);
+                drained.put(id, delta);
+            } else if (current.retire()) {
+                // 남은 증감이 없는 유휴 항목 정리
+                deltas.remove(id, current);
+            }
+        });
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> drained.forEach(addLikeCount));
+        } catch (RuntimeException e) {
+            // 반영 실패 시 다음 flush 에서 재시도
+            log.error("like count flush failed. size={}", drained.size(), e);
+            drained.forEach((id, delta) -> add(deltas, id, delta));
+        }
+    }
+
+    // 잠금 없이 LongAdder 에 더하고, flush 가 제거 중인 항목이면 새 항목(또는 제거가 취소된 같은 항목)에 다시 시도한다
+    private void add(ConcurrentHashMap<Long, Delta> deltas, Long id, long delta) {
+        while (true) {
+            Delta current = deltas.get(id);
+            if (current == null) {
+                current = deltas.computeIfAbsent(id, k -> new Delta());
+            }
+            if (current.add(delta)) {
+                return;
+            }
+        }
+    }
+
+    // 좋아요 트랜잭션이 롤백되면 카운트도 반영하지 않는다
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /* 게시글/댓글 하나의 증감
+     * retired : flush 가 유휴 항목으로 제거하려고 표시 - add 는 들어가면서 표시를 확인하고, 표시되어 있으면 더하지 않고 재시도
+     * entered / exited : 진행 중인 add 수 (증가만 하는 두 카운터의 차이) - 표시 후 진행 중인 add 가 없고 남은 증감이 0 이면 버려도 유실이 없다
+     */
+    private static final class Delta {
+        private final LongAdder sum = new LongAdder();
+        private final LongAdder entered = new LongAdder();
+        private final LongAdder exited = new LongAdder();
+        private volatile boolean retired;
+
+        boolean add(long delta) {
+            entered.increment();
+            boolean live = !retired;
+            if (live) {
+                sum.add(delta);
+            }
+            exited.increment();
+            return live;
+        }
+
+        // flush 에서만 호출 - exited 를 먼저 읽어야 두 값이 같을 때 진행 중인 add 가 없다고 볼 수 있다
+        boolean retire() {
+            retired = true;
+            long exitedCount = exited.sum();
+            if (entered.sum() == exitedCount && sum.sum() == 0) {
+                return true;
+            }
+            retired = false;
+            return false;
+        }
+    }
+}
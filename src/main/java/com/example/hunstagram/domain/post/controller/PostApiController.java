@@ -21,12 +21,10 @@ public class PostApiController {
 
     private final PostService postService;
 
-    // TODO 특정 게시글 조회
-//    @GetMapping("/{postId}")
-//    public ResponseEntity<Void> getPost(@PathVariable Long postId) {
-//        postService.updatePost(requestDto, postId);
-//        return ResponseEntity.ok().build();
-//    }
+    @GetMapping("/{postId}")
+    public ResponseEntity<PostDto.PostResponse> getPost(@PathVariable Long postId) {
+        return ResponseEntity.ok(postService.getPost(postId));
+    }
 
     @PostMapping
     public ResponseEntity<Void> createPost(
@@ -3,6 +3,7 @@ package com.example.hunstagram.domain.post.dto;
 import com.example.hunstagram.domain.comment.dto.CommentDto;
 import com.example.hunstagram.domain.hashtag.dto.HashtagDto;
 import com.example.hunstagram.domain.post.entity.Post;
+import com.example.hunstagram.global.id.JsonStringId;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,8 +28,9 @@ public class PostDto {
     }
 
     @Getter
-    @AllArgsConstructor(access = PRIVATE)
+    @AllArgsConstructor
     public static class PostThumbnailResponse {
+        @JsonStringId
         private Long postId;
         private String imagePath;
 
@@ -38,7 +40,10 @@ public class PostDto {
     }
 
     @Getter
+    @Builder
+    @AllArgsConstructor(access = PRIVATE)
     public static class PostResponse {
+        @JsonStringId
         private Long postId;
         private Long writerId;
         private String writerNickname;
@@ -49,5 +54,23 @@ public class PostDto {
         private Long likeCount;
         private Long commentCount;
         private LocalDateTime createdAt;
+
+        public static PostResponse of(Post post,
+                                      List<String> images,
+                                      List<HashtagDto.Response> hashtags,
+                                      List<CommentDto.Response> comments) {
+            return PostResponse.builder()
+                    .postId(post.getId())
+                    .writerId(post.getUser().getId())
+                    .writerNickname(post.getUser().getNickname())
+                    .content(post.getContent())
+                    .images(images)
+                    .hashtags(hashtags)
+                    .comments(comments)
+                    .likeCount(post.getLikeCount())
+                    .commentCount(post.getCommentCount())
+                    .createdAt(post.getCreatedAt())
+                    .build();
+        }
     }
 }
\ No newline at end of file
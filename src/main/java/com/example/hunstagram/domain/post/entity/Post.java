@@ -9,14 +9,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 
+import java.util.Collection;
 import java.util.List;
 
 import static javax.persistence.CascadeType.ALL;
 import static javax.persistence.FetchType.LAZY;
-import static javax.persistence.GenerationType.IDENTITY;
 import static lombok.AccessLevel.PRIVATE;
 import static lombok.AccessLevel.PROTECTED;
 
@@ -28,11 +29,13 @@ import static lombok.AccessLevel.PROTECTED;
 @Builder
 @AllArgsConstructor(access = PRIVATE)
 @NoArgsConstructor(access = PROTECTED)
+@Table(indexes = @Index(name = "idx_post_user_id", columnList = "user_id, post_id"))
 @Entity
 public class Post extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(generator = "snowflake")
+    @GenericGenerator(name = "snowflake", strategy = "com.example.hunstagram.global.id.SnowflakeIdentifierGenerator")
     @Column(name = "post_id")
     private Long id;
 
@@ -40,12 +43,23 @@ public class Post extends BaseTimeEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // 첫 번째 이미지의 변형 이미지 url (그리드 - 썸네일, 피드 - 중간 크기)
     @Column(name = "thumbnail_image", nullable = false)
     private String thumbnailImage;
 
+    @Column(name = "medium_image")
+    private String mediumImage;
+
     @Column(name = "content")
     private String content;
 
+    // 반정규화 카운트 - 좋아요, 댓글 작성/삭제 시 PostRepository의 bulk update로만 갱신
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private long likeCount;
+
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private long commentCount;
+
     @OneToMany(fetch = LAZY, mappedBy = "post", cascade = ALL)
     private List<Hashtag> hashtags;
 
@@ -54,9 +68,11 @@ public class Post extends BaseTimeEntity {
 
     public void update(PostDto.Request requestDto) {
         this.content = requestDto.getContent();
-        this.hashtags = requestDto.getHashtags()
-                .stream()
-                .map(h-> new Hashtag(h, this))
-                .toList();
+    }
+
+    // 삭제/추가된 해시태그만 컬렉션에 반영 (row 반영은 PostService 에서 bulk delete, saveAll 로 처리)
+    public void updateHashtags(Collection<Hashtag> removed, List<Hashtag> added) {
+        this.hashtags.removeAll(removed);
+        this.hashtags.addAll(added);
     }
 }
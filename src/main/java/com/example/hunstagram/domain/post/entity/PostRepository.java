@@ -1,6 +1,10 @@
 package com.example.hunstagram.domain.post.entity;
 
+import com.example.hunstagram.domain.feed.dto.FeedDto;
+import com.example.hunstagram.domain.post.dto.PostDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
@@ -11,6 +15,11 @@ import java.util.Optional;
  * @date : 2022-11-08
  */
 public interface PostRepository extends JpaRepository<Post, Long> {
+    @Query("select p from Post p " +
+            "join fetch p.user u " +
+            "where p.id = :postId")
+    Optional<Post> findByIdWithUser(Long postId);
+
     @Query("select p from Post p " +
             "left join fetch p.hashtags h " +
             "join fetch p.user u " +
@@ -23,5 +32,49 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "where p.id = :postId")
     Optional<Post> findByIdWithImageAndUser(Long postId);
 
-    List<Post> findAllByUserId(Long userId);
+    // 프로필 썸네일 그리드 - (post_id, thumbnail_image) 만 커서 기반으로 조회
+    @Query("select new com.example.hunstagram.domain.post.dto.PostDto$PostThumbnailResponse(p.id, p.thumbnailImage) " +
+            "from Post p " +
+            "where p.user.id = :userId " +
+            "and p.id < :cursorId " +
+            "order by p.id desc")
+    List<PostDto.PostThumbnailResponse> findThumbnailsByUserIdAndCursor(Long userId, Long cursorId, Pageable pageable);
+
+    // 타임라인 초기 구성 - 본인과 팔로우 중인 사용자의 최신 게시글 id
+    @Query("select p.id from Post p " +
+            "where p.user.id = :userId " +
+            "or p.user.id in (select f.toUser.id from Follow f where f.fromUser.id = :userId) " +
+            "order by p.id desc")
+    List<Long> findTimelinePostIds(Long userId, Pageable pageable);
+
+    // 작성자별 최근 게시글 캐시 구성
+    @Query("select p.id from Post p where p.user.id = :userId order by p.id desc")
+    List<Long> findPostIdsByUserId(Long userId, Pageable pageable);
+
+    @Query("select new com.example.hunstagram.domain.feed.dto.FeedDto$Response(" +
+            "p.id, u.id, u.nickname, u.profileImage, coalesce(p.mediumImage, p.thumbnailImage), p.content, " +
+            "p.likeCount, p.commentCount, p.createdAt) " +
+            "from Post p " +
+            "join p.user u " +
+            "where p.id in :postIds")
+    List<FeedDto.Response> findFeedPosts(List<Long> postIds);
+
+    @Modifying
+    @Query("update Post p set p.likeCount = p.likeCount + :delta where p.id = :postId")
+    void addLikeCount(Long postId, long delta);
+
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :delta where p.id = :postId")
+    void addCommentCount(Long postId, long delta);
+
+    @Query("select p.id from Post p where p.id > :lastId order by p.id")
+    List<Long> findIdsAfter(Long lastId, Pageable pageable);
+
+    // 카운트 보정
+    @Modifying
+    @Query("update Post p set " +
+            "p.likeCount = (select count(l) from Like l where l.post.id = p.id), " +
+            "p.commentCount = (select count(c) from Comment c where c.post.id = p.id) " +
+            "where p.id in :postIds")
+    int reconcileCounts(List<Long> postIds);
 }
@@ -0,0 +1,17 @@
+package com.example.hunstagram.domain.post.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 등록 커밋 후 피드 fan-out 등에 사용
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostCreatedEvent {
+    private final Long postId;
+    private final Long userId;
+}
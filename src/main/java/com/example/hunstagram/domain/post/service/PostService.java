@@ -1,30 +1,48 @@
 package com.example.hunstagram.domain.post.service;
 
+import com.example.hunstagram.domain.comment.dto.CommentDto;
+import com.example.hunstagram.domain.comment.entity.CommentRepository;
+import com.example.hunstagram.domain.hashtag.dto.HashtagDto;
 import com.example.hunstagram.domain.hashtag.entity.Hashtag;
 import com.example.hunstagram.domain.hashtag.entity.HashtagRepository;
+import com.example.hunstagram.domain.hashtag.entity.Tag;
+import com.example.hunstagram.domain.hashtag.service.HashtagService;
+import com.example.hunstagram.domain.hashtag.store.TrendingHashtagStore;
 import com.example.hunstagram.domain.like.dto.LikeDto;
 import com.example.hunstagram.domain.like.entity.Like;
 import com.example.hunstagram.domain.like.entity.LikeRepository;
+import com.example.hunstagram.domain.like.service.LikeCountBuffer;
 import com.example.hunstagram.domain.post.dto.PostDto;
 import com.example.hunstagram.domain.post.entity.Post;
 import com.example.hunstagram.domain.post.entity.PostRepository;
+import com.example.hunstagram.domain.post.event.PostCreatedEvent;
 import com.example.hunstagram.domain.postimage.entity.PostImage;
 import com.example.hunstagram.domain.postimage.entity.PostImageRepository;
 import com.example.hunstagram.domain.user.entity.User;
 import com.example.hunstagram.domain.user.entity.UserRepository;
 import com.example.hunstagram.global.aws.service.AwsS3Service;
+import com.example.hunstagram.global.aws.service.StoredImageService;
+import com.example.hunstagram.global.dto.UploadedImage;
 import com.example.hunstagram.global.exception.CustomException;
 import com.example.hunstagram.global.security.service.JwtService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.example.hunstagram.global.exception.CustomErrorCode.*;
+import static org.springframework.transaction.annotation.Propagation.SUPPORTS;
 
 /**
  * @author : Hunseong-Park
@@ -40,9 +58,37 @@ public class PostService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final HashtagRepository hashtagRepository;
+    private final HashtagService hashtagService;
+    private final TrendingHashtagStore trendingHashtagStore;
     private final PostImageRepository postImageRepository;
     private final LikeRepository likeRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LikeCountBuffer likeCountBuffer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StoredImageService storedImageService;
 
+    private static final int POST_COMMENT_PAGE_SIZE = 20;
+
+    /* 게시글 상세 조회 - 게시글 수와 무관하게 쿼리 4번으로 고정
+     * (게시글+작성자, 이미지, 해시태그, 댓글 첫 페이지 / 카운트는 반정규화 컬럼 사용)
+     */
+    @Transactional(readOnly = true)
+    public PostDto.PostResponse getPost(Long postId) {
+        Post post = postRepository.findByIdWithUser(postId)
+                .orElseThrow(() -> new CustomException(POST_NOT_FOUND));
+        List<String> images = postImageRepository.findImageUrlsByPostId(postId);
+        List<HashtagDto.Response> hashtags = hashtagRepository.findResponsesByPostId(postId);
+        List<CommentDto.Response> comments =
+                commentRepository.findResponsesByPostId(postId, PageRequest.ofSize(POST_COMMENT_PAGE_SIZE));
+        return PostDto.PostResponse.of(post, images, hashtags, comments);
+    }
+
+    /* 이미지 업로드 중에는 DB 커넥션을 점유하지 않도록
+     * 모든 이미지의 병렬 업로드가 끝난 뒤에 트랜잭션을 시작한다
+     * 새 태그도 트랜잭션을 시작하기 전에 등록한다 (트랜잭션 안에서 별도 트랜잭션을 열면 커넥션을 하나 더 점유)
+     */
+    @Transactional(propagation = SUPPORTS)
     public void createPost(PostDto.Request requestDto, List<MultipartFile> images) {
         if (images == null || images.isEmpty()) {
             throw new CustomException(IMAGE_NOT_EXIST);
@@ -50,41 +96,112 @@ public class PostService {
 
         User user = userRepository.findById(jwtService.getId())
                 .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
-        List<String> imagePaths = images.stream().map(awsS3Service::uploadImage).toList();
+        if (requestDto != null) {
+            hashtagService.registerTags(requestDto.getHashtags());
+        }
+        List<UploadedImage> uploadedImages = awsS3Service.uploadImages(images);
 
-        // Post 저장
+        try {
+            transactionTemplate.executeWithoutResult(status -> savePost(requestDto, user, uploadedImages));
+        } catch (RuntimeException e) {
+            // DB 저장 실패 시 업로드 된 이미지 참조 해제 (다른 게시글과 공유하지 않는 이미지만 삭제)
+            storedImageService.release(uploadedImages);
+            throw e;
+        }
+        // 커밋된 게시글의 해시태그만 인기 해시태그 집계에 반영
+        if (requestDto != null) {
+            trendingHashtagStore.record(requestDto.getHashtags());
+        }
+    }
+
+    private void savePost(PostDto.Request requestDto, User user, List<UploadedImage> images) {
+        // Post 저장 - 그리드/피드에는 첫 번째 이미지의 변형 이미지를 사용
+        UploadedImage firstImage = images.get(0);
         Post post = Post.builder()
                 .user(user)
                 .content(
                         (requestDto == null || requestDto.getContent() == null) ? null : requestDto.getContent()
                 )
-                .thumbnailImage(imagePaths.get(0))
+                .thumbnailImage(firstImage.getThumbnailUrl())
+                .mediumImage(firstImage.getMediumUrl())
                 .build();
         postRepository.save(post);
+        userRepository.addPostCount(user.getId(), 1);
+        // 커밋 후 팔로워 타임라인 fan-out
+        eventPublisher.publishEvent(new PostCreatedEvent(post.getId(), user.getId()));
 
         // 연관된 Hashtag 저장
         if (requestDto != null && requestDto.getHashtags() != null) {
             List<Hashtag> hashtags = requestDto.getHashtags()
                     .stream().map(h -> new Hashtag(h, post)).toList();
             hashtagRepository.saveAll(hashtags);
+            hashtagService.index(post, requestDto.getHashtags());
         }
 
         // 연관된 PostImage 저장
-        List<PostImage> postImages = imagePaths.stream().map(i -> new PostImage(i, post)).toList();
+        List<PostImage> postImages = images.stream()
+                .map(i -> new PostImage(i.getImageUrl(), i.getThumbnailUrl(), i.getMediumUrl(), post))
+                .toList();
         postImageRepository.saveAll(postImages);
     }
 
+    // 새 태그는 수정 트랜잭션을 시작하기 전에 등록한다 (createPost 와 같은 이유)
+    @Transactional(propagation = SUPPORTS)
     public void updatePost(PostDto.Request requestDto, Long postId) {
-        Post post = postRepository.findByIdWithHashtagAndUser(postId)
-                .orElseThrow(() -> new CustomException(POST_NOT_FOUND));
-        Long userId = jwtService.getId();
+        hashtagService.registerTags(requestDto.getHashtags());
+        transactionTemplate.executeWithoutResult(status -> {
+            Post post = postRepository.findByIdWithHashtagAndUser(postId)
+                    .orElseThrow(() -> new CustomException(POST_NOT_FOUND));
+            Long userId = jwtService.getId();
 
-        // 로그인 한 사용자가 작성한 게시글인지 판단
-        if (!Objects.equals(post.getUser().getId(), userId)) {
-            throw new CustomException(NOT_USER_OWN_POST);
+            // 로그인 한 사용자가 작성한 게시글인지 판단
+            if (!Objects.equals(post.getUser().getId(), userId)) {
+                throw new CustomException(NOT_USER_OWN_POST);
+            }
+            post.update(requestDto);
+            if (requestDto.getHashtags() != null) {
+                updateHashtags(post, requestDto.getHashtags());
+            }
+        });
+    }
+
+    // 기존/요청 해시태그를 비교해서 삭제된 row 는 한 번에 지우고, 추가된 row 만 저장
+    private void updateHashtags(Post post, List<String> hashtags) {
+        List<Hashtag> current = List.copyOf(post.getHashtags());
+        Set<String> requested = new LinkedHashSet<>(hashtags);
+        Set<String> existing = current.stream().map(Hashtag::getHashtag).collect(Collectors.toSet());
+
+        List<Hashtag> removed = current.stream().filter(h -> !requested.contains(h.getHashtag())).toList();
+        List<Hashtag> added = requested.stream()
+                .filter(h -> !existing.contains(h))
+                .map(h -> new Hashtag(h, post))
+                .toList();
+        if (!removed.isEmpty()) {
+            hashtagRepository.deleteAllByIdInBatch(removed.stream().map(Hashtag::getId).toList());
         }
-        hashtagRepository.deleteAll(post.getHashtags());
-        post.update(requestDto);
+        if (!added.isEmpty()) {
+            hashtagRepository.saveAll(added);
+        }
+        post.updateHashtags(removed, added);
+
+        // 역색인, 인기 해시태그는 정규화된 태그 기준으로 차이만 반영
+        Set<String> before = normalize(existing);
+        Set<String> after = normalize(requested);
+        Set<String> removedTags = new LinkedHashSet<>(before);
+        removedTags.removeAll(after);
+        Set<String> addedTags = new LinkedHashSet<>(after);
+        addedTags.removeAll(before);
+        hashtagService.unindex(post.getId(), removedTags);
+        hashtagService.index(post, addedTags);
+        // 수정 트랜잭션이 커밋된 후에 집계된다
+        trendingHashtagStore.record(addedTags);
+    }
+
+    private Set<String> normalize(Collection<String> hashtags) {
+        return hashtags.stream()
+                .map(Tag::normalize)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
     public void deletePost(Long postId) {
@@ -96,29 +213,49 @@ public class PostService {
         if (!Objects.equals(post.getUser().getId(), userId)) {
             throw new CustomException(NOT_USER_OWN_POST);
         }
-        post.getPostImages().forEach(i -> awsS3Service.deleteImage(i.getImageUrl()));
+        // 이미지 참조 해제 - 참조가 남지 않은 S3 이미지만 outbox 에 기록되고 커밋 후 ObjectDeletionScheduler 가 batch 로 삭제
+        storedImageService.release(post.getPostImages().stream()
+                .map(i -> new UploadedImage(i.getImageUrl(), i.getThumbnailUrl(), i.getMediumUrl()))
+                .toList());
+        hashtagService.unindex(postId);
         postRepository.delete(post);
+        userRepository.addPostCount(userId, -1);
     }
 
+    // 좋아요 토글 - 취소(삭제)와 추가(insert)를 각각 짧은 트랜잭션에서 실행 (insert 실패가 바깥 트랜잭션을 rollback-only 로 만들지 않도록)
+    @Transactional(propagation = SUPPORTS)
     public LikeDto.Response like(Long postId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new CustomException(POST_NOT_FOUND));
-        User user = userRepository.findById(jwtService.getId())
-                .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
-        Optional<Like> like = likeRepository.findByPostAndUserId(post.getId(), user.getId());
+        Long userId = jwtService.getId();
 
-        // 좋아요 취소
-        if (like.isPresent()) {
-            likeRepository.delete(like.get());
+        // 좋아요 취소 - 먼저 삭제를 시도하고 삭제된 row 가 없을 때만 추가 (조회 후 쓰기 경쟁 제거)
+        Boolean canceled = transactionTemplate.execute(status -> {
+            if (likeRepository.deleteByPostAndUserId(post.getId(), userId) == 0) {
+                return false;
+            }
+            likeCountBuffer.addPostLike(post.getId(), -1);
+            return true;
+        });
+        if (Boolean.TRUE.equals(canceled)) {
             return new LikeDto.Response(false);
-        } else {
-            // 좋아요 추가
-            Like newLike = Like.builder()
-                    .user(user)
-                    .post(post)
-                    .build();
-            likeRepository.save(newLike);
-            return new LikeDto.Response(true);
         }
+
+        // 좋아요 추가
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+        Like like = Like.builder()
+                .user(user)
+                .post(post)
+                .build();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                likeRepository.saveAndFlush(like);
+                likeCountBuffer.addPostLike(post.getId(), 1);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 같은 요청이 먼저 추가한 경우 - (user_id, post_id) unique 제약 위반, 이미 좋아요 상태이므로 같은 응답
+        }
+        return new LikeDto.Response(true);
     }
 }
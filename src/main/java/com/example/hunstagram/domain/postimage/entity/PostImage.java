@@ -8,7 +8,7 @@ import lombok.NoArgsConstructor;
 import javax.persistence.*;
 
 import static javax.persistence.FetchType.LAZY;
-import static javax.persistence.GenerationType.IDENTITY;
+import static javax.persistence.GenerationType.SEQUENCE;
 import static lombok.AccessLevel.PROTECTED;
 
 /**
@@ -21,7 +21,8 @@ import static lombok.AccessLevel.PROTECTED;
 public class PostImage extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = "post_image_seq")
+    @SequenceGenerator(name = "post_image_seq", sequenceName = "post_image_seq", allocationSize = 50)
     @Column(name = "post_image_id")
     private Long id;
 
@@ -32,8 +33,20 @@ public class PostImage extends BaseTimeEntity {
     @Column(name = "image_url", nullable = false)
     private String imageUrl;
 
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    @Column(name = "medium_url")
+    private String mediumUrl;
+
     public PostImage(String imageUrl, Post post) {
+        this(imageUrl, null, null, post);
+    }
+
+    public PostImage(String imageUrl, String thumbnailUrl, String mediumUrl, Post post) {
         this.imageUrl = imageUrl;
+        this.thumbnailUrl = thumbnailUrl;
+        this.mediumUrl = mediumUrl;
         this.post = post;
     }
 }
@@ -1,10 +1,18 @@
 package com.example.hunstagram.domain.postimage.entity;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 /**
  * @author : Hunseong-Park
  * @date : 2022-11-08
  */
 public interface PostImageRepository extends JpaRepository<PostImage, Long> {
+
+    @Query("select i.imageUrl from PostImage i " +
+            "where i.post.id = :postId " +
+            "order by i.id")
+    List<String> findImageUrlsByPostId(Long postId);
 }
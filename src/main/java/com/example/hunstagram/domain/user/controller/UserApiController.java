@@ -1,7 +1,9 @@
 package com.example.hunstagram.domain.user.controller;
 
+import com.example.hunstagram.domain.post.dto.PostDto;
 import com.example.hunstagram.domain.user.dto.UserDto;
 import com.example.hunstagram.domain.user.service.UserService;
+import com.example.hunstagram.global.dto.CursorResponse;
 import com.example.hunstagram.global.exception.CustomException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -76,4 +78,13 @@ public class UserApiController {
         }
         return ResponseEntity.ok(userService.getProfile(accessToken, userId));
     }
+
+    @GetMapping("/profile/{userId}/posts")
+    public ResponseEntity<CursorResponse<PostDto.PostThumbnailResponse>> getPostThumbnails(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(userService.getPostThumbnails(userId, cursor, size));
+    }
 }
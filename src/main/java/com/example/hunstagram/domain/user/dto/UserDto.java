@@ -2,6 +2,7 @@ package com.example.hunstagram.domain.user.dto;
 
 import com.example.hunstagram.domain.post.dto.PostDto;
 import com.example.hunstagram.domain.user.entity.User;
+import com.example.hunstagram.global.dto.CursorResponse;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,8 +12,6 @@ import javax.validation.constraints.Max;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Pattern;
 
-import java.util.List;
-
 import static lombok.AccessLevel.PRIVATE;
 
 /**
@@ -102,7 +101,7 @@ public class UserDto {
         private String postCount;
         private String followerCount;
         private String followingCount;
-        private List<PostDto.PostThumbnailResponse> postThumbnails;
+        private CursorResponse<PostDto.PostThumbnailResponse> postThumbnails;
     }
 
     @Getter
@@ -117,6 +116,6 @@ public class UserDto {
         private String followerCount;
         private String followingCount;
         private Boolean isFollow;
-        private List<PostDto.PostThumbnailResponse> postThumbnails;
+        private CursorResponse<PostDto.PostThumbnailResponse> postThumbnails;
     }
 }
@@ -8,7 +8,7 @@ import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
 
-import static javax.persistence.GenerationType.IDENTITY;
+import static javax.persistence.GenerationType.SEQUENCE;
 import static lombok.AccessLevel.PROTECTED;
 
 /**
@@ -24,7 +24,8 @@ import static lombok.AccessLevel.PROTECTED;
 public class User extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     @Column(name = "user_id")
     private Long id;
 
@@ -49,6 +50,16 @@ public class User extends BaseTimeEntity {
     @Column(name = "refresh_token")
     private String refreshToken;
 
+    // 반정규화 카운트 - 팔로우, 게시글 작성/삭제 시 UserRepository의 bulk update로만 갱신
+    // (updatable = false : 엔티티 dirty checking 시 stale 값으로 덮어쓰지 않도록)
+    @Column(name = "follower_count", nullable = false, updatable = false)
+    private long followerCount;
+
+    @Column(name = "following_count", nullable = false, updatable = false)
+    private long followingCount;
+
+    @Column(name = "post_count", nullable = false, updatable = false)
+    private long postCount;
 
     public void updateRefreshToken(String refreshToken) {
         this.refreshToken = refreshToken;
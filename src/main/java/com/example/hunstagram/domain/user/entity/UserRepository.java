@@ -1,7 +1,11 @@
 package com.example.hunstagram.domain.user.entity;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,4 +18,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByNickname(String nickname);
 
     Optional<User> findByEmail(String email);
+
+    @Modifying
+    @Query("update User u set u.followerCount = u.followerCount + :delta where u.id = :userId")
+    void addFollowerCount(Long userId, long delta);
+
+    @Modifying
+    @Query("update User u set u.followingCount = u.followingCount + :delta where u.id = :userId")
+    void addFollowingCount(Long userId, long delta);
+
+    @Modifying
+    @Query("update User u set u.postCount = u.postCount + :delta where u.id = :userId")
+    void addPostCount(Long userId, long delta);
+
+    @Query("select u.followerCount from User u where u.id = :userId")
+    Optional<Long> findFollowerCountById(Long userId);
+
+    @Query("select u.id from User u where u.id > :lastId order by u.id")
+    List<Long> findIdsAfter(Long lastId, Pageable pageable);
+
+    // 카운트 보정
+    @Modifying
+    @Query("update User u set " +
+            "u.followerCount = (select count(f) from Follow f where f.toUser.id = u.id), " +
+            "u.followingCount = (select count(f) from Follow f where f.fromUser.id = u.id), " +
+            "u.postCount = (select count(p) from Post p where p.user.id = u.id) " +
+            "where u.id in :userIds")
+    int reconcileCounts(List<Long> userIds);
 }
@@ -8,9 +8,12 @@ import com.example.hunstagram.domain.user.dto.UserDto;
 import com.example.hunstagram.domain.user.entity.User;
 import com.example.hunstagram.domain.user.entity.UserRepository;
 import com.example.hunstagram.global.aws.service.AwsS3Service;
+import com.example.hunstagram.global.dto.CursorResponse;
 import com.example.hunstagram.global.exception.CustomException;
 import com.example.hunstagram.global.security.service.JwtService;
+import com.example.hunstagram.global.util.CursorUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -107,23 +110,15 @@ public class UserService {
 
     public UserDto.MyProfileResponse getMyProfile() {
         User user = getUserFromJwtEmail();
-        List<PostDto.PostThumbnailResponse> postThumbnails =
-                postRepository.findAllByUserId(user.getId())
-                        .stream()
-                        .map(PostDto.PostThumbnailResponse::fromEntity).toList();
-
-        Integer follower = followRepository.countFolloweeByUserId(user.getId());
-        Integer following = followRepository.countFollowingByUserId(user.getId());
-
         return UserDto.MyProfileResponse.builder()
                 .userId(user.getId())
                 .name(user.getName())
                 .nickname(user.getNickname())
                 .profileImage(user.getProfileImage())
-                .postCount(countFormatting(postThumbnails.size()))
-                .followerCount(countFormatting(follower))
-                .followingCount(countFormatting(following))
-                .postThumbnails(postThumbnails)
+                .postCount(countFormatting(user.getPostCount()))
+                .followerCount(countFormatting(user.getFollowerCount()))
+                .followingCount(countFormatting(user.getFollowingCount()))
+                .postThumbnails(findPostThumbnails(user.getId(), null, null))
                 .build();
     }
 
@@ -140,35 +135,44 @@ public class UserService {
             loginUserId = decodedJWT.getClaim(CLAIM_ID).asLong();
         }
 
-        List<PostDto.PostThumbnailResponse> postThumbnails =
-                postRepository.findAllByUserId(userId)
-                        .stream()
-                        .map(PostDto.PostThumbnailResponse::fromEntity).toList();
-
-        Integer follower = followRepository.countFolloweeByUserId(userId);
-        Integer following = followRepository.countFollowingByUserId(userId);
-
         return UserDto.OtherProfileResponse.builder()
                 .userId(user.getId())
                 .name(user.getName())
                 .nickname(user.getNickname())
                 .profileImage(user.getProfileImage())
-                .postCount(countFormatting(postThumbnails.size()))
-                .followerCount(countFormatting(follower))
-                .followingCount(countFormatting(following))
-                .postThumbnails(postThumbnails)
+                .postCount(countFormatting(user.getPostCount()))
+                .followerCount(countFormatting(user.getFollowerCount()))
+                .followingCount(countFormatting(user.getFollowingCount()))
+                .postThumbnails(findPostThumbnails(user.getId(), null, null))
                 .isFollow(loginUserId != null && followRepository.isFollow(loginUserId, userId) == 1)
                 .build();
     }
 
+    // 프로필 그리드 다음 페이지 조회
+    @Transactional(readOnly = true)
+    public CursorResponse<PostDto.PostThumbnailResponse> getPostThumbnails(Long userId, String cursor, Integer size) {
+        if (!userRepository.existsById(userId)) {
+            throw new CustomException(USER_NOT_FOUND);
+        }
+        return findPostThumbnails(userId, cursor, size);
+    }
+
+    private CursorResponse<PostDto.PostThumbnailResponse> findPostThumbnails(Long userId, String cursor, Integer size) {
+        int pageSize = CursorUtils.pageSize(size);
+        Long cursorId = CursorUtils.decode(cursor);
+        List<PostDto.PostThumbnailResponse> thumbnails = postRepository.findThumbnailsByUserIdAndCursor(
+                userId, cursorId == null ? Long.MAX_VALUE : cursorId, PageRequest.ofSize(pageSize + 1));
+        return CursorResponse.of(thumbnails, pageSize, PostDto.PostThumbnailResponse::getPostId);
+    }
+
     private User getUserFromJwtEmail() {
         return userRepository.findByEmail(jwtService.getEmail())
                 .orElseThrow(() -> new CustomException(INVALID_TOKEN));
     }
 
-    private String countFormatting(Integer count) {
+    private String countFormatting(long count) {
         if (count < 1000) {
-            return count.toString();
+            return String.valueOf(count);
         } else if (count < 10000) {
             return String.format("%.2f", count / 1000.0) + "K";
         } else {
@@ -5,6 +5,7 @@ import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -15,6 +16,7 @@ import org.springframework.context.annotation.PropertySource;
  * @date : 2022-11-14
  */
 @Profile("!test")
+@ConditionalOnProperty(name = "hunstagram.storage.type", havingValue = "s3", matchIfMissing = true)
 @PropertySource("classpath:application-aws.yml")
 @Configuration
 public class AwsConfig {
@@ -0,0 +1,39 @@
+package com.example.hunstagram.global.aws.entity;
+
+import com.example.hunstagram.domain.BaseTimeEntity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+import static javax.persistence.GenerationType.SEQUENCE;
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * S3 이미지 삭제 outbox - 게시글 삭제 트랜잭션에서 함께 저장하고, 커밋된 row 만 ObjectDeletionScheduler 가 삭제한다
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Entity
+public class ObjectDeletion extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = SEQUENCE, generator = "object_deletion_seq")
+    @SequenceGenerator(name = "object_deletion_seq", sequenceName = "object_deletion_seq", allocationSize = 50)
+    @Column(name = "object_deletion_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String path;
+
+    // 삭제 실패 횟수 - 최대 횟수를 넘으면 더 이상 시도하지 않고 남겨둔다
+    @Column(nullable = false)
+    private int attempts;
+
+    public ObjectDeletion(String path) {
+        this.path = path;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.hunstagram.global.aws.entity;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public interface ObjectDeletionRepository extends JpaRepository<ObjectDeletion, Long> {
+
+    @Query("select d from ObjectDeletion d " +
+            "where d.attempts < :maxAttempts " +
+            "order by d.id")
+    List<ObjectDeletion> findPending(int maxAttempts, Pageable pageable);
+
+    @Modifying
+    @Query("update ObjectDeletion d set d.attempts = d.attempts + 1 where d.id in :ids")
+    int addAttempts(Collection<Long> ids);
+}
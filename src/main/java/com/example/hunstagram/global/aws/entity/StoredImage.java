@@ -0,0 +1,63 @@
+package com.example.hunstagram.global.aws.entity;
+
+import com.example.hunstagram.domain.BaseTimeEntity;
+import com.example.hunstagram.global.dto.UploadedImage;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+import static javax.persistence.GenerationType.SEQUENCE;
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 업로드 된 이미지의 내용 해시(SHA-256) -> S3 객체 index
+ * 같은 내용의 이미지는 객체를 새로 올리지 않고 참조 수만 늘려서 PostImage 간에 공유한다
+ * 참조 수가 0 이 되면 row 를 지우고 객체는 ObjectDeletion outbox 로 삭제 (다음 업로드는 새 key 로 저장)
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stored_image_hash", columnNames = "hash"),
+        @UniqueConstraint(name = "uk_stored_image_image_url", columnNames = "image_url")
+})
+@Entity
+public class StoredImage extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = SEQUENCE, generator = "stored_image_seq")
+    @SequenceGenerator(name = "stored_image_seq", sequenceName = "stored_image_seq", allocationSize = 50)
+    @Column(name = "stored_image_id")
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String hash;
+
+    @Column(name = "image_url", nullable = false)
+    private String imageUrl;
+
+    @Column(name = "thumbnail_url", nullable = false)
+    private String thumbnailUrl;
+
+    @Column(name = "medium_url", nullable = false)
+    private String mediumUrl;
+
+    // StoredImageRepository 의 bulk update 로만 갱신
+    @Column(name = "ref_count", nullable = false, updatable = false)
+    private long refCount;
+
+    public StoredImage(String hash, UploadedImage image) {
+        this.hash = hash;
+        this.imageUrl = image.getImageUrl();
+        this.thumbnailUrl = image.getThumbnailUrl();
+        this.mediumUrl = image.getMediumUrl();
+        this.refCount = 1;
+    }
+
+    public UploadedImage toUploadedImage() {
+        return new UploadedImage(imageUrl, thumbnailUrl, mediumUrl);
+    }
+}
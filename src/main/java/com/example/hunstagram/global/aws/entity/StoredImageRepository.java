@@ -0,0 +1,35 @@
+package com.example.hunstagram.global.aws.entity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public interface StoredImageRepository extends JpaRepository<StoredImage, Long> {
+
+    Optional<StoredImage> findByHash(String hash);
+
+    // 참조 수가 0 이 되어 삭제 예정인 이미지는 재사용하지 않는다
+    @Modifying
+    @Query("update StoredImage s set s.refCount = s.refCount + 1 " +
+            "where s.hash = :hash " +
+            "and s.refCount > 0")
+    int acquire(String hash);
+
+    @Modifying
+    @Query("update StoredImage s set s.refCount = s.refCount - :count where s.imageUrl = :imageUrl")
+    int release(String imageUrl, long count);
+
+    List<StoredImage> findAllByImageUrlIn(Collection<String> imageUrls);
+
+    // 참조 수 조건을 DB 에서 비교 - 같은 트랜잭션에서 이미 조회된 엔티티의 refCount 는 bulk update 이전 값일 수 있다
+    @Query("select s from StoredImage s where s.imageUrl in :imageUrls and s.refCount <= 0")
+    List<StoredImage> findUnreferenced(Collection<String> imageUrls);
+}
@@ -0,0 +1,145 @@
+package com.example.hunstagram.global.aws.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.example.hunstagram.global.exception.CustomException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+import static com.example.hunstagram.global.exception.CustomErrorCode.IMAGE_UPLOAD_FAILED;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Slf4j
+@ConditionalOnProperty(name = "hunstagram.storage.type", havingValue = "s3", matchIfMissing = true)
+@Component
+public class AwsS3MultipartUploader {
+
+    // S3 multipart upload의 최소 part 크기 (마지막 part 제외)
+    public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final AmazonS3 amazonS3;
+    private final Executor partUploadExecutor;
+    private final int partSize;
+
+    // 모든 업로드가 공유하는 part 버퍼 수 제한 -> 힙 사용량 최대 partSize * maxBufferedParts
+    private final Semaphore partBuffers;
+
+    public AwsS3MultipartUploader(
+            AmazonS3 amazonS3,
+            @Qualifier("s3PartUploadExecutor") Executor partUploadExecutor,
+            @Value("${cloud.aws.s3.multipart.part-size:5242880}") int partSize,
+            @Value("${cloud.aws.s3.multipart.max-buffered-parts:16}") int maxBufferedParts
+    ) {
+        this.amazonS3 = amazonS3;
+        this.partUploadExecutor = partUploadExecutor;
+        this.partSize = Math.max(partSize, MIN_PART_SIZE);
+        this.partBuffers = new Semaphore(maxBufferedParts);
+    }
+
+    /* InputStream을 partSize 단위로 읽어 part 별로 병렬 업로드한다
+     * 전체 파일을 메모리나 임시 파일로 복사하지 않고, 버퍼를 확보한 만큼만 읽어서 전송
+     */
+    public void upload(String bucket, String key, InputStream inputStream, String contentType) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+        String uploadId = amazonS3.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucket, key, objectMetadata)
+                        .withCannedACL(CannedAccessControlList.PublicRead)
+        ).getUploadId();
+
+        List<CompletableFuture<PartETag>> futures = new ArrayList<>();
+        try (InputStream in = inputStream) {
+            int partNumber = 1;
+            boolean hasNext = true;
+            while (hasNext && futures.stream().noneMatch(CompletableFuture::isCompletedExceptionally)) {
+                partBuffers.acquire();
+                byte[] buffer;
+                int read;
+                try {
+                    buffer = new byte[partSize];
+                    read = in.readNBytes(buffer, 0, partSize);
+                } catch (IOException | RuntimeException e) {
+                    partBuffers.release();
+                    throw e;
+                }
+                hasNext = read == partSize;
+
+                // 파일 크기가 partSize의 배수인 경우 마지막 빈 part는 전송하지 않음
+                if (read == 0 && partNumber > 1) {
+                    partBuffers.release();
+                    break;
+                }
+                futures.add(uploadPart(bucket, key, uploadId, partNumber++, buffer, read));
+            }
+
+            List<PartETag> partETags = futures.stream().map(CompletableFuture::join).toList();
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(bucket, key, uploadId, futures);
+            throw new CustomException(IMAGE_UPLOAD_FAILED, e);
+        } catch (IOException | CompletionException e) {
+            abort(bucket, key, uploadId, futures);
+            throw new CustomException(IMAGE_UPLOAD_FAILED, e);
+        } catch (RuntimeException e) {
+            abort(bucket, key, uploadId, futures);
+            throw e;
+        }
+    }
+
+    private CompletableFuture<PartETag> uploadPart(
+            String bucket, String key, String uploadId, int partNumber, byte[] buffer, int length
+    ) {
+        UploadPartRequest request = new UploadPartRequest()
+                .withBucketName(bucket)
+                .withKey(key)
+                .withUploadId(uploadId)
+                .withPartNumber(partNumber)
+                .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                .withPartSize(length);
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return amazonS3.uploadPart(request).getPartETag();
+                } finally {
+                    partBuffers.release();
+                }
+            }, partUploadExecutor);
+        } catch (RuntimeException e) {
+            partBuffers.release();
+            throw e;
+        }
+    }
+
+    private void abort(String bucket, String key, String uploadId, List<CompletableFuture<PartETag>> futures) {
+        // 진행 중인 part 업로드가 끝난 뒤에 abort 해야 part가 남지 않는다
+        futures.forEach(f -> f.handle((etag, e) -> null).join());
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        } catch (RuntimeException e) {
+            log.error("[AwsS3MultipartUploader] abort failed. key: {} | uploadId: {}", key, uploadId, e);
+        }
+    }
+}
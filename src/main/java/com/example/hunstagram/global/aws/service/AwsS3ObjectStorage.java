@@ -0,0 +1,150 @@
+package com.example.hunstagram.global.aws.service;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.example.hunstagram.global.exception.CustomException;
+import com.example.hunstagram.global.storage.ObjectStorage;
+import com.example.hunstagram.global.storage.StoredObject;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.hunstagram.global.exception.CustomErrorCode.IMAGE_DELETE_FAILED;
+
+/**
+ * S3 객체 저장소 (기본값)
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@ConditionalOnProperty(name = "hunstagram.storage.type", havingValue = "s3", matchIfMissing = true)
+@RequiredArgsConstructor
+@Component
+public class AwsS3ObjectStorage implements ObjectStorage {
+
+    // S3 DeleteObjects 요청 1번에 담을 수 있는 최대 key 수
+    private static final int MAX_DELETE_KEYS = 1000;
+
+    private final AmazonS3 amazonS3;
+
+    private final AwsS3MultipartUploader multipartUploader;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    // 해당 크기 이상의 이미지는 multipart upload로 스트리밍 업로드
+    @Value("${cloud.aws.s3.multipart.threshold:8388608}")
+    private long multipartThreshold;
+
+    // 지정하면 S3 url 대신 {base-url}/{key} 를 반환 (CDN -> 이미지 서빙 API 로 제공)
+    @Value("${hunstagram.storage.s3.base-url:}")
+    private String baseUrl;
+
+    @Override
+    public String put(String key, InputStream in, long size, String contentType) {
+        if (size >= multipartThreshold) {
+            multipartUploader.upload(bucket, key, in, contentType);
+            return url(key);
+        }
+
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+        objectMetadata.setContentLength(size);
+        amazonS3.putObject(
+                new PutObjectRequest(bucket, key, in, objectMetadata)
+                        .withCannedAcl(CannedAccessControlList.PublicRead)
+        );
+        return url(key);
+    }
+
+    private String url(String key) {
+        if (baseUrl.isEmpty()) {
+            return amazonS3.getUrl(bucket, key).toString();
+        }
+        return baseUrl + "/" + key;
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            amazonS3.deleteObject(bucket, key);
+        } catch (AmazonServiceException e) {
+            throw new CustomException(IMAGE_DELETE_FAILED, e);
+        }
+    }
+
+    // DeleteObjects 로 최대 1000개씩 묶어서 삭제
+    @Override
+    public List<String> deleteAll(List<String> keys) {
+        List<DeleteObjectsRequest.KeyVersion> keyVersions = keys.stream()
+                .distinct()
+                .map(DeleteObjectsRequest.KeyVersion::new)
+                .toList();
+
+        List<String> failed = new ArrayList<>();
+        for (int from = 0; from < keyVersions.size(); from += MAX_DELETE_KEYS) {
+            DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+                    .withKeys(keyVersions.subList(from, Math.min(from + MAX_DELETE_KEYS, keyVersions.size())))
+                    .withQuiet(true);
+            try {
+                amazonS3.deleteObjects(request);
+            } catch (MultiObjectDeleteException e) {
+                // quiet 모드 - 실패한 key 만 응답에 포함된다
+                e.getErrors().forEach(error -> failed.add(error.getKey()));
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) {
+        try {
+            ObjectMetadata metadata = amazonS3.getObjectMetadata(bucket, key);
+            return Optional.of(new StoredObject(
+                    key, metadata.getContentLength(), metadata.getContentType(), metadata.getLastModified().toInstant()));
+        } catch (AmazonServiceException e) {
+            if (e.getStatusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    // S3 는 zero-copy 전송이 불가능하므로 range GET 응답을 그대로 흘려보낸다
+    @Override
+    public long transferTo(String key, long position, long count, WritableByteChannel target) throws IOException {
+        if (count <= 0) {
+            return 0;
+        }
+        GetObjectRequest request = new GetObjectRequest(bucket, key).withRange(position, position + count - 1);
+        try (S3Object object = amazonS3.getObject(request);
+             InputStream in = object.getObjectContent()) {
+            return in.transferTo(Channels.newOutputStream(target));
+        }
+    }
+
+    @Override
+    public ByteBuffer read(String key) throws IOException {
+        try (S3Object object = amazonS3.getObject(bucket, key);
+             InputStream in = object.getObjectContent()) {
+            return ByteBuffer.wrap(in.readAllBytes()).asReadOnlyBuffer();
+        }
+    }
+}
@@ -1,65 +1,265 @@
 package com.example.hunstagram.global.aws.service;
 
-import com.amazonaws.AmazonServiceException;
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.example.hunstagram.global.dto.UploadedImage;
 import com.example.hunstagram.global.exception.CustomException;
+import com.example.hunstagram.global.image.ImageProcessor;
+import com.example.hunstagram.global.storage.HotObjectCache;
+import com.example.hunstagram.global.storage.ObjectStorage;
+import com.example.hunstagram.global.type.ImageVariantType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
-import static com.example.hunstagram.global.exception.CustomErrorCode.IMAGE_DELETE_FAILED;
+import static com.example.hunstagram.global.exception.CustomErrorCode.IMAGE_PROCESSING_BUSY;
 import static com.example.hunstagram.global.exception.CustomErrorCode.IMAGE_UPLOAD_FAILED;
+import static com.example.hunstagram.global.type.ImageVariantType.MEDIUM;
+import static com.example.hunstagram.global.type.ImageVariantType.THUMBNAIL;
 
 /**
  * @author : Hunseong-Park
  * @date : 2022-11-15
  */
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class AwsS3Service {
 
-    private final AmazonS3 amazonS3;
+    private final ObjectStorage objectStorage;
 
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    private final HotObjectCache hotObjectCache;
+
+    private final ImageProcessor imageProcessor;
+
+    private final StoredImageService storedImageService;
+
+    @Qualifier("imageProcessingExecutor")
+    private final Executor imageProcessingExecutor;
+
+    @Qualifier("imageUploadExecutor")
+    private final Executor imageUploadExecutor;
 
     public String uploadImage(MultipartFile file) {
+        return uploadImage(file, createFilename(file));
+    }
+
+    private String uploadImage(MultipartFile file, String filename) {
+        try (InputStream in = file.getInputStream()) {
+            return objectStorage.put(filename, in, file.getSize(), file.getContentType());
+        } catch (IOException e) {
+            throw new CustomException(IMAGE_UPLOAD_FAILED, e);
+        }
+    }
+
+    private String uploadImage(byte[] bytes, String filename, String contentType) {
+        return objectStorage.put(filename, bytes, contentType);
+    }
+
+    private String createFilename(MultipartFile file) {
+        String fileType = "." + file.getContentType().split("/")[1];
+        String randomNum = UUID.randomUUID().toString().substring(0, 6);
+        return System.currentTimeMillis() + randomNum + fileType;
+    }
+
+    /* 내용 해시 기반 이름 - 참조 수가 0 이 되어 삭제 대기 중인 객체와 겹치지 않도록 임의 값을 붙인다
+     * 같은 내용이 다시 올라오면 StoredImage 로 찾으므로 이름이 달라도 중복 저장되지 않는다
+     */
+    private String createFilename(MultipartFile file, String hash) {
+        String fileType = "." + file.getContentType().split("/")[1];
+        String randomNum = UUID.randomUUID().toString().substring(0, 6);
+        return hash + "_" + randomNum + fileType;
+    }
+
+    /* 여러 이미지를 imageProcessingExecutor 에서 해시 조회, 변형 이미지 생성 후 imageUploadExecutor 에서 병렬로 업로드한다
+     * 같은 내용의 이미지가 이미 저장되어 있으면 업로드 하지 않고 참조 수만 늘려서 재사용
+     * 하나라도 실패하면 이미 업로드(참조) 된 이미지의 참조를 해제한 뒤 예외를 던진다
+     * 이미지 처리 큐가 가득 차면 요청 스레드에서 디코딩하지 않고 IMAGE_PROCESSING_BUSY(503) 로 거절
+     * 반환되는 이미지의 순서는 files의 순서와 동일
+     */
+    public List<UploadedImage> uploadImages(List<MultipartFile> files) {
+        List<CompletableFuture<UploadedImage>> futures = new ArrayList<>(files.size());
         try {
-            String fileType = "." + file.getContentType().split("/")[1];
-            String randomNum = UUID.randomUUID().toString().substring(0, 6);
-            String filename = System.currentTimeMillis() + randomNum + fileType;
-
-            long size = file.getSize();
-
-            ObjectMetadata objectMetadata = new ObjectMetadata();
-            objectMetadata.setContentType(file.getContentType());
-            objectMetadata.setContentLength(size);
-            amazonS3.putObject(
-                    new PutObjectRequest(bucket, filename, file.getInputStream(), objectMetadata)
-                            .withCannedAcl(CannedAccessControlList.PublicRead)
-            );
-            return amazonS3.getUrl(bucket, filename).toString();
+            for (MultipartFile file : files) {
+                futures.add(CompletableFuture
+                        .supplyAsync(() -> prepareImage(file), imageProcessingExecutor)
+                        .thenApplyAsync(prepared -> uploadImage(file, prepared), imageUploadExecutor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (RejectedExecutionException e) {
+            releaseUploaded(futures);
+            throw new CustomException(IMAGE_PROCESSING_BUSY, e);
+        } catch (CompletionException e) {
+            releaseUploaded(futures);
+            if (e.getCause() instanceof CustomException customException) {
+                throw customException;
+            }
+            throw new CustomException(IMAGE_UPLOAD_FAILED, e);
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /* 이미 제출된 작업이 모두 끝난 뒤 성공한 업로드만 골라서 롤백
+     * 다른 게시글과 공유 중인 이미지는 참조 수만 줄어들고 삭제되지 않는다
+     */
+    private void releaseUploaded(List<CompletableFuture<UploadedImage>> futures) {
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+        List<UploadedImage> uploaded = futures.stream()
+                .filter(f -> !f.isCompletedExceptionally())
+                .map(CompletableFuture::join)
+                .toList();
+        if (!uploaded.isEmpty()) {
+            storedImageService.release(uploaded);
+        }
+    }
+
+    // 내용 해시로 이미 저장된 이미지를 찾고, 없을 때만 변형 이미지를 만든다
+    private PreparedImage prepareImage(MultipartFile file) {
+        String hash = hash(file);
+        Optional<UploadedImage> stored = storedImageService.acquire(hash);
+        if (stored.isPresent()) {
+            return new PreparedImage(hash, stored.get(), null);
+        }
+        return new PreparedImage(hash, null, processImage(file));
+    }
+
+    // 업로드 스트림을 버퍼 단위로 읽으면서 SHA-256 계산 (파일 전체를 메모리에 올리지 않는다)
+    private String hash(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new CustomException(IMAGE_UPLOAD_FAILED, e);
+        }
+    }
+
+    private Map<ImageVariantType, byte[]> processImage(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            return imageProcessor.process(in);
         } catch (IOException e) {
             throw new CustomException(IMAGE_UPLOAD_FAILED, e);
         }
     }
 
-    public void deleteImage(String path) {
+    private UploadedImage uploadImage(MultipartFile file, PreparedImage prepared) {
+        if (prepared.getStored() != null) {
+            return prepared.getStored();
+        }
+        UploadedImage uploaded = uploadImage(file, prepared.getHash(), prepared.getVariants());
         try {
-            List<String> splitList = Arrays.stream(path.split("/")).toList();
-            String fileName = splitList.get(splitList.size() - 1);
-            amazonS3.deleteObject(bucket, fileName);
-        } catch (AmazonServiceException e) {
-            throw new CustomException(IMAGE_DELETE_FAILED, e);
+            storedImageService.register(prepared.getHash(), uploaded);
+            return uploaded;
+        } catch (DataIntegrityViolationException e) {
+            // 같은 내용의 이미지가 동시에 등록된 경우 - 먼저 등록된 이미지를 사용하고 방금 올린 객체는 삭제
+            deleteImages(uploaded.urls());
+            return storedImageService.acquire(prepared.getHash())
+                    .orElseThrow(() -> new CustomException(IMAGE_UPLOAD_FAILED, e));
+        } catch (RuntimeException e) {
+            deleteImages(uploaded.urls());
+            throw e;
+        }
+    }
+
+    // 원본과 변형 이미지를 같은 이름으로 묶어서 업로드 - 일부만 업로드 되면 삭제 후 예외를 던진다
+    private UploadedImage uploadImage(MultipartFile file, String hash, Map<ImageVariantType, byte[]> variants) {
+        String filename = createFilename(file, hash);
+        List<String> uploaded = new ArrayList<>();
+        try {
+            String imageUrl = uploadImage(file, filename);
+            uploaded.add(imageUrl);
+            Map<ImageVariantType, String> variantUrls = new EnumMap<>(ImageVariantType.class);
+            variants.forEach((type, bytes) -> {
+                String url = uploadImage(bytes, variantFilename(filename, type), "image/jpeg");
+                uploaded.add(url);
+                variantUrls.put(type, url);
+            });
+            return new UploadedImage(
+                    imageUrl,
+                    variantUrls.getOrDefault(THUMBNAIL, imageUrl),
+                    variantUrls.getOrDefault(MEDIUM, imageUrl)
+            );
+        } catch (RuntimeException e) {
+            deleteImages(uploaded);
+            throw e;
+        }
+    }
+
+    // {hash}_a1b2c3.png -> {hash}_a1b2c3_thumb.jpg
+    private String variantFilename(String filename, ImageVariantType type) {
+        return filename.substring(0, filename.lastIndexOf('.')) + "_" + type.getSuffix() + ".jpg";
+    }
+
+    public void deleteImage(String path) {
+        String key = toKey(path);
+        objectStorage.delete(key);
+        hotObjectCache.invalidate(key);
+    }
+
+    /* 여러 이미지를 저장소에서 묶어서 삭제하고, 삭제에 실패한 path 를 반환한다
+     * 저장소 자체 장애로 요청이 실패하면 예외를 그대로 던진다
+     */
+    public List<String> deleteObjects(List<String> paths) {
+        Map<String, String> pathByKey = new LinkedHashMap<>();
+        paths.forEach(path -> pathByKey.put(toKey(path), path));
+        Set<String> failedKeys = new HashSet<>(objectStorage.deleteAll(new ArrayList<>(pathByKey.keySet())));
+        // 이 서버의 이미지 캐시에서도 제거 (다른 서버의 캐시는 사용되지 않으면 밀려난다)
+        pathByKey.keySet().stream()
+                .filter(key -> !failedKeys.contains(key))
+                .forEach(hotObjectCache::invalidate);
+        return failedKeys.stream()
+                .map(pathByKey::get)
+                .toList();
+    }
+
+    // 이미지 url 의 마지막 경로가 저장소 key
+    private String toKey(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    // 업로드 롤백용 삭제 - 일부 삭제에 실패하더라도 나머지 이미지는 계속 삭제한다
+    public void deleteImages(List<String> paths) {
+        for (String path : paths) {
+            try {
+                deleteImage(path);
+            } catch (RuntimeException e) {
+                log.error("[AwsS3Service] image rollback failed. path: {}", path, e);
+            }
         }
     }
+
+    @Getter
+    @AllArgsConstructor
+    private static class PreparedImage {
+        private String hash;
+        // 이미 저장된 같은 내용의 이미지 (없으면 null)
+        private UploadedImage stored;
+        private Map<ImageVariantType, byte[]> variants;
+    }
 }
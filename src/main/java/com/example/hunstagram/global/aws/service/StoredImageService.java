@@ -0,0 +1,74 @@
+package com.example.hunstagram.global.aws.service;
+
+import com.example.hunstagram.global.aws.entity.ObjectDeletion;
+import com.example.hunstagram.global.aws.entity.ObjectDeletionRepository;
+import com.example.hunstagram.global.aws.entity.StoredImage;
+import com.example.hunstagram.global.aws.entity.StoredImageRepository;
+import com.example.hunstagram.global.dto.UploadedImage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 내용 해시 기반 이미지 중복 제거 - StoredImage 참조 수 관리
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class StoredImageService {
+
+    private final StoredImageRepository storedImageRepository;
+    private final ObjectDeletionRepository objectDeletionRepository;
+
+    // 같은 내용의 이미지가 이미 저장되어 있으면 참조 수를 늘리고 반환
+    public Optional<UploadedImage> acquire(String hash) {
+        if (storedImageRepository.acquire(hash) == 0) {
+            return Optional.empty();
+        }
+        return storedImageRepository.findByHash(hash).map(StoredImage::toUploadedImage);
+    }
+
+    // 새로 업로드 한 이미지 등록 - 같은 해시가 먼저 등록되어 있으면 DataIntegrityViolationException
+    public void register(String hash, UploadedImage image) {
+        storedImageRepository.saveAndFlush(new StoredImage(hash, image));
+    }
+
+    /* 이미지 참조 해제 - 같은 이미지가 여러 번 포함되면 포함된 수만큼 해제한다
+     * 참조 수가 0 이 된 이미지와 해시 index 이전에 저장된 이미지는 삭제 outbox 에 기록
+     */
+    public void release(List<UploadedImage> images) {
+        if (images.isEmpty()) {
+            return;
+        }
+        Map<String, Long> counts = images.stream()
+                .collect(Collectors.groupingBy(UploadedImage::getImageUrl, LinkedHashMap::new, Collectors.counting()));
+        counts.forEach(storedImageRepository::release);
+
+        Set<String> stored = storedImageRepository.findAllByImageUrlIn(counts.keySet()).stream()
+                .map(StoredImage::getImageUrl)
+                .collect(Collectors.toSet());
+        List<StoredImage> unreferenced = storedImageRepository.findUnreferenced(counts.keySet());
+
+        Set<String> paths = new LinkedHashSet<>();
+        unreferenced.forEach(s -> paths.addAll(s.toUploadedImage().urls()));
+        images.stream()
+                .filter(i -> !stored.contains(i.getImageUrl()))
+                .forEach(i -> paths.addAll(i.urls()));
+
+        if (!unreferenced.isEmpty()) {
+            storedImageRepository.deleteAllInBatch(unreferenced);
+        }
+        objectDeletionRepository.saveAll(paths.stream().map(ObjectDeletion::new).toList());
+    }
+}
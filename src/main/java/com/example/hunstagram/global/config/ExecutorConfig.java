@@ -0,0 +1,96 @@
+package com.example.hunstagram.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${cloud.aws.s3.upload.parallelism:4}")
+    private int uploadParallelism;
+
+    @Value("${cloud.aws.s3.upload.queue-capacity:64}")
+    private int uploadQueueCapacity;
+
+    @Value("${cloud.aws.s3.multipart.parallelism:4}")
+    private int partUploadParallelism;
+
+    @Value("${hunstagram.image.processing.parallelism:2}")
+    private int imageProcessingParallelism;
+
+    @Value("${hunstagram.image.processing.queue-capacity:16}")
+    private int imageProcessingQueueCapacity;
+
+    @Value("${hunstagram.feed.fanout.parallelism:2}")
+    private int feedFanoutParallelism;
+
+    @Value("${hunstagram.feed.fanout.queue-capacity:1000}")
+    private int feedFanoutQueueCapacity;
+
+    // 게시글 이미지 병렬 업로드
+    @Bean(name = "imageUploadExecutor")
+    public ThreadPoolTaskExecutor imageUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(uploadParallelism);
+        executor.setMaxPoolSize(uploadParallelism);
+        executor.setQueueCapacity(uploadQueueCapacity);
+        executor.setThreadNamePrefix("image-upload-");
+        // 큐가 가득 차면 요청 스레드에서 직접 업로드 (back-pressure)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    // 업로드 이미지 디코딩 및 변형 이미지 생성 (CPU, 메모리 사용량이 커서 동시 처리 수를 제한)
+    @Bean(name = "imageProcessingExecutor")
+    public ThreadPoolTaskExecutor imageProcessingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(imageProcessingParallelism);
+        executor.setMaxPoolSize(imageProcessingParallelism);
+        executor.setQueueCapacity(imageProcessingQueueCapacity);
+        executor.setThreadNamePrefix("image-processing-");
+        // 큐가 가득 차면 거절 - 요청 스레드에서 디코딩하면 동시 처리 수 제한이 무너지므로 503 으로 응답한다
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    // S3 multipart upload의 part 단위 병렬 업로드
+    // imageUploadExecutor 스레드가 part 업로드를 기다리므로 같은 풀을 사용하면 안 된다
+    @Bean(name = "s3PartUploadExecutor")
+    public ThreadPoolTaskExecutor s3PartUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(partUploadParallelism);
+        executor.setMaxPoolSize(partUploadParallelism);
+        executor.setQueueCapacity(uploadQueueCapacity);
+        executor.setThreadNamePrefix("s3-part-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    // 게시글 등록 후 팔로워 타임라인 fan-out
+    @Bean(name = "feedFanoutExecutor")
+    public ThreadPoolTaskExecutor feedFanoutExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(feedFanoutParallelism);
+        executor.setMaxPoolSize(feedFanoutParallelism);
+        executor.setQueueCapacity(feedFanoutQueueCapacity);
+        executor.setThreadNamePrefix("feed-fanout-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
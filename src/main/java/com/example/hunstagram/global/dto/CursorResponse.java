@@ -0,0 +1,46 @@
+package com.example.hunstagram.global.dto;
+
+import com.example.hunstagram.global.util.CursorUtils;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * 커서 기반 페이지 응답
+ * nextCursor 를 다음 요청의 cursor 로 그대로 전달하면 되며, 마지막 페이지면 null
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Getter
+@AllArgsConstructor(access = PRIVATE)
+public class CursorResponse<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    // 다음 커서의 기준 id 를 이미 알고 있는 경우 (마지막 페이지면 null)
+    public static <T> CursorResponse<T> of(List<T> content, Long nextCursorId) {
+        String nextCursor = nextCursorId == null ? null : CursorUtils.encode(nextCursorId);
+        return new CursorResponse<>(content, nextCursor, nextCursorId != null);
+    }
+
+    /* size + 1 개를 조회한 결과로 다음 페이지 여부를 판단한다
+     * idExtractor : 마지막 항목에서 다음 커서의 기준 id 를 꺼내는 함수
+     */
+    public static <T> CursorResponse<T> of(List<T> fetched, int size, Function<T, Long> idExtractor) {
+        return of(fetched, size, idExtractor, Function.identity());
+    }
+
+    public static <E, T> CursorResponse<T> of(List<E> fetched, int size,
+                                              Function<E, Long> idExtractor, Function<E, T> mapper) {
+        boolean hasNext = fetched.size() > size;
+        List<E> page = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? CursorUtils.encode(idExtractor.apply(page.get(size - 1))) : null;
+        return new CursorResponse<>(page.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
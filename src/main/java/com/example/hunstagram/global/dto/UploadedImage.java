@@ -0,0 +1,28 @@
+package com.example.hunstagram.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 업로드 된 원본 이미지와 변형 이미지의 url
+ * 변형 이미지를 만들 수 없는 형식이면 변형 url 은 원본 url 과 같다
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Getter
+@AllArgsConstructor
+public class UploadedImage {
+    private String imageUrl;
+    private String thumbnailUrl;
+    private String mediumUrl;
+
+    // 업로드 된 모든 객체의 url (중복 제거)
+    public List<String> urls() {
+        return Stream.of(imageUrl, thumbnailUrl, mediumUrl).filter(Objects::nonNull).distinct().toList();
+    }
+}
@@ -37,10 +37,14 @@ public enum CustomErrorCode {
     // AWS
     IMAGE_UPLOAD_FAILED(INTERNAL_SERVER_ERROR, "이미지 업로드에 실패했습니다."),
     IMAGE_DELETE_FAILED(INTERNAL_SERVER_ERROR, "이미지 삭제에 실패했습니다."),
+    IMAGE_NOT_FOUND(NOT_FOUND, "이미지를 찾을 수 없습니다."),
+    IMAGE_PROCESSING_BUSY(SERVICE_UNAVAILABLE, "이미지 처리 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
 
     // General
     INVALID_HTTP_METHOD(METHOD_NOT_ALLOWED, "잘못된 Http Method 요청입니다."),
     INVALID_VALUE(BAD_REQUEST, "잘못된 입력값입니다."),
+    INVALID_CURSOR(BAD_REQUEST, "잘못된 cursor 입니다."),
+    REQUEST_CONFLICT(CONFLICT, "동시에 처리 중인 요청과 충돌했습니다. 다시 시도해 주세요."),
     SERVER_INTERNAL_ERROR(INTERNAL_SERVER_ERROR, "서버 내부에 오류가 발생했습니다.");
     private final HttpStatus httpStatus;
     private final String errorMessage;
@@ -3,6 +3,7 @@ package com.example.hunstagram.global.exception;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -84,6 +85,19 @@ public class CustomExceptionHandler {
                 .body(new ErrorResponse(INVALID_TOKEN));
     }
 
+    // 동시 요청 간 lock 충돌 (deadlock, lock wait timeout)
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ErrorResponse> concurrencyFailureException(
+            ConcurrencyFailureException e,
+            HttpServletRequest request
+    ) {
+        log.error("[ConcurrencyFailureException] url: {} | errorCode: {} | errorMessage: {}",
+                request.getRequestURL(), REQUEST_CONFLICT, e.getMessage());
+        return ResponseEntity
+                .status(REQUEST_CONFLICT.getHttpStatus())
+                .body(new ErrorResponse(REQUEST_CONFLICT));
+    }
+
     // 이외 Error
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> exception(Exception e, HttpServletRequest request) {
@@ -0,0 +1,25 @@
+package com.example.hunstagram.global.id;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Snowflake id 를 JSON 문자열로 응답
+ * Snowflake id 는 2^53 을 넘으므로 JavaScript number 로 읽으면 하위 자리가 손실된다
+ * 요청 본문의 id 는 문자열, 숫자 모두 받는다
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@JacksonAnnotationsInside
+@JsonSerialize(using = ToStringSerializer.class)
+public @interface JsonStringId {
+}
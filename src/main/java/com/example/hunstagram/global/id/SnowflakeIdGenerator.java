@@ -0,0 +1,87 @@
+package com.example.hunstagram.global.id;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake 방식 64bit id 생성기 - [timestamp 41bit | node id 10bit | sequence 12bit]
+ * 같은 노드에서 생성된 id 는 항상 증가하므로 id 만으로 시간 순 정렬이 가능하다 (k-sortable)
+ * 마지막 (timestamp, sequence) 를 AtomicLong 하나에 담아 CAS 로 갱신 (lock-free)
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public class SnowflakeIdGenerator {
+
+    // 2026-01-01T00:00:00Z
+    public static final long EPOCH = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final long maxBackwardMillis;
+    private final Clock clock;
+    // (epoch 기준 timestamp << SEQUENCE_BITS) | sequence
+    private final AtomicLong last = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, 5_000L, Clock.systemUTC());
+    }
+
+    public SnowflakeIdGenerator(long nodeId, long maxBackwardMillis, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node id must be between 0 and " + MAX_NODE_ID + ". nodeId=" + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.maxBackwardMillis = maxBackwardMillis;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        while (true) {
+            long now = clock.millis() - EPOCH;
+            long prev = last.get();
+            long prevTimestamp = prev >>> SEQUENCE_BITS;
+
+            long next;
+            if (now > prevTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else if (prevTimestamp - now > maxBackwardMillis) {
+                // 허용 범위를 넘어 시계가 뒤로 가면 중복 id 위험이 있으므로 생성하지 않는다
+                throw new IllegalStateException(
+                        "clock moved backwards by " + (prevTimestamp - now) + "ms. refusing to generate id");
+            } else if ((prev & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                // 같은 ms 이거나 시계가 조금 뒤로 간 경우 : 마지막 timestamp 를 유지하고 sequence 증가
+                next = prev + 1;
+            } else if (prevTimestamp + 1 - now <= maxBackwardMillis) {
+                // sequence 소진 : 대기하지 않고 다음 ms 를 미리 사용 (실제 시각보다 허용 범위 이상 앞서지 않도록)
+                next = (prevTimestamp + 1) << SEQUENCE_BITS;
+            } else {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            if (last.compareAndSet(prev, next)) {
+                return ((next >>> SEQUENCE_BITS) << (NODE_ID_BITS + SEQUENCE_BITS))
+                        | (nodeId << SEQUENCE_BITS)
+                        | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    public static long timestamp(long id) {
+        return (id >>> (NODE_ID_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+
+    public static long nodeId(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+
+    public static long sequence(long id) {
+        return id & SEQUENCE_MASK;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.hunstagram.global.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Snowflake id 를 Hibernate id 생성 전략으로 사용 - DB 조회 없이 메모리에서 id 할당
+ * 노드 id 는 spring.jpa.properties.hunstagram.id.node-id 로 서버마다 다르게 지정한다
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String NODE_ID_SETTING = "hunstagram.id.node-id";
+
+    // 엔티티 종류와 관계없이 노드 당 생성기 하나를 공유 (같은 ms 의 sequence 를 함께 사용)
+    private static final Map<Long, SnowflakeIdGenerator> GENERATORS = new ConcurrentHashMap<>();
+
+    private SnowflakeIdGenerator generator;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) {
+        Object nodeId = serviceRegistry.getService(ConfigurationService.class)
+                .getSettings()
+                .getOrDefault(NODE_ID_SETTING, "0");
+        generator = GENERATORS.computeIfAbsent(Long.parseLong(nodeId.toString()), SnowflakeIdGenerator::new);
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        return generator.nextId();
+    }
+}
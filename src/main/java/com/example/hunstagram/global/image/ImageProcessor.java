@@ -0,0 +1,139 @@
+package com.example.hunstagram.global.image;
+
+import com.example.hunstagram.global.type.ImageVariantType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 업로드 이미지를 한 번만 디코딩해서 ImageVariantType 별 JPEG 변형 이미지를 생성 (ImageIO, Java2D)
+ * 디코딩할 수 없는 형식이거나 너무 큰 이미지는 변형 없이 원본만 사용한다
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Slf4j
+@Component
+public class ImageProcessor {
+
+    // 디코딩 시 메모리 사용량 제한 (약 50MP, INT_RGB 기준 200MB)
+    private static final long MAX_PIXELS = 50_000_000L;
+    private static final float JPEG_QUALITY = 0.85f;
+
+    public Map<ImageVariantType, byte[]> process(InputStream in) {
+        try {
+            BufferedImage image = decode(in);
+            if (image == null) {
+                return Collections.emptyMap();
+            }
+            Map<ImageVariantType, byte[]> variants = new EnumMap<>(ImageVariantType.class);
+            for (ImageVariantType type : ImageVariantType.values()) {
+                variants.put(type, encodeJpeg(resize(image, type)));
+            }
+            return variants;
+        } catch (IOException e) {
+            log.warn("image processing failed. variants skipped", e);
+            return Collections.emptyMap();
+        }
+    }
+
+    // 픽셀 수를 먼저 확인한 뒤 디코딩 (decompression bomb 방지)
+    private BufferedImage decode(InputStream in) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = iis == null ? Collections.emptyIterator() : ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    log.warn("image too large to process. width={}, height={}", reader.getWidth(0), reader.getHeight(0));
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    public static BufferedImage resize(BufferedImage image, ImageVariantType type) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (type.isCrop()) {
+            int side = Math.min(width, height);
+            image = image.getSubimage((width - side) / 2, (height - side) / 2, side, side);
+            int target = Math.min(type.getSize(), side);
+            return scale(image, target, target);
+        }
+        // 원본보다 크게 늘리지 않는다
+        double ratio = Math.min(1.0, (double) type.getSize() / Math.max(width, height));
+        return scale(image,
+                Math.max(1, (int) Math.round(width * ratio)),
+                Math.max(1, (int) Math.round(height * ratio)));
+    }
+
+    /* bilinear 보간은 한 번에 절반 이하로 줄이면 픽셀을 건너뛰어 계단 현상이 생기므로 절반씩 단계적으로 축소
+     * 첫 단계에서 INT_RGB 로 변환하면서 투명 영역은 흰색으로 채운다 (JPEG 는 alpha 미지원)
+     */
+    private static BufferedImage scale(BufferedImage image, int targetWidth, int targetHeight) {
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    public static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.hunstagram.global.scheduler;
+
+import com.example.hunstagram.domain.comment.entity.CommentRepository;
+import com.example.hunstagram.domain.hashtag.entity.TagRepository;
+import com.example.hunstagram.domain.like.service.LikeCountBuffer;
+import com.example.hunstagram.domain.post.entity.PostRepository;
+import com.example.hunstagram.domain.user.entity.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CountReconcileScheduler {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TagRepository tagRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LikeCountBuffer likeCountBuffer;
+
+    /* 반정규화 카운트를 실제 row 수 기준으로 보정 (기본 매일 04시)
+     * 좋아요 증감 버퍼는 노드(JVM)마다 따로 있어 이 노드의 버퍼만 반영한다.
+     * 여러 노드로 운영하면 다른 노드 버퍼에 남은 증감(최대 flush 주기만큼)은 보정 후 한 번 더 반영되어 어긋나고, 다음 보정에서 다시 맞춰진다.
+     */
+    @Scheduled(cron = "${hunstagram.count.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        int users = reconcileInChunks(userRepository::findIdsAfter, userRepository::reconcileCounts);
+        int posts = reconcileInChunks(postRepository::findIdsAfter, flushingLikes(postRepository::reconcileCounts));
+        int comments = reconcileInChunks(commentRepository::findIdsAfter, flushingLikes(commentRepository::reconcileCounts));
+        int tags = reconcileInChunks(tagRepository::findIdsAfter, tagRepository::reconcileCounts);
+        log.info("count reconcile finished. users={}, posts={}, comments={}, tags={}", users, posts, comments, tags);
+    }
+
+    // 좋아요 수 보정 직전에 같은 트랜잭션에서 버퍼를 반영 - 보정이 센 좋아요의 증감이 보정 후 다시 더해지지 않도록
+    // (처음에 한 번만 반영하면 보정 중에 커밋된 좋아요가 보정과 다음 flush 에서 두 번 반영된다)
+    private Function<List<Long>, Integer> flushingLikes(Function<List<Long>, Integer> reconcileCounts) {
+        return ids -> {
+            likeCountBuffer.flush();
+            return reconcileCounts.apply(ids);
+        };
+    }
+
+    // id 기준 keyset 으로 CHUNK_SIZE 씩 끊어서 청크마다 별도 트랜잭션으로 보정
+    private int reconcileInChunks(BiFunction<Long, Pageable, List<Long>> findIdsAfter,
+                                  Function<List<Long>, Integer> reconcileCounts) {
+        Pageable chunk = PageRequest.ofSize(CHUNK_SIZE);
+        long lastId = 0L;
+        int total = 0;
+        while (true) {
+            List<Long> ids = findIdsAfter.apply(lastId, chunk);
+            if (ids.isEmpty()) {
+                return total;
+            }
+            Integer updated = transactionTemplate.execute(status -> reconcileCounts.apply(ids));
+            total += updated == null ? 0 : updated;
+            lastId = ids.get(ids.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.hunstagram.global.scheduler;
+
+import com.example.hunstagram.global.aws.entity.ObjectDeletion;
+import com.example.hunstagram.global.aws.entity.ObjectDeletionRepository;
+import com.example.hunstagram.global.aws.service.AwsS3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ObjectDeletion outbox 를 읽어 S3 이미지를 batch 로 삭제
+ * 여러 서버에서 같은 row 를 동시에 처리해도 S3 삭제는 멱등이므로 at-least-once 로 충분하다
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ObjectDeletionScheduler {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final ObjectDeletionRepository objectDeletionRepository;
+    private final AwsS3Service awsS3Service;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${hunstagram.s3.delete-interval-ms:5000}")
+    public void drain() {
+        while (true) {
+            List<ObjectDeletion> deletions =
+                    objectDeletionRepository.findPending(MAX_ATTEMPTS, PageRequest.ofSize(BATCH_SIZE));
+            if (deletions.isEmpty()) {
+                return;
+            }
+
+            Set<String> failedPaths;
+            try {
+                failedPaths = new HashSet<>(awsS3Service.deleteObjects(
+                        deletions.stream().map(ObjectDeletion::getPath).toList()));
+            } catch (RuntimeException e) {
+                // S3 장애 - 실패 횟수를 올리지 않고 다음 주기에 다시 시도
+                log.error("object deletion failed. size={}", deletions.size(), e);
+                return;
+            }
+
+            List<Long> deletedIds = deletions.stream()
+                    .filter(d -> !failedPaths.contains(d.getPath()))
+                    .map(ObjectDeletion::getId)
+                    .toList();
+            List<Long> failedIds = deletions.stream()
+                    .filter(d -> failedPaths.contains(d.getPath()))
+                    .map(ObjectDeletion::getId)
+                    .toList();
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!deletedIds.isEmpty()) {
+                    objectDeletionRepository.deleteAllByIdInBatch(deletedIds);
+                }
+                if (!failedIds.isEmpty()) {
+                    objectDeletionRepository.addAttempts(failedIds);
+                }
+            });
+            if (!failedIds.isEmpty()) {
+                log.warn("object deletion partially failed. failed={}", failedPaths);
+            }
+
+            // 실패가 있으면 같은 row 를 바로 다시 읽지 않도록 다음 주기로 넘긴다
+            if (!failedIds.isEmpty() || deletions.size() < BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+}
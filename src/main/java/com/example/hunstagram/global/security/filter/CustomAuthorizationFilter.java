@@ -5,6 +5,8 @@ import com.auth0.jwt.interfaces.DecodedJWT;
 import com.example.hunstagram.global.exception.CustomErrorCode;
 import com.example.hunstagram.global.exception.ErrorResponse;
 import com.example.hunstagram.global.security.service.JwtService;
+import com.example.hunstagram.global.security.service.LoginUser;
+import com.example.hunstagram.global.type.RoleType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -12,7 +14,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.servlet.FilterChain;
@@ -22,8 +23,11 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 
-import static com.example.hunstagram.global.security.service.JwtService.TOKEN_HEADER_PREFIX;
+import static com.example.hunstagram.global.security.service.JwtService.*;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpMethod.DELETE;
+import static org.springframework.http.HttpMethod.PATCH;
+import static org.springframework.http.HttpMethod.POST;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 /**
@@ -34,24 +38,22 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 @Component
 public class CustomAuthorizationFilter extends OncePerRequestFilter {
 
+    // access token이 필요한 Endpoint
+    public static final ProtectedRouteMatcher PROTECTED_ROUTES = new ProtectedRouteMatcher()
+            .add("/v1/users/logout")
+            .add("/v1/users/profile/my")
+            .add("/v1/follow/{toUserId:\\d+}")
+            .add("/v1/posts/**/like")
+            .add("/v1/posts/**", POST, PATCH, DELETE)
+            .add("/v1/comments/**/like")
+            .add("/v1/comments/**", POST, DELETE)
+            .add("/v1/feed");
+
     private final JwtService jwtService;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getServletPath();
-        request.getMethod();
-        AntPathMatcher pathMatcher = new AntPathMatcher();
-        return !(
-                pathMatcher.match("/v1/users/logout", path) ||
-                        pathMatcher.match("/v1/users/profile/my", path) ||
-                        pathMatcher.match("/v1/follow/{toUserId:\\d+}", path) ||
-                        pathMatcher.match("/v1/posts/**/like", path) ||
-                        (pathMatcher.match("/v1/posts/**", path) && request.getMethod().equals("POST")) ||
-                        (pathMatcher.match("/v1/posts/**", path) && request.getMethod().equals("DELETE")) ||
-                        pathMatcher.match("/v1/comments/**/like", path) ||
-                        (pathMatcher.match("/v1/comments/**", path) && request.getMethod().equals("POST")) ||
-                        (pathMatcher.match("/v1/comments/**", path) && request.getMethod().equals("DELETE"))
-        );
+        return !PROTECTED_ROUTES.matches(request.getMethod(), request.getServletPath());
     }
 
     @Override
@@ -68,12 +70,16 @@ public class CustomAuthorizationFilter extends OncePerRequestFilter {
                 String accessToken = authorizationHeader.substring(TOKEN_HEADER_PREFIX.length());
                 DecodedJWT decodedJWT = jwtService.verifyToken(accessToken);
 
-                String role = decodedJWT.getClaim("role").asString();
+                String role = decodedJWT.getClaim(CLAIM_ROLE).asString();
                 List<SimpleGrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(role));
-                String email = decodedJWT.getSubject();
+                LoginUser loginUser = new LoginUser(
+                        decodedJWT.getClaim(CLAIM_ID).asLong(),
+                        decodedJWT.getSubject(),
+                        RoleType.fromKey(role)
+                );
 
-                // SecurityContextHolder에 accessToken 포함하여 저장
-                Authentication authToken = new UsernamePasswordAuthenticationToken(email, accessToken, authorities);
+                // SecurityContextHolder에 검증된 사용자 정보(LoginUser)와 accessToken 포함하여 저장
+                Authentication authToken = new UsernamePasswordAuthenticationToken(loginUser, accessToken, authorities);
                 SecurityContextHolder.getContext().setAuthentication(authToken);
                 filterChain.doFilter(request, response);
             } catch (TokenExpiredException e) {
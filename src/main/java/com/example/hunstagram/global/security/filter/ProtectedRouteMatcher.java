@@ -0,0 +1,159 @@
+package com.example.hunstagram.global.security.filter;
+
+import org.springframework.http.HttpMethod;
+
+import java.util.Arrays;
+
+/**
+ * access token이 필요한 Endpoint 목록을 애플리케이션 시작 시 path segment 단위의 trie로 컴파일
+ * 요청 path를 '/' 단위로 순회하며 매칭하므로 요청마다 객체를 생성하지 않는다
+ *
+ * 지원하는 pattern segment
+ * - literal : users, posts ...
+ * - {name:\d+} : 숫자로만 구성된 segment 1개
+ * - {name}, * : 임의의 segment 1개
+ * - ** : 0개 이상의 segment
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public class ProtectedRouteMatcher {
+
+    private static final int ANY_METHOD = -1;
+    private static final int OTHER_METHOD = 1 << HttpMethod.values().length;
+
+    private final Node root = new Node(SegmentType.LITERAL, "");
+
+    // methods를 지정하지 않으면 모든 Http Method에 대해 매칭
+    public ProtectedRouteMatcher add(String pattern, HttpMethod... methods) {
+        int methodMask = methods.length == 0 ? ANY_METHOD : 0;
+        for (HttpMethod method : methods) {
+            methodMask |= 1 << method.ordinal();
+        }
+
+        Node node = root;
+        for (String segment : pattern.split("/")) {
+            if (!segment.isEmpty()) {
+                node = node.getOrAddChild(segment);
+            }
+        }
+        node.methodMask |= methodMask;
+        return this;
+    }
+
+    public boolean matches(String method, String path) {
+        return match(root, path, 0, methodBit(method));
+    }
+
+    private boolean match(Node node, String path, int pos, int methodBit) {
+        int start = skipSeparators(path, pos);
+
+        // path 끝에 도달
+        if (start == path.length()) {
+            if ((node.methodMask & methodBit) != 0) {
+                return true;
+            }
+            // '**'는 0개의 segment와도 매칭된다
+            for (Node child : node.children) {
+                if (child.type == SegmentType.DOUBLE_WILDCARD && match(child, path, start, methodBit)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+
+        for (Node child : node.children) {
+            boolean matched = switch (child.type) {
+                case LITERAL -> child.literal.length() == end - start
+                        && path.regionMatches(start, child.literal, 0, end - start)
+                        && match(child, path, end, methodBit);
+                case NUMBER -> isDigits(path, start, end) && match(child, path, end, methodBit);
+                case WILDCARD -> match(child, path, end, methodBit);
+                case DOUBLE_WILDCARD -> match(child, path, start, methodBit);
+            };
+            if (matched) {
+                return true;
+            }
+        }
+
+        // 현재 segment를 '**'가 소비하고 다음 segment로 진행
+        return node.type == SegmentType.DOUBLE_WILDCARD && match(node, path, end, methodBit);
+    }
+
+    private static int skipSeparators(String path, int pos) {
+        while (pos < path.length() && path.charAt(pos) == '/') {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isDigits(String path, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isDigit(path.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int methodBit(String method) {
+        return switch (method) {
+            case "GET" -> 1 << HttpMethod.GET.ordinal();
+            case "HEAD" -> 1 << HttpMethod.HEAD.ordinal();
+            case "POST" -> 1 << HttpMethod.POST.ordinal();
+            case "PUT" -> 1 << HttpMethod.PUT.ordinal();
+            case "PATCH" -> 1 << HttpMethod.PATCH.ordinal();
+            case "DELETE" -> 1 << HttpMethod.DELETE.ordinal();
+            case "OPTIONS" -> 1 << HttpMethod.OPTIONS.ordinal();
+            case "TRACE" -> 1 << HttpMethod.TRACE.ordinal();
+            default -> OTHER_METHOD;
+        };
+    }
+
+    private enum SegmentType {
+        LITERAL, NUMBER, WILDCARD, DOUBLE_WILDCARD
+    }
+
+    private static class Node {
+        private final SegmentType type;
+        private final String literal;
+        private Node[] children = new Node[0];
+        private int methodMask;
+
+        private Node(SegmentType type, String literal) {
+            this.type = type;
+            this.literal = literal;
+        }
+
+        private Node getOrAddChild(String segment) {
+            SegmentType childType = parseType(segment);
+            for (Node child : children) {
+                if (child.type == childType && child.literal.equals(segment)) {
+                    return child;
+                }
+            }
+            Node child = new Node(childType, segment);
+            children = Arrays.copyOf(children, children.length + 1);
+            children[children.length - 1] = child;
+            return child;
+        }
+
+        private static SegmentType parseType(String segment) {
+            if (segment.equals("**")) {
+                return SegmentType.DOUBLE_WILDCARD;
+            }
+            if (segment.equals("*")) {
+                return SegmentType.WILDCARD;
+            }
+            if (segment.startsWith("{") && segment.endsWith("}")) {
+                return segment.endsWith(":\\d+}") ? SegmentType.NUMBER : SegmentType.WILDCARD;
+            }
+            return SegmentType.LITERAL;
+        }
+    }
+}
@@ -2,9 +2,11 @@ package com.example.hunstagram.global.security.service;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.example.hunstagram.global.exception.CustomException;
 import com.example.hunstagram.global.type.RoleType;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
@@ -46,6 +48,10 @@ public class JwtService {
     public static final String CLAIM_ID = "id";
     public static final String CLAIM_ROLE = "role";
 
+    // Algorithm, JWTVerifier는 불변 객체이므로 한 번만 생성하여 여러 스레드에서 공유
+    private final Algorithm algorithm = HMAC256(JWT_SECRET);
+    private final JWTVerifier verifier = JWT.require(algorithm).build();
+
     /* 기본적으로 로그인은 필수가 아니지만, 특정 기능에 대해서 access token이 필요한 경우
      * 로그인이 되어있지 않을 수 있으므로 SecurityContextHolder에 access token이 저장되어 있지 않을 수 있음
      * Request Header에서 직접 accessToken을 가져온다
@@ -59,22 +65,26 @@ public class JwtService {
     }
 
     /* 기본적으로 로그인이 필수인 Endpoint에 대한 요청
-     * 로그인이 되어 있으므로 SecurityContextHolder에 access token이 저장되어 있음
+     * 로그인이 되어 있으므로 SecurityContextHolder에 검증된 LoginUser가 저장되어 있음
+     * 토큰을 다시 검증하지 않고 principal의 값을 그대로 사용한다
      */
     public String getEmail() {
-        String accessToken = (String) SecurityContextHolder.getContext().getAuthentication().getCredentials();
-        DecodedJWT decodedJWT = verifyToken(accessToken);
-        return decodedJWT.getSubject();
+        return getLoginUser().getEmail();
     }
 
     public Long getId() {
-        String accessToken = (String) SecurityContextHolder.getContext().getAuthentication().getCredentials();
-        DecodedJWT decodedJWT = verifyToken(accessToken);
-        return decodedJWT.getClaim(CLAIM_ID).asLong();
+        return getLoginUser().getId();
+    }
+
+    public LoginUser getLoginUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof LoginUser loginUser)) {
+            throw new CustomException(TOKEN_NOT_EXIST);
+        }
+        return loginUser;
     }
 
     public DecodedJWT verifyToken(String token) {
-        JWTVerifier verifier = JWT.require(HMAC256(JWT_SECRET)).build();
         return verifier.verify(token);
     }
 
@@ -84,14 +94,14 @@ public class JwtService {
                 .withExpiresAt(new Date(System.currentTimeMillis() + AT_EXP_TIME))
                 .withClaim(CLAIM_ROLE, roleType.getKey())
                 .withClaim(CLAIM_ID, id)
-                .sign(HMAC256(JWT_SECRET));
+                .sign(algorithm);
     }
 
     public String createRefreshToken(String email) {
         return JWT.create()
                 .withSubject(email)
                 .withExpiresAt(new Date(System.currentTimeMillis() + RT_EXP_TIME))
-                .sign(HMAC256(JWT_SECRET));
+                .sign(algorithm);
     }
 
     // Refresh Token의 남은 만료 일자(day) 계산
@@ -0,0 +1,20 @@
+package com.example.hunstagram.global.security.service;
+
+import com.example.hunstagram.global.type.RoleType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * CustomAuthorizationFilter에서 access token 검증 후 SecurityContextHolder에 저장하는 principal
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Getter
+@RequiredArgsConstructor
+public class LoginUser {
+
+    private final Long id;
+    private final String email;
+    private final RoleType role;
+}
@@ -0,0 +1,117 @@
+package com.example.hunstagram.global.storage;
+
+import com.example.hunstagram.global.util.CountMinSketch;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 자주 요청되는 작은 객체(썸네일 등)를 힙에 보관하는 크기 제한 캐시
+ * - 입장 : Count-Min sketch 로 요청 빈도를 세고, admit-count 번 이상 요청된 객체만 적재 (한 번 보고 마는 객체가 캐시를 밀어내지 않도록)
+ *          miss 마다 호출되므로 lock 없이 sketch 카운터를 CAS 로 증가시킨다
+ * - 조회 : ConcurrentHashMap 조회 + 참조 표시만 하므로 lock 이 없다
+ * - 제거 : CLOCK - 적재 순서대로 돌면서 최근에 조회된 객체는 한 번 더 남기고, 조회되지 않은 객체부터 버린다
+ * key 는 내용이 바뀌지 않으므로 삭제될 때만 invalidate 하면 된다
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Component
+public class HotObjectCache {
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 1 << 14;
+    // 빈도를 주기적으로 초기화해서 예전에 인기 있던 객체가 계속 입장하지 않도록 한다
+    private static final int SKETCH_RESET_INTERVAL = SKETCH_WIDTH * 8;
+
+    private final long maxBytes;
+    private final int maxObjectBytes;
+    private final int admitCount;
+
+    private final ConcurrentHashMap<String, CachedObject> objects = new ConcurrentHashMap<>();
+    private final ArrayDeque<CachedObject> clock = new ArrayDeque<>();
+    private final CountMinSketch sketch = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+    private final AtomicInteger recorded = new AtomicInteger();
+    private long usedBytes;
+
+    public HotObjectCache(
+            @Value("${hunstagram.image.cache.max-bytes:67108864}") long maxBytes,
+            @Value("${hunstagram.image.cache.max-object-bytes:262144}") int maxObjectBytes,
+            @Value("${hunstagram.image.cache.admit-count:2}") int admitCount
+    ) {
+        this.maxBytes = maxBytes;
+        this.maxObjectBytes = maxObjectBytes;
+        this.admitCount = admitCount;
+    }
+
+    public Optional<CachedObject> get(String key) {
+        CachedObject cached = objects.get(key);
+        if (cached != null) {
+            cached.referenced = true;
+        }
+        return Optional.ofNullable(cached);
+    }
+
+    // 캐시에 없는 객체의 요청을 기록하고, 적재할 만큼 자주 요청된 작은 객체인지 반환
+    public boolean admit(StoredObject object) {
+        if (object.getSize() > maxObjectBytes || object.getSize() > maxBytes) {
+            return false;
+        }
+        // 주기마다 한 스레드만 0 으로 되돌리고 초기화한다
+        if (recorded.updateAndGet(r -> r + 1 >= SKETCH_RESET_INTERVAL ? 0 : r + 1) == 0) {
+            sketch.clear();
+        }
+        return sketch.add(object.getKey()) >= admitCount;
+    }
+
+    public synchronized void put(StoredObject object, byte[] bytes) {
+        if (bytes.length > maxObjectBytes || bytes.length > maxBytes || objects.containsKey(object.getKey())) {
+            return;
+        }
+        while (usedBytes + bytes.length > maxBytes) {
+            evict();
+        }
+        CachedObject cached = new CachedObject(object, bytes);
+        objects.put(object.getKey(), cached);
+        clock.addLast(cached);
+        usedBytes += bytes.length;
+    }
+
+    // 객체 삭제 시에만 호출되므로 clock 에서 선형 탐색으로 제거
+    public synchronized void invalidate(String key) {
+        CachedObject cached = objects.remove(key);
+        if (cached != null) {
+            clock.remove(cached);
+            usedBytes -= cached.bytes.length;
+        }
+    }
+
+    private void evict() {
+        CachedObject head = clock.pollFirst();
+        if (head.referenced) {
+            head.referenced = false;
+            clock.addLast(head);
+            return;
+        }
+        objects.remove(head.object.getKey());
+        usedBytes -= head.bytes.length;
+    }
+
+    @Getter
+    public static class CachedObject {
+        private final StoredObject object;
+        private final byte[] bytes;
+        // 마지막 제거 검사 이후 조회된 적이 있는지
+        private volatile boolean referenced;
+
+        private CachedObject(StoredObject object, byte[] bytes) {
+            this.object = object;
+            this.bytes = bytes;
+        }
+    }
+}
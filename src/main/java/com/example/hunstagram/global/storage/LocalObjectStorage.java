@@ -0,0 +1,185 @@
+package com.example.hunstagram.global.storage;
+
+import com.example.hunstagram.global.exception.CustomException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static com.example.hunstagram.global.exception.CustomErrorCode.IMAGE_DELETE_FAILED;
+import static com.example.hunstagram.global.exception.CustomErrorCode.IMAGE_UPLOAD_FAILED;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * 로컬 디스크 객체 저장소 - 단일 서버 배포, 테스트용
+ * root 디렉토리 아래에 key 이름의 파일로 저장하고, 읽기는 FileChannel.transferTo(sendfile) / mmap 으로 복사 없이 처리한다
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@ConditionalOnProperty(name = "hunstagram.storage.type", havingValue = "local")
+@Component
+public class LocalObjectStorage implements ObjectStorage {
+
+    // 하위 경로, 숨김 파일(업로드 중인 임시 파일) 접근을 막기 위해 파일 이름 형태의 key 만 허용
+    private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9_-][A-Za-z0-9._-]*");
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+
+    private final Path root;
+    private final String baseUrl;
+
+    public LocalObjectStorage(
+            @Value("${hunstagram.storage.local.root:./storage}") String root,
+            @Value("${hunstagram.storage.local.base-url:/images}") String baseUrl
+    ) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl;
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new IllegalStateException("cannot create storage root: " + this.root, e);
+        }
+    }
+
+    /* 같은 디렉토리의 임시 파일에 쓴 뒤 rename - 읽는 쪽에서 쓰다 만 파일이 보이지 않는다
+     * InputStream 은 FileChannel.transferFrom 으로 버퍼 단위로 옮기므로 파일 전체를 메모리에 올리지 않는다
+     */
+    @Override
+    public String put(String key, InputStream in, long size, String contentType) {
+        Path target = resolve(key);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(root, ".upload-", ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, WRITE);
+                 ReadableByteChannel source = Channels.newChannel(in)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+                    position += transferred;
+                }
+            }
+            Files.move(temp, target, ATOMIC_MOVE, REPLACE_EXISTING);
+            return baseUrl + "/" + key;
+        } catch (IOException e) {
+            deleteTemp(temp);
+            throw new CustomException(IMAGE_UPLOAD_FAILED, e);
+        }
+    }
+
+    private void deleteTemp(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException ignored) {
+            // 임시 파일은 key 로 접근할 수 없으므로 남아도 노출되지 않는다
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new CustomException(IMAGE_DELETE_FAILED, e);
+        }
+    }
+
+    @Override
+    public List<String> deleteAll(List<String> keys) {
+        List<String> failed = new ArrayList<>();
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+            } catch (IOException e) {
+                failed.add(key);
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) throws IOException {
+        if (!KEY_PATTERN.matcher(key).matches()) {
+            return Optional.empty();
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(root.resolve(key), BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return Optional.empty();
+            }
+            return Optional.of(new StoredObject(
+                    key, attributes.size(), contentType(key), attributes.lastModifiedTime().toInstant()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    // target 이 socket channel 이면 커널에서 바로 전송 (sendfile)
+    @Override
+    public long transferTo(String key, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(key), READ)) {
+            long end = Math.min(position + count, channel.size());
+            long current = position;
+            while (current < end) {
+                long transferred = channel.transferTo(current, end - current, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                current += transferred;
+            }
+            return Math.max(current - position, 0);
+        }
+    }
+
+    // mmap 은 channel 을 닫아도 유지되고, 페이지는 OS page cache 를 그대로 사용한다
+    @Override
+    public ByteBuffer read(String key) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(key), READ)) {
+            return channel.map(READ_ONLY, 0, channel.size());
+        }
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        if (!KEY_PATTERN.matcher(key).matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(root.resolve(key));
+    }
+
+    private Path resolve(String key) {
+        if (!KEY_PATTERN.matcher(key).matches()) {
+            throw new IllegalArgumentException("invalid object key: " + key);
+        }
+        return root.resolve(key);
+    }
+
+    private String contentType(String key) {
+        String contentType = URLConnection.guessContentTypeFromName(key);
+        return contentType == null ? DEFAULT_CONTENT_TYPE : contentType;
+    }
+}
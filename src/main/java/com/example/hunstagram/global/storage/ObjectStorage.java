@@ -0,0 +1,46 @@
+package com.example.hunstagram.global.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 이미지 객체 저장소 - hunstagram.storage.type 으로 S3(s3) / 로컬 디스크(local) 중 하나를 사용
+ * key 는 저장소 내 객체 이름이고, 저장 후 반환되는 url 의 마지막 경로가 key 가 된다
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public interface ObjectStorage {
+
+    // 객체를 저장하고 접근 url 을 반환
+    String put(String key, InputStream in, long size, String contentType);
+
+    default String put(String key, byte[] bytes, String contentType) {
+        return put(key, new ByteArrayInputStream(bytes), bytes.length, contentType);
+    }
+
+    // 없는 객체를 삭제해도 실패하지 않는다
+    void delete(String key);
+
+    // 여러 객체를 삭제하고, 삭제에 실패한 key 를 반환한다 (저장소 자체 장애는 예외)
+    List<String> deleteAll(List<String> keys);
+
+    Optional<StoredObject> stat(String key) throws IOException;
+
+    // 객체의 position 부터 count 바이트를 target 으로 전송하고, 전송한 바이트 수를 반환
+    long transferTo(String key, long position, long count, WritableByteChannel target) throws IOException;
+
+    // 객체 전체를 읽기 전용 버퍼로 반환
+    ByteBuffer read(String key) throws IOException;
+
+    // 로컬 파일로 저장된 객체의 경로 - 서블릿 컨테이너의 sendfile 로 직접 전송할 때 사용
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+}
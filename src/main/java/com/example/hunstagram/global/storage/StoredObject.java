@@ -0,0 +1,19 @@
+package com.example.hunstagram.global.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Getter
+@AllArgsConstructor
+public class StoredObject {
+    private String key;
+    private long size;
+    private String contentType;
+    private Instant lastModified;
+}
@@ -0,0 +1,23 @@
+package com.example.hunstagram.global.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 이미지에서 생성하는 고정 크기 변형 이미지
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariantType {
+    // 프로필/해시태그 그리드용 정사각형 썸네일 (가운데 기준 crop)
+    THUMBNAIL("thumb", 320, true),
+    // 피드용 - 긴 변 기준으로 비율 유지
+    MEDIUM("medium", 640, false);
+
+    private final String suffix;
+    private final int size;
+    private final boolean crop;
+}
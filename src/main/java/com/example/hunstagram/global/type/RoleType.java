@@ -15,4 +15,13 @@ public enum RoleType {
 
     private final String key;
     private final String title;
+
+    public static RoleType fromKey(String key) {
+        for (RoleType roleType : values()) {
+            if (roleType.key.equals(key)) {
+                return roleType;
+            }
+        }
+        throw new IllegalArgumentException("존재하지 않는 권한입니다. key: " + key);
+    }
 }
@@ -0,0 +1,126 @@
+package com.example.hunstagram.global.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Count-Min sketch - 고정 크기(depth x width) 카운터로 key 별 빈도를 근사 (인기 해시태그, 이미지 캐시 입장)
+ * 추정치는 실제 값보다 작아지지 않으며, 오차는 width 에 반비례한다
+ * 카운터마다 CAS 로 증가시키므로 lock 없이 여러 스레드에서 add 할 수 있다
+ * clear 와 동시에 들어온 add 는 일부 row 에만 남을 수 있다 (초기화 직후 추정치가 조금 달라질 뿐이라 근사치로 허용)
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public class CountMinSketch {
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long C1 = 0x87C37B91114253D5L;
+    private static final long C2 = 0x4CF5AD432745937FL;
+
+    private final int width;
+    private final AtomicIntegerArray[] counts;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || width < 1) {
+            throw new IllegalArgumentException("invalid sketch size. depth=" + depth + ", width=" + width);
+        }
+        this.width = width;
+        this.counts = new AtomicIntegerArray[depth];
+        for (int row = 0; row < depth; row++) {
+            counts[row] = new AtomicIntegerArray(width);
+        }
+    }
+
+    // 1 증가시키고 증가 후 추정치를 반환 (최댓값에서는 더 증가시키지 않음)
+    public int add(String key) {
+        long hash = hash(key);
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < counts.length; row++) {
+            int count = counts[row].updateAndGet(index(hash, row), c -> c < Integer.MAX_VALUE ? c + 1 : c);
+            min = Math.min(min, count);
+        }
+        return min;
+    }
+
+    public int estimate(String key) {
+        long hash = hash(key);
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < counts.length; row++) {
+            min = Math.min(min, counts[row].get(index(hash, row)));
+        }
+        return min;
+    }
+
+    public void clear() {
+        for (AtomicIntegerArray counters : counts) {
+            for (int index = 0; index < width; index++) {
+                counters.set(index, 0);
+            }
+        }
+    }
+
+    // 64bit 해시의 상위/하위 32bit 로 row 마다 다른 index 를 만든다 (h1 + row * h2, Kirsch-Mitzenmacher)
+    // String.hashCode 는 "Aa", "BB" 처럼 같은 값이 흔해서 seed 를 섞어도 모든 row 에서 충돌하므로 사용하지 않음
+    private int index(long hash, int row) {
+        int combined = (int) hash + row * (int) (hash >>> 32);
+        return Integer.remainderUnsigned(combined, width);
+    }
+
+    // UTF-8 바이트의 MurmurHash3 x64_128 (seed 0) 중 앞 64bit
+    private static long hash(String key) {
+        byte[] data = key.getBytes(StandardCharsets.UTF_8);
+        long h1 = 0;
+        long h2 = 0;
+        int blocks = data.length & ~15;
+        for (int i = 0; i < blocks; i += 16) {
+            h1 ^= mixK1((long) LONGS.get(data, i));
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52DCE729;
+            h2 ^= mixK2((long) LONGS.get(data, i + 8));
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495AB5;
+        }
+
+        // 남은 바이트(0 ~ 15)를 little-endian 으로 k1(앞 8바이트), k2(뒤 7바이트)에 채운다
+        long k1 = 0;
+        long k2 = 0;
+        for (int i = data.length - 1; i >= blocks; i--) {
+            if (i - blocks >= 8) {
+                k2 = (k2 << 8) | (data[i] & 0xFFL);
+            } else {
+                k1 = (k1 << 8) | (data[i] & 0xFFL);
+            }
+        }
+        int tail = data.length - blocks;
+        if (tail > 8) {
+            h2 ^= mixK2(k2);
+        }
+        if (tail > 0) {
+            h1 ^= mixK1(k1);
+        }
+
+        h1 ^= data.length;
+        h2 ^= data.length;
+        h1 += h2;
+        h2 += h1;
+        return fmix(h1) + fmix(h2);
+    }
+
+    private static long mixK1(long k) {
+        return Long.rotateLeft(k * C1, 31) * C2;
+    }
+
+    private static long mixK2(long k) {
+        return Long.rotateLeft(k * C2, 33) * C1;
+    }
+
+    private static long fmix(long k) {
+        k = (k ^ (k >>> 33)) * 0xFF51AFD7ED558CCDL;
+        k = (k ^ (k >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return k ^ (k >>> 33);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.hunstagram.global.util;
+
+import com.example.hunstagram.global.exception.CustomException;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.example.hunstagram.global.exception.CustomErrorCode.INVALID_CURSOR;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * 커서 인코딩/디코딩
+ * 클라이언트가 커서 내부 구조(id)에 의존하지 않도록 base64 로 감싸서 내려준다
+ *
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@NoArgsConstructor(access = PRIVATE)
+public class CursorUtils {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 첫 페이지 요청(cursor 없음) 시 null 반환
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            byte[] decoded = Base64.getUrlDecoder().decode(cursor);
+            return Long.parseLong(new String(decoded, StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            throw new CustomException(INVALID_CURSOR);
+        }
+    }
+
+    public static int pageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,184 @@
+-- hunstagram MySQL 마이그레이션 (ddl-auto: none)
+-- 기존 스키마(IDENTITY id, 반정규화 카운트 없음)를 현재 엔티티 매핑으로 옮긴다 - 배포 전에 위에서부터 순서대로 한 번 실행
+-- MySQL 은 ADD COLUMN / CREATE INDEX IF NOT EXISTS 를 지원하지 않으므로 재실행하지 않는다 (마지막 sequence 초기화만 재실행해도 안전)
+
+-- 1. 좋아요/팔로우 unique 제약 - 토글(삭제 후 추가)의 동시 중복 추가를 막는 제약
+-- 제약을 만들기 전에 이미 중복된 row 는 가장 먼저 만든 row(작은 id)만 남긴다 (아래 카운트 채우기도 중복 제거 후에 실행)
+delete l from likes l
+    join likes keep on keep.user_id = l.user_id and keep.post_id = l.post_id and keep.like_id < l.like_id;
+
+delete l from likes l
+    join likes keep on keep.user_id = l.user_id and keep.comment_id = l.comment_id and keep.like_id < l.like_id;
+
+delete f from follow f
+    join follow keep on keep.from_user_id = f.from_user_id and keep.to_user_id = f.to_user_id and keep.follow_id < f.follow_id;
+
+-- post_id / comment_id 중 하나는 null 이며, null 은 unique 비교에서 제외된다
+alter table likes
+    add constraint uk_likes_user_post unique (user_id, post_id),
+    add constraint uk_likes_user_comment unique (user_id, comment_id);
+
+alter table follow
+    add constraint uk_follow_from_user_to_user unique (from_user_id, to_user_id);
+
+-- 2. 조회용 index - 아래 카운트 채우기(group by)도 이 index 를 사용
+create index idx_follow_to_user_id on follow (to_user_id, follow_id);
+create index idx_follow_from_user_id on follow (from_user_id, follow_id);
+create index idx_post_user_id on post (user_id, post_id);
+
+-- 3. 반정규화 카운트 컬럼 - 기존 데이터 기준으로 채운다 (이후에는 bulk update 와 CountReconcileScheduler 로 유지)
+alter table users
+    add column follower_count bigint not null default 0,
+    add column following_count bigint not null default 0,
+    add column post_count bigint not null default 0;
+
+alter table post
+    add column like_count bigint not null default 0,
+    add column comment_count bigint not null default 0;
+
+alter table comment
+    add column like_count bigint not null default 0;
+
+update users u
+    join (select to_user_id, count(*) as cnt from follow group by to_user_id) f on f.to_user_id = u.user_id
+set u.follower_count = f.cnt;
+
+update users u
+    join (select from_user_id, count(*) as cnt from follow group by from_user_id) f on f.from_user_id = u.user_id
+set u.following_count = f.cnt;
+
+update users u
+    join (select user_id, count(*) as cnt from post group by user_id) p on p.user_id = u.user_id
+set u.post_count = p.cnt;
+
+update post p
+    join (select post_id, count(*) as cnt from likes where post_id is not null group by post_id) l on l.post_id = p.post_id
+set p.like_count = l.cnt;
+
+update post p
+    join (select post_id, count(*) as cnt from comment group by post_id) c on c.post_id = p.post_id
+set p.comment_count = c.cnt;
+
+update comment c
+    join (select comment_id, count(*) as cnt from likes where comment_id is not null group by comment_id) l on l.comment_id = c.comment_id
+set c.like_count = l.cnt;
+
+-- 4. 이미지 변형(썸네일, 중간 크기) url - 기존 게시글은 비어 있고 원본 url 로 대신한다
+alter table post
+    add column medium_image varchar(255);
+
+alter table post_image
+    add column thumbnail_url varchar(255),
+    add column medium_url varchar(255);
+
+-- 5. 해시태그 사전, 역색인
+-- name 은 Tag.normalize 로 소문자화한 값을 그대로 비교해야 하므로 binary collation (기본 ai_ci 는 악센트만 다른 태그를 같은 값으로 봄)
+create table tag (
+    tag_id bigint not null,
+    name varchar(255) collate utf8mb4_bin not null,
+    post_count bigint not null default 0,
+    primary key (tag_id),
+    constraint uk_tag_name unique (name)
+) engine = InnoDB;
+
+create table tag_posting (
+    tag_posting_id bigint not null,
+    tag_id bigint not null,
+    post_id bigint not null,
+    primary key (tag_posting_id),
+    constraint uk_tag_posting_tag_post unique (tag_id, post_id),
+    index idx_tag_posting_post_id (post_id),
+    constraint fk_tag_posting_tag foreign key (tag_id) references tag (tag_id),
+    constraint fk_tag_posting_post foreign key (post_id) references post (post_id)
+) engine = InnoDB;
+
+-- 기존 게시글의 hashtag row 로 태그 사전, 역색인, post_count 를 채운다 (비어 있으면 배포 직후 검색/자동완성 결과가 없음)
+-- Tag.normalize 와 같은 규칙 (앞뒤 공백, 앞쪽 '#' 제거 후 소문자) - regexp_replace, row_number 는 MySQL 8.0 이상
+insert into tag (tag_id, name, post_count)
+select row_number() over (order by n.name), n.name, 0
+from (select distinct lower(regexp_replace(hashtag, '^[[:space:]#]+|[[:space:]]+$', '')) collate utf8mb4_bin as name
+      from hashtag) n
+where n.name <> '';
+
+insert into tag_posting (tag_posting_id, tag_id, post_id)
+select row_number() over (order by p.tag_id, p.post_id), p.tag_id, p.post_id
+from (select distinct t.tag_id, h.post_id
+      from hashtag h
+          join tag t on t.name = lower(regexp_replace(h.hashtag, '^[[:space:]#]+|[[:space:]]+$', '')) collate utf8mb4_bin
+      where h.post_id is not null) p;
+
+update tag t
+    join (select tag_id, count(*) as cnt from tag_posting group by tag_id) p on p.tag_id = t.tag_id
+set t.post_count = p.cnt;
+
+-- 6. S3 이미지 삭제 outbox
+create table object_deletion (
+    object_deletion_id bigint not null,
+    created_at datetime(6) not null,
+    modified_at datetime(6) not null,
+    path varchar(255) not null,
+    attempts integer not null default 0,
+    primary key (object_deletion_id)
+) engine = InnoDB;
+
+-- 7. 내용 해시 -> 업로드된 이미지 (기존 이미지는 등록하지 않고 이후 업로드부터 공유)
+create table stored_image (
+    stored_image_id bigint not null,
+    created_at datetime(6) not null,
+    modified_at datetime(6) not null,
+    hash varchar(64) not null,
+    image_url varchar(255) not null,
+    thumbnail_url varchar(255) not null,
+    medium_url varchar(255) not null,
+    ref_count bigint not null,
+    primary key (stored_image_id),
+    constraint uk_stored_image_hash unique (hash),
+    constraint uk_stored_image_image_url unique (image_url)
+) engine = InnoDB;
+
+-- 8. 피드 타임라인 운영 노드 lease (FeedNodeGuard, 한 row 만 사용 - 첫 기동 노드가 만든다)
+create table feed_node_lease (
+    feed_node_lease_id bigint not null,
+    owner varchar(255) not null,
+    expires_at datetime(6) not null,
+    primary key (feed_node_lease_id)
+) engine = InnoDB;
+
+-- 9. sequence - MySQL 은 sequence 가 없어 Hibernate 가 <sequenceName> 테이블(next_val 한 행)로 sequence 를 흉내낸다
+-- 위에서 만들고 채운 테이블 기준으로 다음 값을 MAX(id) + 1 로 시작 (pooled-lo, allocationSize = 50)
+-- 이미 값이 있는 sequence 테이블은 건너뛴다 (재실행해도 값을 되돌리지 않음)
+
+create table if not exists users_seq (next_val bigint) engine = InnoDB;
+insert into users_seq (next_val)
+select coalesce(max(user_id), 0) + 1 from users
+where not exists (select 1 from users_seq);
+
+create table if not exists hashtag_seq (next_val bigint) engine = InnoDB;
+insert into hashtag_seq (next_val)
+select coalesce(max(hashtag_id), 0) + 1 from hashtag
+where not exists (select 1 from hashtag_seq);
+
+create table if not exists tag_seq (next_val bigint) engine = InnoDB;
+insert into tag_seq (next_val)
+select coalesce(max(tag_id), 0) + 1 from tag
+where not exists (select 1 from tag_seq);
+
+create table if not exists tag_posting_seq (next_val bigint) engine = InnoDB;
+insert into tag_posting_seq (next_val)
+select coalesce(max(tag_posting_id), 0) + 1 from tag_posting
+where not exists (select 1 from tag_posting_seq);
+
+create table if not exists post_image_seq (next_val bigint) engine = InnoDB;
+insert into post_image_seq (next_val)
+select coalesce(max(post_image_id), 0) + 1 from post_image
+where not exists (select 1 from post_image_seq);
+
+create table if not exists object_deletion_seq (next_val bigint) engine = InnoDB;
+insert into object_deletion_seq (next_val)
+select coalesce(max(object_deletion_id), 0) + 1 from object_deletion
+where not exists (select 1 from object_deletion_seq);
+
+create table if not exists stored_image_seq (next_val bigint) engine = InnoDB;
+insert into stored_image_seq (next_val)
+select coalesce(max(stored_image_id), 0) + 1 from stored_image
+where not exists (select 1 from stored_image_seq);
@@ -1,50 +0,0 @@
-package com.example.hunstagram.config;
-
-import com.amazonaws.auth.AWSStaticCredentialsProvider;
-import com.amazonaws.auth.AnonymousAWSCredentials;
-import com.amazonaws.client.builder.AwsClientBuilder;
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.AmazonS3ClientBuilder;
-import io.findify.s3mock.S3Mock;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.test.context.TestConfiguration;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Primary;
-import org.springframework.context.annotation.Profile;
-
-/**
- * @author : Hunseong-Park
- * @date : 2022-11-16
- */
-@Profile("test")
-@TestConfiguration
-public class AwsS3MockConfig {
-    @Value("${cloud.aws.s3.bucket}")
-    public String bucket;
-
-    @Value("${cloud.aws.region.static}")
-    private String region;
-
-    @Bean
-    public S3Mock s3Mock() {
-        return new S3Mock.Builder().withPort(8001).withInMemoryBackend().build();
-    }
-
-    @Bean
-    @Primary
-    public AmazonS3 amazonS3(S3Mock s3Mock) {
-        s3Mock.start();
-        AwsClientBuilder.EndpointConfiguration endpoint =
-                new AwsClientBuilder.EndpointConfiguration("http://localhost:8001", region);
-
-        AmazonS3 client = AmazonS3ClientBuilder
-                .standard()
-                .withPathStyleAccessEnabled(true)
-                .withEndpointConfiguration(endpoint)
-                .withCredentials(new AWSStaticCredentialsProvider(new AnonymousAWSCredentials()))
-                .build();
-        client.createBucket(bucket);
-
-        return client;
-    }
-}
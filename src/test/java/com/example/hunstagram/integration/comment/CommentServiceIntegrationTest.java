@@ -12,8 +12,10 @@ import com.example.hunstagram.domain.post.entity.PostRepository;
 import com.example.hunstagram.domain.post.service.PostService;
 import com.example.hunstagram.domain.user.entity.User;
 import com.example.hunstagram.domain.user.entity.UserRepository;
+import com.example.hunstagram.global.aws.entity.StoredImageRepository;
 import com.example.hunstagram.global.exception.CustomException;
 import com.example.hunstagram.global.security.service.JwtService;
+import com.example.hunstagram.global.security.service.LoginUser;
 import com.example.hunstagram.global.type.RoleType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +27,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.AfterTransaction;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
@@ -67,6 +70,9 @@ public class CommentServiceIntegrationTest {
     @Autowired
     LikeRepository likeRepository;
 
+    @Autowired
+    StoredImageRepository storedImageRepository;
+
     @Autowired
     EntityManager em;
 
@@ -83,10 +89,17 @@ public class CommentServiceIntegrationTest {
         String accessToken = jwtService.createAccessToken(user.getEmail(), RoleType.USER, user.getId());
         List<SimpleGrantedAuthority> authorities
                 = Collections.singletonList(new SimpleGrantedAuthority(RoleType.USER.getKey()));
-        Authentication authToken = new UsernamePasswordAuthenticationToken(user.getEmail(), accessToken, authorities);
+        Authentication authToken = new UsernamePasswordAuthenticationToken(
+                new LoginUser(user.getId(), user.getEmail(), RoleType.USER), accessToken, authorities);
         SecurityContextHolder.getContext().setAuthentication(authToken);
     }
 
+    // 이미지 참조 수는 업로드 스레드에서 별도 트랜잭션으로 커밋되므로 테스트 트랜잭션 종료 후 직접 정리
+    @AfterTransaction
+    void clearStoredImages() {
+        storedImageRepository.deleteAllInBatch();
+    }
+
     @DisplayName("comment 등록에 성공한다")
     @Test
     void create_comment_success() throws IOException {
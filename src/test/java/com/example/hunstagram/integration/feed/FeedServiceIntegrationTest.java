@@ -0,0 +1,134 @@
+package com.example.hunstagram.integration.feed;
+
+import com.example.hunstagram.domain.feed.dto.FeedDto;
+import com.example.hunstagram.domain.feed.service.FeedFanoutService;
+import com.example.hunstagram.domain.feed.service.FeedService;
+import com.example.hunstagram.domain.follow.entity.Follow;
+import com.example.hunstagram.domain.follow.entity.FollowRepository;
+import com.example.hunstagram.domain.post.entity.Post;
+import com.example.hunstagram.domain.post.entity.PostRepository;
+import com.example.hunstagram.domain.user.entity.User;
+import com.example.hunstagram.domain.user.entity.UserRepository;
+import com.example.hunstagram.global.dto.CursorResponse;
+import com.example.hunstagram.global.security.service.JwtService;
+import com.example.hunstagram.global.security.service.LoginUser;
+import com.example.hunstagram.global.type.RoleType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest
+public class FeedServiceIntegrationTest {
+
+    @Autowired
+    FeedService feedService;
+
+    @Autowired
+    FeedFanoutService feedFanoutService;
+
+    @Autowired
+    JwtService jwtService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    FollowRepository followRepository;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    EntityManager em;
+
+    private User createUser(Long id) {
+        return User.builder()
+                .email("test" + id + "@test.com")
+                .password("test123!" + id)
+                .name("test" + id)
+                .nickname("test" + id)
+                .build();
+    }
+
+    private Post createPost(User user, String content) {
+        Post post = Post.builder()
+                .content(content)
+                .user(user)
+                .thumbnailImage("thumbnail")
+                .build();
+        return postRepository.save(post);
+    }
+
+    private void loginUser(User user) {
+        String accessToken = jwtService.createAccessToken(user.getEmail(), RoleType.USER, user.getId());
+        List<SimpleGrantedAuthority> authorities
+                = Collections.singletonList(new SimpleGrantedAuthority(RoleType.USER.getKey()));
+        Authentication authToken = new UsernamePasswordAuthenticationToken(
+                new LoginUser(user.getId(), user.getEmail(), RoleType.USER), accessToken, authorities);
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
+
+    @DisplayName("팔로우 중인 사용자의 게시글만 최신순으로 피드에 노출되고, 새 게시글은 fan-out 으로 반영된다")
+    @Test
+    void get_feed_success() {
+
+        // given
+        User me = createUser(1L);
+        User followee = createUser(2L);
+        User stranger = createUser(3L);
+        userRepository.save(me);
+        userRepository.save(followee);
+        userRepository.save(stranger);
+        followRepository.save(Follow.builder().fromUser(me).toUser(followee).build());
+
+        Post post1 = createPost(followee, "post1");
+        Post post2 = createPost(followee, "post2");
+        createPost(stranger, "stranger");
+        em.flush();
+        em.clear();
+
+        loginUser(me);
+
+        // when - 첫 조회 시 DB 기준으로 타임라인 구성
+        CursorResponse<FeedDto.Response> first = feedService.getFeed(null, 10);
+
+        // then
+        assertThat(first.getContent()).extracting(FeedDto.Response::getPostId)
+                .containsExactly(post2.getId(), post1.getId());
+        assertThat(first.getContent().get(0).getWriterNickname()).isEqualTo(followee.getNickname());
+
+        // when - 이후 등록된 게시글은 fan-out 으로 push
+        Post post3 = createPost(followee, "post3");
+        em.flush();
+        feedFanoutService.fanout(followee.getId(), post3.getId());
+        CursorResponse<FeedDto.Response> page1 = feedService.getFeed(null, 2);
+        CursorResponse<FeedDto.Response> page2 = feedService.getFeed(page1.getNextCursor(), 2);
+
+        // then
+        assertThat(page1.getContent()).extracting(FeedDto.Response::getPostId)
+                .containsExactly(post3.getId(), post2.getId());
+        assertThat(page1.isHasNext()).isTrue();
+        assertThat(page2.getContent()).extracting(FeedDto.Response::getPostId)
+                .containsExactly(post1.getId());
+        assertThat(page2.isHasNext()).isFalse();
+    }
+}
@@ -6,13 +6,18 @@ import com.example.hunstagram.domain.follow.entity.FollowRepository;
 import com.example.hunstagram.domain.follow.service.FollowService;
 import com.example.hunstagram.domain.user.entity.User;
 import com.example.hunstagram.domain.user.entity.UserRepository;
+import com.example.hunstagram.global.dto.CursorResponse;
 import com.example.hunstagram.global.exception.CustomException;
 import com.example.hunstagram.global.security.service.JwtService;
+import com.example.hunstagram.global.security.service.LoginUser;
 import com.example.hunstagram.global.type.RoleType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -22,9 +27,12 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import static com.example.hunstagram.global.exception.CustomErrorCode.INVALID_CURSOR;
 import static com.example.hunstagram.global.exception.CustomErrorCode.USER_NOT_FOUND;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -47,6 +55,9 @@ public class FollowServiceIntegrationTest {
     @Autowired
     FollowRepository followRepository;
 
+    @Autowired
+    EntityManager em;
+
     @Autowired
     UserRepository userRepository;
 
@@ -63,7 +74,8 @@ public class FollowServiceIntegrationTest {
         String accessToken = jwtService.createAccessToken(user.getEmail(), RoleType.USER, user.getId());
         List<SimpleGrantedAuthority> authorities
                 = Collections.singletonList(new SimpleGrantedAuthority(RoleType.USER.getKey()));
-        Authentication authToken = new UsernamePasswordAuthenticationToken(user.getEmail(), accessToken, authorities);
+        Authentication authToken = new UsernamePasswordAuthenticationToken(
+                new LoginUser(user.getId(), user.getEmail(), RoleType.USER), accessToken, authorities);
         SecurityContextHolder.getContext().setAuthentication(authToken);
     }
 
@@ -159,6 +171,28 @@ public class FollowServiceIntegrationTest {
         assertThat(follow).isNull();
     }
 
+    @DisplayName("같은 사용자 간 follow 는 unique 제약으로 중복 저장되지 않는다")
+    @Test
+    void follow_duplicate_row_fail() {
+
+        // given
+        User fromUser = createUser(1L);
+        User toUser = createUser(2L);
+        userRepository.save(fromUser);
+        userRepository.save(toUser);
+        followRepository.saveAndFlush(Follow.builder()
+                .fromUser(fromUser)
+                .toUser(toUser)
+                .build());
+
+        // when & then
+        Follow duplicate = Follow.builder()
+                .fromUser(fromUser)
+                .toUser(toUser)
+                .build();
+        assertThrows(DataIntegrityViolationException.class, () -> followRepository.saveAndFlush(duplicate));
+    }
+
     @DisplayName("followee 목록 조회에 성공한다")
     @Test
     void followee_list_success() {
@@ -286,4 +320,116 @@ public class FollowServiceIntegrationTest {
                 () -> followService.getFollowingList(PageRequest.of(0, 10), 3L));
         assertThat(e.getErrorCode()).isEqualTo(USER_NOT_FOUND);
     }
+
+    @DisplayName("followee 목록을 커서로 끝까지 조회한다 - 최신 팔로우 순")
+    @Test
+    void followee_list_by_cursor_success() {
+
+        // given
+        User toUser = createUser(0L);
+        userRepository.save(toUser);
+        List<User> fromUsers = new ArrayList<>();
+        for (long i = 1; i <= 5; i++) {
+            User fromUser = createUser(i);
+            userRepository.save(fromUser);
+            followRepository.save(Follow.builder()
+                    .fromUser(fromUser)
+                    .toUser(toUser)
+                    .build());
+            fromUsers.add(fromUser);
+        }
+
+        // when
+        CursorResponse<FollowDto.ListResponse> page1 =
+                followService.getFolloweeListByCursor(null, 2, toUser.getId());
+        CursorResponse<FollowDto.ListResponse> page2 =
+                followService.getFolloweeListByCursor(page1.getNextCursor(), 2, toUser.getId());
+        CursorResponse<FollowDto.ListResponse> page3 =
+                followService.getFolloweeListByCursor(page2.getNextCursor(), 2, toUser.getId());
+
+        // then
+        assertThat(page1.getContent()).extracting(FollowDto.ListResponse::getNickname)
+                .containsExactly(fromUsers.get(4).getNickname(), fromUsers.get(3).getNickname());
+        assertThat(page1.isHasNext()).isTrue();
+        assertThat(page2.getContent()).extracting(FollowDto.ListResponse::getNickname)
+                .containsExactly(fromUsers.get(2).getNickname(), fromUsers.get(1).getNickname());
+        assertThat(page2.isHasNext()).isTrue();
+        assertThat(page3.getContent()).extracting(FollowDto.ListResponse::getNickname)
+                .containsExactly(fromUsers.get(0).getNickname());
+        assertThat(page3.isHasNext()).isFalse();
+        assertThat(page3.getNextCursor()).isNull();
+    }
+
+    @DisplayName("following 목록을 커서로 조회한다")
+    @Test
+    void following_list_by_cursor_success() {
+
+        // given
+        User fromUser = createUser(0L);
+        User toUser1 = createUser(1L);
+        User toUser2 = createUser(2L);
+        userRepository.save(fromUser);
+        userRepository.save(toUser1);
+        userRepository.save(toUser2);
+        followRepository.save(Follow.builder().fromUser(fromUser).toUser(toUser1).build());
+        followRepository.save(Follow.builder().fromUser(fromUser).toUser(toUser2).build());
+
+        // when
+        CursorResponse<FollowDto.ListResponse> result =
+                followService.getFollowingListByCursor(null, null, fromUser.getId());
+
+        // then
+        assertThat(result.getContent()).extracting(FollowDto.ListResponse::getNickname)
+                .containsExactly(toUser2.getNickname(), toUser1.getNickname());
+        assertThat(result.isHasNext()).isFalse();
+    }
+
+    @DisplayName("커서 목록 조회 시, 잘못된 커서면 실패한다")
+    @Test
+    void follow_list_by_invalid_cursor_fail() {
+
+        // given
+        User user = createUser(1L);
+        userRepository.save(user);
+
+        // when & then
+        CustomException e = assertThrows(CustomException.class,
+                () -> followService.getFolloweeListByCursor("not-a-cursor", 10, user.getId()));
+        assertThat(e.getErrorCode()).isEqualTo(INVALID_CURSOR);
+    }
+
+    @DisplayName("followee 목록 조회 시 User 엔티티를 로딩하지 않고 한 번의 쿼리로 조회한다")
+    @Test
+    void followee_list_projection_single_query() {
+
+        // given
+        User toUser = createUser(0L);
+        userRepository.save(toUser);
+        for (long i = 1; i <= 5; i++) {
+            User fromUser = createUser(i);
+            userRepository.save(fromUser);
+            followRepository.save(Follow.builder()
+                    .fromUser(fromUser)
+                    .toUser(toUser)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        CursorResponse<FollowDto.ListResponse> result =
+                followService.getFolloweeListByCursor(null, 10, toUser.getId());
+
+        // then
+        // * 사용자 존재 확인 1 + 목록 조회 1
+        assertThat(result.getContent()).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
 }
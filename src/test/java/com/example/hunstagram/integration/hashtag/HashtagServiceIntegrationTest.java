@@ -0,0 +1,217 @@
+package com.example.hunstagram.integration.hashtag;
+
+import com.example.hunstagram.domain.hashtag.dto.HashtagDto;
+import com.example.hunstagram.domain.hashtag.entity.Tag;
+import com.example.hunstagram.domain.hashtag.entity.TagRepository;
+import com.example.hunstagram.domain.hashtag.service.HashtagService;
+import com.example.hunstagram.domain.hashtag.store.HashtagAutocompleteStore;
+import com.example.hunstagram.domain.post.dto.PostDto;
+import com.example.hunstagram.domain.post.entity.Post;
+import com.example.hunstagram.domain.post.entity.PostRepository;
+import com.example.hunstagram.domain.user.entity.User;
+import com.example.hunstagram.domain.user.entity.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest
+public class HashtagServiceIntegrationTest {
+
+    @Autowired
+    HashtagService hashtagService;
+
+    @Autowired
+    HashtagAutocompleteStore hashtagAutocompleteStore;
+
+    @Autowired
+    TagRepository tagRepository;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    EntityManager em;
+
+    // PostService 처럼 태그 등록 후 색인
+    private Post createPost(User user, List<String> hashtags) {
+        hashtagService.registerTags(hashtags);
+        Post post = postRepository.save(Post.builder()
+                .content("content")
+                .user(user)
+                .thumbnailImage("thumbnail")
+                .build());
+        hashtagService.index(post, hashtags);
+        return post;
+    }
+
+    @DisplayName("태그별 게시글을 최신순 커서 페이지로 조회하고, 쿼리는 2번만 실행한다")
+    @Test
+    void search_success() {
+
+        // given
+        User user = userRepository.save(User.builder()
+                .email("test1@test.com")
+                .password("test123!1")
+                .name("test1")
+                .nickname("test1")
+                .build());
+        Post post1 = createPost(user, List.of("Spring", "jpa"));
+        Post post2 = createPost(user, List.of("#spring"));
+        createPost(user, List.of("java"));
+        Post post4 = createPost(user, List.of("SPRING", "spring"));
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        HashtagDto.SearchResponse first = hashtagService.search("spring", null, 2);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(first.getPostCount()).isEqualTo(3L);
+        assertThat(first.getPosts().getContent()).extracting(PostDto.PostThumbnailResponse::getPostId)
+                .containsExactly(post4.getId(), post2.getId());
+        assertThat(first.getPosts().isHasNext()).isTrue();
+
+        // when
+        HashtagDto.SearchResponse second = hashtagService.search("spring", first.getPosts().getNextCursor(), 2);
+
+        // then
+        assertThat(second.getPosts().getContent()).extracting(PostDto.PostThumbnailResponse::getPostId)
+                .containsExactly(post1.getId());
+        assertThat(second.getPosts().isHasNext()).isFalse();
+    }
+
+    @DisplayName("색인 해제 시 해당 게시글이 검색되지 않고 태그별 게시글 수가 줄어든다")
+    @Test
+    void unindex_success() {
+
+        // given
+        User user = userRepository.save(User.builder()
+                .email("test1@test.com")
+                .password("test123!1")
+                .name("test1")
+                .nickname("test1")
+                .build());
+        Post post1 = createPost(user, List.of("spring"));
+        Post post2 = createPost(user, List.of("spring"));
+
+        // when
+        hashtagService.unindex(post2.getId());
+        em.flush();
+        em.clear();
+
+        // then
+        HashtagDto.SearchResponse response = hashtagService.search("spring", null, null);
+        assertThat(response.getPostCount()).isEqualTo(1L);
+        assertThat(response.getPosts().getContent()).extracting(PostDto.PostThumbnailResponse::getPostId)
+                .containsExactly(post1.getId());
+        assertThat(tagRepository.findByName("spring")).map(Tag::getPostCount).hasValue(1L);
+    }
+
+    @DisplayName("태그 사전으로 자동완성 trie 를 구성하고, 게시글 수 순으로 추천한다")
+    @Test
+    void autocomplete_after_rebuild() {
+
+        // given
+        User user = userRepository.save(User.builder()
+                .email("test1@test.com")
+                .password("test123!1")
+                .name("test1")
+                .nickname("test1")
+                .build());
+        createPost(user, List.of("spring", "springboot"));
+        createPost(user, List.of("springboot"));
+        createPost(user, List.of("sports"));
+        em.flush();
+        em.clear();
+
+        // when
+        hashtagAutocompleteStore.rebuild();
+        List<HashtagDto.AutocompleteResponse> response = hashtagService.autocomplete("Spr", 5);
+
+        // then
+        assertThat(response).extracting(HashtagDto.AutocompleteResponse::getTag)
+                .containsExactly("springboot", "spring");
+        assertThat(response.get(0).getPostCount()).isEqualTo(2L);
+    }
+
+    @DisplayName("두 게시글이 같은 새 태그로 동시에 색인되어도 모두 성공하고 태그는 하나만 등록된다")
+    @Transactional(propagation = NOT_SUPPORTED)
+    @Test
+    void index_same_new_tag_concurrently() throws Exception {
+
+        // given
+        User user = userRepository.save(User.builder()
+                .email("race@test.com")
+                .password("test123!1")
+                .name("race")
+                .nickname("race")
+                .build());
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<Post> posts = new CopyOnWriteArrayList<>();
+        Callable<Void> task = () -> {
+            barrier.await();
+            // 게시글 트랜잭션을 열기 전에 태그를 등록 (PostService.createPost 와 같은 순서)
+            hashtagService.registerTags(List.of("race"));
+            transactionTemplate.executeWithoutResult(status -> posts.add(createPost(user, List.of("race"))));
+            return null;
+        };
+
+        try {
+            // when
+            List<Future<Void>> results = executor.invokeAll(List.of(task, task));
+
+            // then
+            for (Future<Void> result : results) {
+                result.get();
+            }
+            assertThat(tagRepository.findByName("race")).map(Tag::getPostCount).hasValue(2L);
+            assertThat(hashtagService.search("race", null, null).getPosts().getContent())
+                    .extracting(PostDto.PostThumbnailResponse::getPostId)
+                    .containsExactlyInAnyOrderElementsOf(posts.stream().map(Post::getId).toList());
+        } finally {
+            executor.shutdown();
+            transactionTemplate.executeWithoutResult(status -> posts.forEach(p -> hashtagService.unindex(p.getId())));
+            postRepository.deleteAll(posts);
+            tagRepository.deleteAllInBatch();
+            userRepository.delete(user);
+        }
+    }
+}
@@ -1,31 +1,46 @@
 package com.example.hunstagram.integration.post;
 
-import com.example.hunstagram.config.AwsS3MockConfig;
+import com.example.hunstagram.domain.comment.entity.Comment;
+import com.example.hunstagram.domain.comment.entity.CommentRepository;
+import com.example.hunstagram.domain.hashtag.dto.HashtagDto;
 import com.example.hunstagram.domain.hashtag.entity.Hashtag;
 import com.example.hunstagram.domain.hashtag.entity.HashtagRepository;
 import com.example.hunstagram.domain.like.dto.LikeDto;
+import com.example.hunstagram.domain.like.entity.Like;
 import com.example.hunstagram.domain.like.entity.LikeRepository;
+import com.example.hunstagram.domain.like.service.LikeCountBuffer;
 import com.example.hunstagram.domain.post.dto.PostDto;
 import com.example.hunstagram.domain.post.entity.Post;
 import com.example.hunstagram.domain.post.entity.PostRepository;
 import com.example.hunstagram.domain.post.service.PostService;
+import com.example.hunstagram.domain.postimage.entity.PostImage;
+import com.example.hunstagram.domain.postimage.entity.PostImageRepository;
 import com.example.hunstagram.domain.user.entity.User;
 import com.example.hunstagram.domain.user.entity.UserRepository;
+import com.example.hunstagram.global.aws.entity.ObjectDeletion;
+import com.example.hunstagram.global.aws.entity.ObjectDeletionRepository;
+import com.example.hunstagram.global.aws.entity.StoredImage;
+import com.example.hunstagram.global.aws.entity.StoredImageRepository;
 import com.example.hunstagram.global.exception.CustomException;
+import com.example.hunstagram.global.scheduler.CountReconcileScheduler;
 import com.example.hunstagram.global.security.service.JwtService;
+import com.example.hunstagram.global.security.service.LoginUser;
 import com.example.hunstagram.global.type.RoleType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.context.annotation.Import;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.AfterTransaction;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 import javax.persistence.EntityManager;
 import java.io.FileInputStream;
@@ -43,7 +58,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
  * @author : Hunseong-Park
  * @date : 2022-11-23
  */
-@Import(AwsS3MockConfig.class)
 @ActiveProfiles("test")
 @Transactional
 @SpringBootTest
@@ -67,6 +81,24 @@ public class PostServiceIntegrationTest {
     @Autowired
     LikeRepository likeRepository;
 
+    @Autowired
+    PostImageRepository postImageRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    ObjectDeletionRepository objectDeletionRepository;
+
+    @Autowired
+    StoredImageRepository storedImageRepository;
+
+    @Autowired
+    LikeCountBuffer likeCountBuffer;
+
+    @Autowired
+    CountReconcileScheduler countReconcileScheduler;
+
     @Autowired
     EntityManager em;
 
@@ -83,10 +115,17 @@ public class PostServiceIntegrationTest {
         String accessToken = jwtService.createAccessToken(user.getEmail(), RoleType.USER, user.getId());
         List<SimpleGrantedAuthority> authorities
                 = Collections.singletonList(new SimpleGrantedAuthority(RoleType.USER.getKey()));
-        Authentication authToken = new UsernamePasswordAuthenticationToken(user.getEmail(), accessToken, authorities);
+        Authentication authToken = new UsernamePasswordAuthenticationToken(
+                new LoginUser(user.getId(), user.getEmail(), RoleType.USER), accessToken, authorities);
         SecurityContextHolder.getContext().setAuthentication(authToken);
     }
 
+    // 이미지 참조 수는 업로드 스레드에서 별도 트랜잭션으로 커밋되므로 테스트 트랜잭션 종료 후 직접 정리
+    @AfterTransaction
+    void clearStoredImages() {
+        storedImageRepository.deleteAllInBatch();
+    }
+
     @DisplayName("post 등록에 성공한다 (content, hashtag 존재)")
     @Test
     void create_post_success_with_content_hashtag() throws IOException {
@@ -126,6 +165,78 @@ public class PostServiceIntegrationTest {
         assertThat(findHashtags.get(1).getHashtag()).isEqualTo(hashtags.get(1));
     }
 
+    @DisplayName("post 등록 시 썸네일, 중간 크기 변형 이미지를 함께 저장하고 url 을 기록한다")
+    @Test
+    void create_post_image_variants_success() throws IOException {
+
+        // given
+        User user = createUser(1L);
+        userRepository.save(user);
+
+        loginUser(user);
+
+        String filePath = "src/test/resources/img/tet.png";
+        MockMultipartFile image
+                = new MockMultipartFile("images", "tet", "image/png", new FileInputStream(filePath));
+
+        // when
+        postService.createPost(null, List.of(image));
+
+        // then
+        Post post = postRepository.findAll().get(0);
+        PostImage postImage = postImageRepository.findAll().get(0);
+        assertThat(postImage.getImageUrl()).endsWith(".png");
+        assertThat(postImage.getThumbnailUrl()).endsWith("_thumb.jpg");
+        assertThat(postImage.getMediumUrl()).endsWith("_medium.jpg");
+        assertThat(post.getThumbnailImage()).isEqualTo(postImage.getThumbnailUrl());
+        assertThat(post.getMediumImage()).isEqualTo(postImage.getMediumUrl());
+    }
+
+    @DisplayName("post 등록 시 insert 가 테이블별 JDBC batch 로 묶인다 (이미지 10개, 해시태그 20개)")
+    @Test
+    void create_post_batch_insert() throws IOException {
+
+        // given
+        User user = createUser(1L);
+        userRepository.save(user);
+        em.flush();
+        em.clear();
+
+        loginUser(user);
+
+        List<String> hashtags = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            hashtags.add("hash" + i);
+        }
+        PostDto.Request requestDto = PostDto.Request.builder()
+                .content("content")
+                .hashtags(hashtags)
+                .build();
+
+        String filePath = "src/test/resources/img/tet.png";
+        List<MultipartFile> images = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            images.add(new MockMultipartFile("images", "tet" + i, "image/png", new FileInputStream(filePath)));
+        }
+
+        Statistics statistics = em.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        postService.createPost(requestDto, images);
+        em.flush();
+
+        // then - post 1 + image 10 + hashtag 20 + tag 20 + tag posting 20
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(71);
+        // IDENTITY 였다면 insert 만 71번, 지금은 테이블별 insert batch + sequence 조회 + 조회/카운트 쿼리
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+        assertThat(hashtagRepository.count()).isEqualTo(20);
+        assertThat(postImageRepository.count()).isEqualTo(10);
+    }
+
     @DisplayName("post 등록에 성공한다 (content 존재)")
     @Test
     void create_post_success_with_content() throws IOException {
@@ -442,6 +553,54 @@ public class PostServiceIntegrationTest {
         assertThat(changedPost.getHashtags().get(2).getHashtag()).isEqualTo(changedHashtags.get(2));
     }
 
+    @DisplayName("post 수정 시 바뀐 해시태그만 반영하고 유지된 row 는 그대로 둔다")
+    @Test
+    void update_post_hashtag_diff_success() {
+
+        // given
+        User user = createUser(1L);
+        userRepository.save(user);
+
+        Post post = Post.builder()
+                .content("content")
+                .user(user)
+                .thumbnailImage("image")
+                .build();
+        postRepository.save(post);
+
+        Hashtag hash1 = hashtagRepository.save(new Hashtag("hash1", post));
+        Hashtag hash2 = hashtagRepository.save(new Hashtag("hash2", post));
+        hashtagRepository.save(new Hashtag("hash3", post));
+
+        em.flush();
+        em.clear();
+
+        PostDto.Request requestDto = PostDto.Request.builder()
+                .content(post.getContent())
+                .hashtags(List.of("hash1", "hash2", "hash4"))
+                .build();
+
+        loginUser(user);
+
+        Statistics statistics = em.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        postService.updatePost(requestDto, post.getId());
+        em.flush();
+
+        // then - row 단위 delete 없이 bulk delete 1번
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        em.clear();
+        List<Hashtag> findHashtags = hashtagRepository.findAll();
+        assertThat(findHashtags).extracting(Hashtag::getHashtag).containsExactly("hash1", "hash2", "hash4");
+        assertThat(findHashtags.get(0).getId()).isEqualTo(hash1.getId());
+        assertThat(findHashtags.get(1).getId()).isEqualTo(hash2.getId());
+    }
+
     @DisplayName("post 수정 시 post가 없으면 실패한다")
     @Test
     void update_post_not_found_fail() {
@@ -543,9 +702,68 @@ public class PostServiceIntegrationTest {
         em.flush();
         em.clear();
 
-        // when & then
+        // when
         Post post = postRepository.findAll().get(0);
+        PostImage postImage = postImageRepository.findAll().get(0);
         postService.deletePost(post.getId());
+
+        // then - 원본, 변형 S3 이미지는 삭제 outbox 에 기록된다
+        assertThat(postRepository.findById(post.getId())).isEmpty();
+        assertThat(objectDeletionRepository.findAll())
+                .extracting(ObjectDeletion::getPath)
+                .containsExactlyInAnyOrder(
+                        postImage.getImageUrl(), postImage.getThumbnailUrl(), postImage.getMediumUrl());
+    }
+
+    @DisplayName("같은 내용의 이미지는 한 번만 저장되고, 마지막 참조가 삭제될 때 S3 삭제 outbox 에 기록된다")
+    @Test
+    void delete_post_shared_image_success() throws IOException {
+        // given
+        User user = createUser(1L);
+        userRepository.save(user);
+
+        loginUser(user);
+
+        String filePath = "src/test/resources/img/tet.png";
+        postService.createPost(null, List.of(
+                new MockMultipartFile("images", "tet", "image/png", new FileInputStream(filePath))));
+        postService.createPost(null, List.of(
+                new MockMultipartFile("images", "copy", "image/png", new FileInputStream(filePath))));
+
+        em.flush();
+        em.clear();
+
+        List<Post> posts = postRepository.findAll();
+        List<PostImage> postImages = postImageRepository.findAll();
+        assertThat(postImages).hasSize(2);
+        assertThat(postImages.get(1).getImageUrl()).isEqualTo(postImages.get(0).getImageUrl());
+        StoredImage storedImage = storedImageRepository.findAll().get(0);
+        assertThat(storedImage.getRefCount()).isEqualTo(2);
+        assertThat(postImages.get(0).getImageUrl()).contains(storedImage.getHash());
+
+        // when - 첫 번째 게시글 삭제
+        postService.deletePost(posts.get(0).getId());
+        em.flush();
+        em.clear();
+
+        // then - 다른 게시글이 참조 중이므로 삭제하지 않는다
+        assertThat(objectDeletionRepository.findAll()).isEmpty();
+        assertThat(storedImageRepository.findByHash(storedImage.getHash()))
+                .get()
+                .extracting(StoredImage::getRefCount)
+                .isEqualTo(1L);
+
+        // when - 마지막 참조 삭제
+        postService.deletePost(posts.get(1).getId());
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(storedImageRepository.findByHash(storedImage.getHash())).isEmpty();
+        assertThat(objectDeletionRepository.findAll())
+                .extracting(ObjectDeletion::getPath)
+                .containsExactlyInAnyOrder(
+                        storedImage.getImageUrl(), storedImage.getThumbnailUrl(), storedImage.getMediumUrl());
     }
 
     @DisplayName("post 삭제 시, post가 존재하지 않으면 실패한다")
@@ -640,6 +858,43 @@ public class PostServiceIntegrationTest {
         assertThat(likeRepository.findAll().size()).isEqualTo(0);
     }
 
+    @DisplayName("카운트 보정은 어긋난 좋아요/댓글 수를 실제 row 수로 되돌리고, 버퍼에 남은 좋아요 증감을 다시 더하지 않는다")
+    @Test
+    void reconcile_repairs_drifted_counts() throws InterruptedException {
+
+        // given
+        User user = createUser(1L);
+        userRepository.save(user);
+        Post post = Post.builder()
+                .content("content")
+                .user(user)
+                .thumbnailImage("test")
+                .build();
+        postRepository.save(post);
+        likeRepository.save(Like.builder().user(user).post(post).build());
+        commentRepository.save(Comment.builder().user(user).post(post).content("test").build());
+        em.flush();
+
+        // 서비스를 거치지 않은 증감으로 카운트가 어긋난 상태
+        postRepository.addLikeCount(post.getId(), 5);
+        postRepository.addCommentCount(post.getId(), -3);
+
+        // 좋아요 row 는 커밋됐지만 증감은 아직 버퍼에 남은 상태 (afterCommit 처럼 테스트 트랜잭션 밖의 스레드에서 추가)
+        Thread committed = new Thread(() -> likeCountBuffer.addPostLike(post.getId(), 1));
+        committed.start();
+        committed.join();
+
+        // when
+        countReconcileScheduler.reconcile();
+        likeCountBuffer.flush();
+        em.clear();
+
+        // then
+        Post reconciled = postRepository.findById(post.getId()).get();
+        assertThat(reconciled.getLikeCount()).isEqualTo(1);
+        assertThat(reconciled.getCommentCount()).isEqualTo(1);
+    }
+
     @DisplayName("post 좋아요 시 게시글이 존재하지 않으면 실패한다")
     @Test
     void like_post_not_found_fail() {
@@ -697,4 +952,66 @@ public class PostServiceIntegrationTest {
                 () -> postService.like(postRepository.findAll().get(0).getId()));
         assertThat(e.getErrorCode()).isEqualTo(USER_NOT_FOUND);
     }
+
+    @DisplayName("post 상세 조회에 성공한다 - 댓글/이미지 수와 무관하게 쿼리 4번")
+    @Test
+    void get_post_success_fixed_query_count() {
+
+        // given
+        User writer = createUser(1L);
+        User commenter = createUser(2L);
+        userRepository.save(writer);
+        userRepository.save(commenter);
+
+        Post post = Post.builder()
+                .content("content")
+                .user(writer)
+                .thumbnailImage("image1")
+                .build();
+        postRepository.save(post);
+        Stream.of("image1", "image2", "image3")
+                .forEach(i -> postImageRepository.save(new PostImage(i, post)));
+        hashtagRepository.save(new Hashtag("hash1", post));
+        hashtagRepository.save(new Hashtag("hash2", post));
+        for (int i = 0; i < 25; i++) {
+            commentRepository.save(Comment.builder()
+                    .post(post)
+                    .user(i % 2 == 0 ? writer : commenter)
+                    .content("comment" + i)
+                    .build());
+        }
+
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        PostDto.PostResponse response = postService.getPost(post.getId());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(response.getPostId()).isEqualTo(post.getId());
+        assertThat(response.getWriterId()).isEqualTo(writer.getId());
+        assertThat(response.getWriterNickname()).isEqualTo(writer.getNickname());
+        assertThat(response.getContent()).isEqualTo("content");
+        assertThat(response.getImages()).containsExactly("image1", "image2", "image3");
+        assertThat(response.getHashtags()).extracting(HashtagDto.Response::getHashtag)
+                .containsExactly("hash1", "hash2");
+        assertThat(response.getComments()).hasSize(20);
+        assertThat(response.getComments().get(1).getWriterNickname()).isEqualTo(commenter.getNickname());
+    }
+
+    @DisplayName("post 상세 조회 시 게시글이 존재하지 않으면 실패한다")
+    @Test
+    void get_post_not_found_fail() {
+
+        // when & then
+        CustomException e = assertThrows(CustomException.class, () -> postService.getPost(1L));
+        assertThat(e.getErrorCode()).isEqualTo(POST_NOT_FOUND);
+    }
 }
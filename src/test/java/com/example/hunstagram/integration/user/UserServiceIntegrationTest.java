@@ -1,9 +1,9 @@
 package com.example.hunstagram.integration.user;
 
 import com.auth0.jwt.JWT;
-import com.example.hunstagram.config.AwsS3MockConfig;
 import com.example.hunstagram.domain.follow.entity.Follow;
 import com.example.hunstagram.domain.follow.entity.FollowRepository;
+import com.example.hunstagram.domain.post.dto.PostDto;
 import com.example.hunstagram.domain.post.entity.Post;
 import com.example.hunstagram.domain.post.entity.PostRepository;
 import com.example.hunstagram.domain.postimage.entity.PostImage;
@@ -12,14 +12,16 @@ import com.example.hunstagram.domain.user.dto.UserDto;
 import com.example.hunstagram.domain.user.entity.User;
 import com.example.hunstagram.domain.user.entity.UserRepository;
 import com.example.hunstagram.domain.user.service.UserService;
+import com.example.hunstagram.global.dto.CursorResponse;
 import com.example.hunstagram.global.exception.CustomException;
+import com.example.hunstagram.global.scheduler.CountReconcileScheduler;
 import com.example.hunstagram.global.security.service.JwtService;
+import com.example.hunstagram.global.security.service.LoginUser;
 import com.example.hunstagram.global.type.RoleType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.context.annotation.Import;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -31,6 +33,7 @@ import org.springframework.transaction.annotation.Transactional;
 import javax.persistence.EntityManager;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
@@ -46,7 +49,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
  * @author : Hunseong-Park
  * @date : 2022-11-14
  */
-@Import(AwsS3MockConfig.class)
 @ActiveProfiles("test")
 @Transactional
 @SpringBootTest
@@ -70,6 +72,9 @@ public class UserServiceIntegrationTest {
     @Autowired
     FollowRepository followRepository;
 
+    @Autowired
+    CountReconcileScheduler countReconcileScheduler;
+
     @Autowired
     EntityManager em;
 
@@ -82,6 +87,13 @@ public class UserServiceIntegrationTest {
                 .build();
     }
 
+    // fixture 로 직접 저장한 팔로우/게시글을 반정규화 카운트에 반영 (서비스를 거치지 않아 카운트가 갱신되지 않음)
+    private void reconcileCounts() {
+        em.flush();
+        countReconcileScheduler.reconcile();
+        em.clear();
+    }
+
     @DisplayName("회원가입을 위한 email, pw 입력에 성공한다")
     @Test
     void signup_email_pw_success() {
@@ -363,7 +375,8 @@ public class UserServiceIntegrationTest {
         // SecurityContextHolder에 accessToken 포함하여 저장
         List<SimpleGrantedAuthority> authorities
                 = Collections.singletonList(new SimpleGrantedAuthority(RoleType.USER.getKey()));
-        Authentication authToken = new UsernamePasswordAuthenticationToken(email, accessToken, authorities);
+        Authentication authToken = new UsernamePasswordAuthenticationToken(
+                new LoginUser(user.getId(), email, RoleType.USER), accessToken, authorities);
         SecurityContextHolder.getContext().setAuthentication(authToken);
 
         // when
@@ -401,7 +414,8 @@ public class UserServiceIntegrationTest {
         // SecurityContextHolder에 accessToken 포함하여 저장
         List<SimpleGrantedAuthority> authorities
                 = Collections.singletonList(new SimpleGrantedAuthority(RoleType.USER.getKey()));
-        Authentication authToken = new UsernamePasswordAuthenticationToken(email, accessToken, authorities);
+        Authentication authToken = new UsernamePasswordAuthenticationToken(
+                new LoginUser(user.getId(), email + "dummy", RoleType.USER), accessToken, authorities);
         SecurityContextHolder.getContext().setAuthentication(authToken);
 
         // when & then
@@ -441,14 +455,14 @@ public class UserServiceIntegrationTest {
         PostImage postImage = new PostImage("test", post);
         postImageRepository.save(postImage);
 
-        em.flush();
-        em.clear();
+        reconcileCounts();
 
         // SecurityContextHolder에 accessToken 포함하여 저장
         String accessToken = jwtService.createAccessToken(me.getEmail(), RoleType.USER, me.getId());
         List<SimpleGrantedAuthority> authorities
                 = Collections.singletonList(new SimpleGrantedAuthority(RoleType.USER.getKey()));
-        Authentication authToken = new UsernamePasswordAuthenticationToken(me.getEmail(), accessToken, authorities);
+        Authentication authToken = new UsernamePasswordAuthenticationToken(
+                new LoginUser(me.getId(), me.getEmail(), RoleType.USER), accessToken, authorities);
         SecurityContextHolder.getContext().setAuthentication(authToken);
 
         // when
@@ -459,8 +473,8 @@ public class UserServiceIntegrationTest {
         assertThat(response.getUserId()).isEqualTo(me.getId());
         assertThat(response.getNickname()).isEqualTo(me.getNickname());
         assertThat(response.getName()).isEqualTo(me.getName());
-        assertThat(response.getPostThumbnails().get(0).getPostId()).isEqualTo(findPost.getId());
-        assertThat(response.getPostThumbnails().get(0).getImagePath()).isEqualTo(findPost.getThumbnailImage());
+        assertThat(response.getPostThumbnails().getContent().get(0).getPostId()).isEqualTo(findPost.getId());
+        assertThat(response.getPostThumbnails().getContent().get(0).getImagePath()).isEqualTo(findPost.getThumbnailImage());
         assertThat(response.getFollowerCount()).isEqualTo("1");
         assertThat(response.getFollowingCount()).isEqualTo("1");
     }
@@ -497,8 +511,7 @@ public class UserServiceIntegrationTest {
         PostImage postImage = new PostImage("test", post);
         postImageRepository.save(postImage);
 
-        em.flush();
-        em.clear();
+        reconcileCounts();
 
         // when & then
         assertThrows(Exception.class, () -> userService.getMyProfile());
@@ -536,8 +549,7 @@ public class UserServiceIntegrationTest {
         PostImage postImage = new PostImage("test", post);
         postImageRepository.save(postImage);
 
-        em.flush();
-        em.clear();
+        reconcileCounts();
 
         String accessToken = jwtService.createAccessToken(me.getEmail(), RoleType.USER, me.getId());
 
@@ -549,8 +561,8 @@ public class UserServiceIntegrationTest {
         assertThat(response.getUserId()).isEqualTo(other.getId());
         assertThat(response.getNickname()).isEqualTo(other.getNickname());
         assertThat(response.getName()).isEqualTo(other.getName());
-        assertThat(response.getPostThumbnails().get(0).getPostId()).isEqualTo(findPost.getId());
-        assertThat(response.getPostThumbnails().get(0).getImagePath()).isEqualTo(findPost.getThumbnailImage());
+        assertThat(response.getPostThumbnails().getContent().get(0).getPostId()).isEqualTo(findPost.getId());
+        assertThat(response.getPostThumbnails().getContent().get(0).getImagePath()).isEqualTo(findPost.getThumbnailImage());
         assertThat(response.getFollowerCount()).isEqualTo("1");
         assertThat(response.getFollowingCount()).isEqualTo("1");
         assertThat(response.getIsFollow()).isEqualTo(true);
@@ -582,8 +594,7 @@ public class UserServiceIntegrationTest {
         PostImage postImage = new PostImage("test", post);
         postImageRepository.save(postImage);
 
-        em.flush();
-        em.clear();
+        reconcileCounts();
 
         String accessToken = jwtService.createAccessToken(me.getEmail(), RoleType.USER, me.getId());
 
@@ -595,8 +606,8 @@ public class UserServiceIntegrationTest {
         assertThat(response.getUserId()).isEqualTo(other.getId());
         assertThat(response.getNickname()).isEqualTo(other.getNickname());
         assertThat(response.getName()).isEqualTo(other.getName());
-        assertThat(response.getPostThumbnails().get(0).getPostId()).isEqualTo(findPost.getId());
-        assertThat(response.getPostThumbnails().get(0).getImagePath()).isEqualTo(findPost.getThumbnailImage());
+        assertThat(response.getPostThumbnails().getContent().get(0).getPostId()).isEqualTo(findPost.getId());
+        assertThat(response.getPostThumbnails().getContent().get(0).getImagePath()).isEqualTo(findPost.getThumbnailImage());
         assertThat(response.getFollowerCount()).isEqualTo("0");
         assertThat(response.getFollowingCount()).isEqualTo("1");
         assertThat(response.getIsFollow()).isEqualTo(false);
@@ -634,8 +645,7 @@ public class UserServiceIntegrationTest {
         PostImage postImage = new PostImage("test", post);
         postImageRepository.save(postImage);
 
-        em.flush();
-        em.clear();
+        reconcileCounts();
 
         // when
         UserDto.OtherProfileResponse response = userService.getProfile(null, other.getId());
@@ -645,8 +655,8 @@ public class UserServiceIntegrationTest {
         assertThat(response.getUserId()).isEqualTo(other.getId());
         assertThat(response.getNickname()).isEqualTo(other.getNickname());
         assertThat(response.getName()).isEqualTo(other.getName());
-        assertThat(response.getPostThumbnails().get(0).getPostId()).isEqualTo(findPost.getId());
-        assertThat(response.getPostThumbnails().get(0).getImagePath()).isEqualTo(findPost.getThumbnailImage());
+        assertThat(response.getPostThumbnails().getContent().get(0).getPostId()).isEqualTo(findPost.getId());
+        assertThat(response.getPostThumbnails().getContent().get(0).getImagePath()).isEqualTo(findPost.getThumbnailImage());
         assertThat(response.getFollowerCount()).isEqualTo("1");
         assertThat(response.getFollowingCount()).isEqualTo("1");
         assertThat(response.getIsFollow()).isEqualTo(false);
@@ -684,8 +694,7 @@ public class UserServiceIntegrationTest {
         PostImage postImage = new PostImage("test", post);
         postImageRepository.save(postImage);
 
-        em.flush();
-        em.clear();
+        reconcileCounts();
 
         String accessToken = jwtService.createAccessToken(me.getEmail(), RoleType.USER, me.getId());
 
@@ -694,4 +703,49 @@ public class UserServiceIntegrationTest {
                 () -> userService.getProfile(accessToken, other.getId() + me.getId()));
         assertThat(e.getErrorCode()).isEqualTo(USER_NOT_FOUND);
     }
+
+    @DisplayName("프로필 게시글 썸네일을 커서로 끝까지 조회한다 - 최신순")
+    @Test
+    void get_post_thumbnails_by_cursor_success() {
+
+        // given
+        User user = createUser(1L);
+        userRepository.save(user);
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Post post = Post.builder()
+                    .content("content" + i)
+                    .user(user)
+                    .thumbnailImage("thumbnail" + i)
+                    .build();
+            postRepository.save(post);
+            posts.add(post);
+        }
+        em.flush();
+        em.clear();
+
+        // when
+        CursorResponse<PostDto.PostThumbnailResponse> page1 =
+                userService.getPostThumbnails(user.getId(), null, 2);
+        CursorResponse<PostDto.PostThumbnailResponse> page2 =
+                userService.getPostThumbnails(user.getId(), page1.getNextCursor(), 2);
+
+        // then
+        assertThat(page1.getContent()).extracting(PostDto.PostThumbnailResponse::getPostId)
+                .containsExactly(posts.get(2).getId(), posts.get(1).getId());
+        assertThat(page1.isHasNext()).isTrue();
+        assertThat(page2.getContent()).extracting(PostDto.PostThumbnailResponse::getImagePath)
+                .containsExactly(posts.get(0).getThumbnailImage());
+        assertThat(page2.isHasNext()).isFalse();
+    }
+
+    @DisplayName("프로필 게시글 썸네일 조회 시, 사용자가 존재하지 않으면 실패한다")
+    @Test
+    void get_post_thumbnails_user_not_found_fail() {
+
+        // when & then
+        CustomException e = assertThrows(CustomException.class,
+                () -> userService.getPostThumbnails(1L, null, null));
+        assertThat(e.getErrorCode()).isEqualTo(USER_NOT_FOUND);
+    }
 }
@@ -5,8 +5,8 @@ import com.example.hunstagram.domain.comment.entity.Comment;
 import com.example.hunstagram.domain.comment.entity.CommentRepository;
 import com.example.hunstagram.domain.comment.service.CommentService;
 import com.example.hunstagram.domain.like.dto.LikeDto;
-import com.example.hunstagram.domain.like.entity.Like;
 import com.example.hunstagram.domain.like.entity.LikeRepository;
+import com.example.hunstagram.domain.like.service.LikeCountBuffer;
 import com.example.hunstagram.domain.post.entity.Post;
 import com.example.hunstagram.domain.post.entity.PostRepository;
 import com.example.hunstagram.domain.user.entity.User;
@@ -19,14 +19,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static com.example.hunstagram.global.exception.CustomErrorCode.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
 
 /**
  * @author : Hunseong-Park
@@ -53,6 +60,29 @@ public class CommentServiceTest {
     @Mock
     PostRepository postRepository;
 
+    @Mock
+    LikeCountBuffer likeCountBuffer;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    // TransactionTemplate 내부 로직이 실제로 실행되도록 설정
+    private void givenTransaction() {
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+    // 결과를 반환하는 TransactionTemplate 내부 로직이 실제로 실행되도록 설정
+    private void givenResultTransaction() {
+        willAnswer(invocation -> {
+            TransactionCallback<?> action = invocation.getArgument(0);
+            return action.doInTransaction(null);
+        }).given(transactionTemplate).execute(any());
+    }
+
     @DisplayName("comment 등록에 성공한다")
     @Test
     void create_comment_success() {
@@ -209,13 +239,16 @@ public class CommentServiceTest {
                 .build();
         given(commentRepository.findById(any())).willReturn(Optional.of(comment));
         given(userRepository.findById(any())).willReturn(Optional.of(user));
-        given(likeRepository.findByCommentAndUserId(any(), any())).willReturn(Optional.empty());
+        givenResultTransaction();
+        givenTransaction();
 
         // when
         LikeDto.Response response = commentService.like(comment.getId());
 
         // then
         assertThat(response.getIsLikeAdd()).isTrue();
+        then(likeRepository).should().saveAndFlush(any());
+        then(likeCountBuffer).should().addCommentLike(comment.getId(), 1);
     }
 
     @DisplayName("comment 좋아요에 성공한다 - 취소")
@@ -236,14 +269,46 @@ public class CommentServiceTest {
                 .content("test")
                 .build();
         given(commentRepository.findById(any())).willReturn(Optional.of(comment));
-        given(userRepository.findById(any())).willReturn(Optional.of(user));
-        given(likeRepository.findByCommentAndUserId(any(), any())).willReturn(Optional.of(Like.builder().build()));
+        given(likeRepository.deleteByCommentAndUserId(any(), any())).willReturn(1);
+        givenResultTransaction();
 
         // when
         LikeDto.Response response = commentService.like(comment.getId());
 
         // then
         assertThat(response.getIsLikeAdd()).isFalse();
+        then(likeCountBuffer).should().addCommentLike(comment.getId(), -1);
+    }
+
+    @DisplayName("동시에 같은 좋아요가 먼저 추가되면 중복 추가하지 않고 추가로 응답한다")
+    @Test
+    void like_comment_conflict_success() {
+
+        // given
+        User user = User.builder()
+                .id(1L)
+                .email("test@test.com")
+                .password("test12345!")
+                .name("test")
+                .nickname("test")
+                .build();
+        Comment comment = Comment.builder()
+                .id(1L)
+                .user(user)
+                .content("test")
+                .build();
+        given(commentRepository.findById(any())).willReturn(Optional.of(comment));
+        given(userRepository.findById(any())).willReturn(Optional.of(user));
+        given(likeRepository.saveAndFlush(any())).willThrow(new DataIntegrityViolationException("duplicate"));
+        givenResultTransaction();
+        givenTransaction();
+
+        // when
+        LikeDto.Response response = commentService.like(comment.getId());
+
+        // then
+        assertThat(response.getIsLikeAdd()).isTrue();
+        then(likeCountBuffer).shouldHaveNoInteractions();
     }
 
     @DisplayName("comment 좋아요 시 댓글이 존재하지 않으면 실패한다")
@@ -0,0 +1,76 @@
+package com.example.hunstagram.unit.feed.controller;
+
+import com.example.hunstagram.domain.feed.controller.FeedApiController;
+import com.example.hunstagram.domain.feed.dto.FeedDto;
+import com.example.hunstagram.domain.feed.service.FeedService;
+import com.example.hunstagram.domain.user.entity.UserRepository;
+import com.example.hunstagram.global.dto.CursorResponse;
+import com.example.hunstagram.global.security.SecurityConfig;
+import com.example.hunstagram.global.security.service.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@MockBean(JpaMetamodelMappingContext.class)
+@WebMvcTest(controllers = FeedApiController.class,
+        excludeFilters = {
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SecurityConfig.class),
+        })
+public class FeedApiControllerTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @MockBean
+    private FeedService feedService;
+
+    @MockBean
+    private JwtService jwtService;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @DisplayName("홈 피드 조회에 성공한다")
+    @WithMockUser
+    @Test
+    void get_feed_success() throws Exception {
+
+        // given
+        // 2^53 + 1 - number 로 응답하면 JavaScript 에서 9007199254740992 로 읽힌다
+        long postId = 9_007_199_254_740_993L;
+        FeedDto.Response post = new FeedDto.Response(postId, 1L, "writer", null, "thumbnail",
+                "content", 1L, 2L, null);
+        given(feedService.getFeed(any(), any())).willReturn(CursorResponse.of(List.of(post), postId));
+
+        // when & then
+        mvc.perform(get("/v1/feed")
+                        .param("size", "1")
+                        .with(SecurityMockMvcRequestPostProcessors.csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].postId").value("9007199254740993"))
+                .andExpect(jsonPath("$.content[0].writerNickname").value("writer"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andDo(print());
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.hunstagram.unit.feed.service;
+
+import com.example.hunstagram.domain.feed.service.FeedFanoutService;
+import com.example.hunstagram.domain.feed.store.AuthorRecentPostCache;
+import com.example.hunstagram.domain.feed.store.TimelineStore;
+import com.example.hunstagram.domain.follow.dto.FollowDto;
+import com.example.hunstagram.domain.follow.entity.FollowRepository;
+import com.example.hunstagram.domain.follow.event.FollowCanceledEvent;
+import com.example.hunstagram.domain.post.entity.PostRepository;
+import com.example.hunstagram.domain.post.event.PostCreatedEvent;
+import com.example.hunstagram.domain.user.entity.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+public class FeedFanoutServiceTest {
+
+    FeedFanoutService feedFanoutService;
+
+    @Mock
+    FollowRepository followRepository;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    TimelineStore timelineStore;
+
+    @Mock
+    AuthorRecentPostCache authorRecentPostCache;
+
+    @BeforeEach
+    void setUp() {
+        // fan-out 을 호출 스레드에서 바로 실행
+        feedFanoutService = new FeedFanoutService(followRepository, userRepository, postRepository,
+                timelineStore, authorRecentPostCache, Runnable::run);
+        ReflectionTestUtils.setField(feedFanoutService, "celebrityThreshold", 10000L);
+    }
+
+    @DisplayName("게시글 등록 시 작성자와 모든 팔로워의 타임라인에 push 한다")
+    @Test
+    void fanout_to_author_and_followers() {
+
+        // given
+        given(userRepository.findFollowerCountById(1L)).willReturn(Optional.of(3L));
+        given(followRepository.findFollowersAfter(eq(1L), eq(0L), any()))
+                .willReturn(List.of(new FollowDto.Follower(10L, 2L), new FollowDto.Follower(11L, 3L)));
+        given(followRepository.findFollowersAfter(eq(1L), eq(11L), any()))
+                .willReturn(List.of(new FollowDto.Follower(15L, 4L)));
+        given(followRepository.findFollowersAfter(eq(1L), eq(15L), any()))
+                .willReturn(List.of());
+
+        // when
+        feedFanoutService.onPostCreated(new PostCreatedEvent(100L, 1L));
+
+        // then
+        then(timelineStore).should().push(1L, 100L);
+        then(timelineStore).should().push(2L, 100L);
+        then(timelineStore).should().push(3L, 100L);
+        then(timelineStore).should().push(4L, 100L);
+    }
+
+    @DisplayName("팔로워 수가 기준 이상인 작성자는 팔로워에게 push 하지 않고 작성자 캐시에 반영한다")
+    @Test
+    void fanout_celebrity_skip_followers() {
+
+        // given
+        given(userRepository.findFollowerCountById(1L)).willReturn(Optional.of(10000L));
+
+        // when
+        feedFanoutService.fanout(1L, 100L);
+
+        // then
+        then(timelineStore).should().push(1L, 100L);
+        then(authorRecentPostCache).should().add(1L, 100L);
+        then(followRepository).should(never()).findFollowersAfter(any(), any(), any());
+    }
+
+    @DisplayName("팔로우 취소로 celebrity 기준 아래가 되면 작성자의 최근 게시글을 팔로워 타임라인에 채운다")
+    @Test
+    void backfill_on_follow_canceled_below_threshold() {
+
+        // given
+        given(timelineStore.capacity()).willReturn(800);
+        given(postRepository.findPostIdsByUserId(eq(1L), any())).willReturn(List.of(200L, 100L));
+        given(followRepository.findFollowersAfter(eq(1L), eq(0L), any()))
+                .willReturn(List.of(new FollowDto.Follower(10L, 2L), new FollowDto.Follower(11L, 3L)));
+        given(followRepository.findFollowersAfter(eq(1L), eq(11L), any()))
+                .willReturn(List.of());
+
+        // when
+        feedFanoutService.onFollowCanceled(new FollowCanceledEvent(5L, 1L, 9999L));
+
+        // then
+        then(timelineStore).should().push(2L, 200L);
+        then(timelineStore).should().push(2L, 100L);
+        then(timelineStore).should().push(3L, 200L);
+        then(timelineStore).should().push(3L, 100L);
+    }
+
+    @DisplayName("팔로우 취소 후에도 celebrity 이거나, 이미 기준 아래였던 작성자는 채우지 않는다")
+    @Test
+    void backfill_skip_not_crossing_threshold() {
+
+        // when
+        feedFanoutService.onFollowCanceled(new FollowCanceledEvent(5L, 1L, 10000L));
+        feedFanoutService.onFollowCanceled(new FollowCanceledEvent(5L, 1L, 9998L));
+
+        // then
+        then(postRepository).shouldHaveNoInteractions();
+        then(timelineStore).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("작성자의 게시글이 없으면 팔로워를 조회하지 않는다")
+    @Test
+    void backfill_no_posts() {
+
+        // given
+        given(timelineStore.capacity()).willReturn(800);
+        given(postRepository.findPostIdsByUserId(eq(1L), any())).willReturn(List.of());
+
+        // when
+        feedFanoutService.backfill(1L);
+
+        // then
+        then(followRepository).should(never()).findFollowersAfter(any(), any(), any());
+    }
+
+    @DisplayName("backfill 이 실패해도 팔로우 취소에는 영향을 주지 않는다")
+    @Test
+    void backfill_fail_logged() {
+
+        // given
+        given(timelineStore.capacity()).willReturn(800);
+        willThrow(new IllegalStateException("db down")).given(postRepository).findPostIdsByUserId(eq(1L), any());
+
+        // when
+        feedFanoutService.onFollowCanceled(new FollowCanceledEvent(5L, 1L, 9999L));
+
+        // then
+        then(timelineStore).should(never()).push(any(), anyLong());
+    }
+}
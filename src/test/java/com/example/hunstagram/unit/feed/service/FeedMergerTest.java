@@ -0,0 +1,55 @@
+package com.example.hunstagram.unit.feed.service;
+
+import com.example.hunstagram.domain.feed.service.FeedMerger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public class FeedMergerTest {
+
+    @DisplayName("여러 목록을 최신 post id 순으로 limit 개까지 병합한다")
+    @Test
+    void merge_latest_first() {
+
+        // when
+        List<Long> merged = FeedMerger.merge(List.of(
+                List.of(9L, 4L, 1L),
+                List.of(8L, 7L),
+                List.of(),
+                List.of(6L, 5L, 3L)), 5);
+
+        // then
+        assertThat(merged).containsExactly(9L, 8L, 7L, 6L, 5L);
+    }
+
+    @DisplayName("여러 목록에 같은 post id 가 있으면 한 번만 포함한다")
+    @Test
+    void merge_dedupe() {
+
+        // when
+        List<Long> merged = FeedMerger.merge(List.of(
+                List.of(5L, 3L, 1L),
+                List.of(5L, 4L, 3L)), 10);
+
+        // then
+        assertThat(merged).containsExactly(5L, 4L, 3L, 1L);
+    }
+
+    @DisplayName("모든 목록이 비어 있으면 빈 목록을 반환한다")
+    @Test
+    void merge_empty() {
+
+        // when
+        List<Long> merged = FeedMerger.merge(List.of(List.of(), List.of()), 10);
+
+        // then
+        assertThat(merged).isEmpty();
+    }
+}
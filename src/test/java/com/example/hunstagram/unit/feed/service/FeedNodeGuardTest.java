@@ -0,0 +1,181 @@
+package com.example.hunstagram.unit.feed.service;
+
+import com.example.hunstagram.domain.feed.entity.FeedNodeLease;
+import com.example.hunstagram.domain.feed.entity.FeedNodeLeaseRepository;
+import com.example.hunstagram.domain.feed.service.FeedNodeGuard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+public class FeedNodeGuardTest {
+
+    @InjectMocks
+    FeedNodeGuard feedNodeGuard;
+
+    @Mock
+    FeedNodeLeaseRepository feedNodeLeaseRepository;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    String owner;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(feedNodeGuard, "leaseTtlMs", 30000L);
+        owner = (String) ReflectionTestUtils.getField(feedNodeGuard, "owner");
+    }
+
+    // TransactionTemplate 내부 로직이 실제로 실행되도록 설정
+    private void givenResultTransaction() {
+        willAnswer(invocation -> {
+            TransactionCallback<?> action = invocation.getArgument(0);
+            return action.doInTransaction(null);
+        }).given(transactionTemplate).execute(any());
+    }
+
+    private void givenRenew(int updated) {
+        given(feedNodeLeaseRepository.renew(eq(1L), eq(owner), any(), any())).willReturn(updated);
+    }
+
+    @DisplayName("내 lease 이거나 만료된 lease 를 갱신하면 기동에 성공한다")
+    @Test
+    void acquire_renew_success() {
+
+        // given
+        givenResultTransaction();
+        givenRenew(1);
+
+        // when
+        feedNodeGuard.acquire();
+
+        // then
+        then(feedNodeLeaseRepository).should(never()).saveAndFlush(any());
+    }
+
+    @DisplayName("lease row 가 없으면 새로 만들고 기동에 성공한다")
+    @Test
+    void acquire_insert_success() {
+
+        // given
+        givenResultTransaction();
+        givenRenew(0);
+        given(feedNodeLeaseRepository.existsById(1L)).willReturn(false);
+
+        // when
+        feedNodeGuard.acquire();
+
+        // then
+        ArgumentCaptor<FeedNodeLease> lease = ArgumentCaptor.forClass(FeedNodeLease.class);
+        then(feedNodeLeaseRepository).should().saveAndFlush(lease.capture());
+        assertThat(lease.getValue().getId()).isEqualTo(1L);
+        assertThat(lease.getValue().getOwner()).isEqualTo(owner);
+        assertThat(lease.getValue().getExpiresAt()).isAfter(LocalDateTime.now());
+    }
+
+    @DisplayName("다른 노드가 만료되지 않은 lease 를 가지고 있으면 기동에 실패한다")
+    @Test
+    void acquire_held_by_other_node() {
+
+        // given
+        givenResultTransaction();
+        givenRenew(0);
+        given(feedNodeLeaseRepository.existsById(1L)).willReturn(true);
+
+        // when
+        // then
+        assertThrows(IllegalStateException.class, () -> feedNodeGuard.acquire());
+        then(feedNodeLeaseRepository).should(never()).saveAndFlush(any());
+    }
+
+    @DisplayName("다른 노드가 동시에 lease row 를 먼저 만들면 기동에 실패한다")
+    @Test
+    void acquire_inserted_concurrently() {
+
+        // given
+        givenResultTransaction();
+        givenRenew(0);
+        given(feedNodeLeaseRepository.existsById(1L)).willReturn(false);
+        given(feedNodeLeaseRepository.saveAndFlush(any())).willThrow(new DataIntegrityViolationException("duplicate"));
+
+        // when
+        // then
+        assertThrows(IllegalStateException.class, () -> feedNodeGuard.acquire());
+    }
+
+    @DisplayName("운영 중에는 주기적으로 lease 를 갱신한다")
+    @Test
+    void heartbeat_success() {
+
+        // given
+        givenResultTransaction();
+        givenRenew(1);
+
+        // when
+        feedNodeGuard.heartbeat();
+
+        // then
+        then(feedNodeLeaseRepository).should().renew(eq(1L), eq(owner), any(), any());
+    }
+
+    @DisplayName("lease 를 다른 노드에 빼앗겨도 예외 없이 다음 주기에 다시 시도한다")
+    @Test
+    void heartbeat_lost() {
+
+        // given
+        givenResultTransaction();
+        givenRenew(0);
+        given(feedNodeLeaseRepository.existsById(1L)).willReturn(true);
+
+        // when
+        feedNodeGuard.heartbeat();
+
+        // then
+        then(feedNodeLeaseRepository).should(never()).saveAndFlush(any());
+    }
+
+    @DisplayName("종료 시 내 lease 를 바로 만료시킨다")
+    @Test
+    void release_success() {
+
+        // given
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+
+        // when
+        feedNodeGuard.release();
+
+        // then
+        then(feedNodeLeaseRepository).should().release(eq(1L), eq(owner), any());
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.hunstagram.unit.feed.service;
+
+import com.example.hunstagram.domain.feed.dto.FeedDto;
+import com.example.hunstagram.domain.feed.service.FeedService;
+import com.example.hunstagram.domain.feed.store.AuthorRecentPostCache;
+import com.example.hunstagram.domain.feed.store.TimelineStore;
+import com.example.hunstagram.domain.follow.entity.FollowRepository;
+import com.example.hunstagram.domain.post.entity.PostRepository;
+import com.example.hunstagram.global.dto.CursorResponse;
+import com.example.hunstagram.global.security.service.JwtService;
+import com.example.hunstagram.global.util.CursorUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+public class FeedServiceTest {
+
+    @InjectMocks
+    FeedService feedService;
+
+    @Mock
+    JwtService jwtService;
+
+    @Mock
+    TimelineStore timelineStore;
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    FollowRepository followRepository;
+
+    @Mock
+    AuthorRecentPostCache authorRecentPostCache;
+
+    private FeedDto.Response createFeedPost(Long postId) {
+        return new FeedDto.Response(postId, 1L, "writer", null, "thumbnail" + postId,
+                "content", 0L, 0L, null);
+    }
+
+    @DisplayName("처음 피드를 조회하면 DB 기준으로 타임라인을 채운다")
+    @Test
+    void get_feed_first_time_backfill() {
+
+        // given
+        given(jwtService.getId()).willReturn(1L);
+        given(timelineStore.contains(1L)).willReturn(false);
+        given(timelineStore.capacity()).willReturn(800);
+        given(postRepository.findTimelinePostIds(eq(1L), any())).willReturn(List.of(3L, 2L));
+        given(timelineStore.read(1L, null, 21)).willReturn(List.of(3L, 2L));
+        given(postRepository.findFeedPosts(List.of(3L, 2L)))
+                .willReturn(List.of(createFeedPost(2L), createFeedPost(3L)));
+
+        // when
+        CursorResponse<FeedDto.Response> response = feedService.getFeed(null, null);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Supplier<List<Long>>> postIds = ArgumentCaptor.forClass(Supplier.class);
+        then(timelineStore).should().materialize(eq(1L), postIds.capture());
+        assertThat(postIds.getValue().get()).containsExactly(3L, 2L);
+        // 타임라인 순서 유지
+        assertThat(response.getContent()).extracting(FeedDto.Response::getPostId).containsExactly(3L, 2L);
+        assertThat(response.isHasNext()).isFalse();
+    }
+
+    @DisplayName("타임라인에서 page 크기만큼 읽고, 삭제된 게시글은 제외한다")
+    @Test
+    void get_feed_next_page_skip_deleted() {
+
+        // given
+        given(jwtService.getId()).willReturn(1L);
+        given(timelineStore.contains(1L)).willReturn(true);
+        given(timelineStore.read(1L, 10L, 3)).willReturn(List.of(9L, 8L, 7L));
+        // 8번 게시글은 삭제됨
+        given(postRepository.findFeedPosts(List.of(9L, 8L))).willReturn(List.of(createFeedPost(9L)));
+
+        // when
+        CursorResponse<FeedDto.Response> response = feedService.getFeed(CursorUtils.encode(10L), 2);
+
+        // then
+        then(postRepository).should(never()).findTimelinePostIds(any(), any());
+        assertThat(response.getContent()).extracting(FeedDto.Response::getPostId).containsExactly(9L);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(CursorUtils.decode(response.getNextCursor())).isEqualTo(8L);
+    }
+
+    @DisplayName("타임라인이 비어있으면 게시글을 조회하지 않는다")
+    @Test
+    void get_feed_empty() {
+
+        // given
+        given(jwtService.getId()).willReturn(1L);
+        given(timelineStore.contains(1L)).willReturn(true);
+        given(timelineStore.read(any(), any(), anyInt())).willReturn(List.of());
+
+        // when
+        CursorResponse<FeedDto.Response> response = feedService.getFeed(null, null);
+
+        // then
+        then(postRepository).should(never()).findFeedPosts(any());
+        assertThat(response.getContent()).isEmpty();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @DisplayName("팔로우 중인 celebrity 작성자의 최근 게시글을 타임라인과 최신순으로 병합한다")
+    @Test
+    void get_feed_merge_celebrity_posts() {
+
+        // given
+        ReflectionTestUtils.setField(feedService, "celebrityThreshold", 10000L);
+        given(jwtService.getId()).willReturn(1L);
+        given(timelineStore.contains(1L)).willReturn(true);
+        given(timelineStore.read(1L, null, 4)).willReturn(List.of(9L, 5L, 2L));
+        given(followRepository.findCelebrityFolloweeIds(eq(1L), anyLong())).willReturn(List.of(7L, 8L));
+        given(authorRecentPostCache.read(7L, null, 4)).willReturn(List.of(10L, 6L));
+        // 팔로워 수가 기준을 넘기 전에 fan-out 된 게시글(5)은 중복 제외
+        given(authorRecentPostCache.read(8L, null, 4)).willReturn(List.of(5L, 1L));
+        given(postRepository.findFeedPosts(List.of(10L, 9L, 6L)))
+                .willReturn(List.of(createFeedPost(10L), createFeedPost(9L), createFeedPost(6L)));
+
+        // when
+        CursorResponse<FeedDto.Response> response = feedService.getFeed(null, 3);
+
+        // then
+        assertThat(response.getContent()).extracting(FeedDto.Response::getPostId).containsExactly(10L, 9L, 6L);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(CursorUtils.decode(response.getNextCursor())).isEqualTo(6L);
+    }
+}
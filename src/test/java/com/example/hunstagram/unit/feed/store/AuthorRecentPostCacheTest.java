@@ -0,0 +1,55 @@
+package com.example.hunstagram.unit.feed.store;
+
+import com.example.hunstagram.domain.feed.store.AuthorRecentPostCache;
+import com.example.hunstagram.domain.post.entity.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+public class AuthorRecentPostCacheTest {
+
+    AuthorRecentPostCache authorRecentPostCache;
+
+    @Mock
+    PostRepository postRepository;
+
+    @BeforeEach
+    void setUp() {
+        authorRecentPostCache = new AuthorRecentPostCache(postRepository, 10, 10);
+    }
+
+    @DisplayName("처음 조회한 작성자만 DB 에서 최근 게시글을 채우고, 이후 등록된 게시글은 캐시에 반영된다")
+    @Test
+    void read_load_once_then_add() {
+
+        // given
+        given(postRepository.findPostIdsByUserId(eq(1L), any())).willReturn(List.of(3L, 2L, 1L));
+
+        // when
+        List<Long> first = authorRecentPostCache.read(1L, null, 2);
+        authorRecentPostCache.add(1L, 4L);
+        List<Long> second = authorRecentPostCache.read(1L, null, 2);
+
+        // then
+        assertThat(first).containsExactly(3L, 2L);
+        assertThat(second).containsExactly(4L, 3L);
+        then(postRepository).should(times(1)).findPostIdsByUserId(eq(1L), any());
+    }
+}
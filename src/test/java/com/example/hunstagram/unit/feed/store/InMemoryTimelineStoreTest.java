@@ -0,0 +1,141 @@
+package com.example.hunstagram.unit.feed.store;
+
+import com.example.hunstagram.domain.feed.store.InMemoryTimelineStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public class InMemoryTimelineStoreTest {
+
+    @DisplayName("타임라인은 최신 post id 부터 커서 기준으로 조회된다")
+    @Test
+    void read_latest_first_by_cursor() {
+
+        // given
+        InMemoryTimelineStore store = new InMemoryTimelineStore(10, 10);
+        store.materialize(1L, List::of);
+        for (long postId = 1; postId <= 5; postId++) {
+            store.push(1L, postId);
+        }
+
+        // when
+        List<Long> page1 = store.read(1L, null, 2);
+        List<Long> page2 = store.read(1L, page1.get(1), 2);
+        List<Long> page3 = store.read(1L, page2.get(1), 2);
+
+        // then
+        assertThat(page1).containsExactly(5L, 4L);
+        assertThat(page2).containsExactly(3L, 2L);
+        assertThat(page3).containsExactly(1L);
+    }
+
+    @DisplayName("타임라인이 가득 차면 가장 오래된 post id 부터 버린다")
+    @Test
+    void drop_oldest_when_full() {
+
+        // given
+        InMemoryTimelineStore store = new InMemoryTimelineStore(3, 10);
+        store.materialize(1L, List::of);
+
+        // when
+        for (long postId = 1; postId <= 5; postId++) {
+            store.push(1L, postId);
+        }
+        // 가득 찬 상태에서 가장 오래된 것보다 오래된 post 는 무시
+        store.push(1L, 1L);
+
+        // then
+        assertThat(store.read(1L, null, 10)).containsExactly(5L, 4L, 3L);
+    }
+
+    @DisplayName("순서가 뒤바뀌어 들어와도 정렬을 유지하고 중복은 무시한다")
+    @Test
+    void keep_order_and_ignore_duplicate() {
+
+        // given
+        InMemoryTimelineStore store = new InMemoryTimelineStore(4, 10);
+
+        // when
+        store.materialize(1L, () -> List.of(10L, 30L, 20L, 30L));
+        store.push(1L, 40L);
+        store.push(1L, 25L);
+
+        // then
+        assertThat(store.read(1L, null, 10)).containsExactly(40L, 30L, 25L, 20L);
+    }
+
+    @DisplayName("타임라인이 생성되지 않은 사용자에게는 push 하지 않고, 이미 생성된 타임라인은 다시 채우지 않는다")
+    @Test
+    void ignore_push_before_materialize() {
+
+        // given
+        InMemoryTimelineStore store = new InMemoryTimelineStore(10, 10);
+
+        // when
+        store.push(1L, 1L);
+        boolean before = store.contains(1L);
+        store.materialize(1L, () -> List.of(2L));
+        store.materialize(1L, () -> List.of(3L));
+
+        // then
+        assertThat(before).isFalse();
+        assertThat(store.contains(1L)).isTrue();
+        assertThat(store.read(1L, null, 10)).containsExactly(2L);
+    }
+
+    @DisplayName("보관 사용자 수를 넘으면 최근에 조회되지 않은 타임라인부터 제거한다")
+    @Test
+    void evict_not_read_first_when_full() {
+
+        // given
+        InMemoryTimelineStore store = new InMemoryTimelineStore(10, 2);
+        store.materialize(1L, () -> List.of(1L));
+        store.materialize(2L, () -> List.of(2L));
+        store.read(1L, null, 10);
+        // push 는 조회로 보지 않는다
+        store.push(2L, 3L);
+
+        // when
+        store.materialize(3L, () -> List.of(4L));
+
+        // then
+        assertThat(store.contains(1L)).isTrue();
+        assertThat(store.contains(2L)).isFalse();
+        assertThat(store.read(3L, null, 10)).containsExactly(4L);
+    }
+
+    @DisplayName("DB 조회 중에 들어온 push 도 타임라인에 남고, 다 채워지기 전에는 조회되지 않는다")
+    @Test
+    void keep_push_during_materialize() {
+
+        // given
+        InMemoryTimelineStore store = new InMemoryTimelineStore(10, 10);
+        List<Boolean> containsWhileLoading = new ArrayList<>();
+        List<List<Long>> readWhileLoading = new ArrayList<>();
+
+        // when
+        store.materialize(1L, () -> {
+            // DB 조회 이후에 커밋된 게시글의 fan-out
+            store.push(1L, 3L);
+            containsWhileLoading.add(store.contains(1L));
+            readWhileLoading.add(store.read(1L, null, 10));
+            // 같은 사용자의 다른 요청도 채우는 중인 타임라인을 함께 채운다
+            store.materialize(1L, () -> List.of(2L, 1L));
+            return List.of(2L, 1L);
+        });
+
+        // then
+        assertThat(containsWhileLoading).containsExactly(false);
+        assertThat(readWhileLoading).containsExactly(List.of());
+        assertThat(store.contains(1L)).isTrue();
+        assertThat(store.read(1L, null, 10)).containsExactly(3L, 2L, 1L);
+    }
+}
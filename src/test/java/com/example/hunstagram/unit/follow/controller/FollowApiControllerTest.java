@@ -8,6 +8,7 @@ import com.example.hunstagram.domain.follow.entity.FollowRepository;
 import com.example.hunstagram.domain.follow.service.FollowService;
 import com.example.hunstagram.domain.user.entity.User;
 import com.example.hunstagram.domain.user.entity.UserRepository;
+import com.example.hunstagram.global.dto.CursorResponse;
 import com.example.hunstagram.global.security.SecurityConfig;
 import com.example.hunstagram.global.security.service.JwtService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -149,4 +150,28 @@ public class FollowApiControllerTest {
                 .andExpect(jsonPath("$.content[0].nickname").value(toUser.getNickname()))
                 .andDo(print());
     }
+
+    @DisplayName("followee 목록 커서 조회")
+    @WithMockUser
+    @Test
+    void followee_list_by_cursor() throws Exception {
+
+        // given
+        User fromUser1 = createUser(1L);
+        User fromUser2 = createUser(2L);
+        List<ListResponse> fetched = List.of(ListResponse.fromEntity(fromUser2), ListResponse.fromEntity(fromUser1));
+        CursorResponse<ListResponse> response = CursorResponse.of(fetched, 1, r -> 2L);
+        given(followService.getFolloweeListByCursor(any(), any(), any())).willReturn(response);
+
+        // when & then
+        mvc.perform(get("/v1/follow/followee/3/cursor")
+                        .param("size", "1")
+                        .with(SecurityMockMvcRequestPostProcessors.csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].nickname").value(fromUser2.getNickname()))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(response.getNextCursor()))
+                .andDo(print());
+    }
 }
@@ -1,8 +1,8 @@
 package com.example.hunstagram.unit.follow.service;
 
 import com.example.hunstagram.domain.follow.dto.FollowDto;
-import com.example.hunstagram.domain.follow.entity.Follow;
 import com.example.hunstagram.domain.follow.entity.FollowRepository;
+import com.example.hunstagram.domain.follow.event.FollowCanceledEvent;
 import com.example.hunstagram.domain.follow.service.FollowService;
 import com.example.hunstagram.domain.user.entity.User;
 import com.example.hunstagram.domain.user.entity.UserRepository;
@@ -14,14 +14,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static com.example.hunstagram.global.exception.CustomErrorCode.USER_NOT_FOUND;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
 
 /**
  * @author : Hunseong-Park
@@ -42,6 +53,12 @@ public class FollowServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     private User createUser(Long id) {
         return User.builder()
                 .email("test" + id + "@test.com")
@@ -51,6 +68,23 @@ public class FollowServiceTest {
                 .build();
     }
 
+    // TransactionTemplate 내부 로직이 실제로 실행되도록 설정
+    private void givenTransaction() {
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+    // 결과를 반환하는 TransactionTemplate 내부 로직이 실제로 실행되도록 설정
+    private void givenResultTransaction() {
+        willAnswer(invocation -> {
+            TransactionCallback<?> action = invocation.getArgument(0);
+            return action.doInTransaction(null);
+        }).given(transactionTemplate).execute(any());
+    }
+
     @DisplayName("follow 추가에 성공한다")
     @Test
     void follow_add_success() {
@@ -59,15 +93,19 @@ public class FollowServiceTest {
         User fromUser = createUser(1L);
         User toUser = createUser(2L);
         given(jwtService.getId()).willReturn(1L);
-        given(followRepository.findByFromAndToUserId(any(), any())).willReturn(Optional.empty());
         given(userRepository.findById(1L)).willReturn(Optional.of(fromUser));
         given(userRepository.findById(2L)).willReturn(Optional.of(toUser));
+        givenResultTransaction();
+        givenTransaction();
 
         // when
         FollowDto.Response response = followService.follow(2L);
 
         // then
         assertThat(response.getIsFollowAdd()).isTrue();
+        then(followRepository).should().saveAndFlush(any());
+        then(userRepository).should().addFollowingCount(1L, 1);
+        then(userRepository).should().addFollowerCount(2L, 1);
     }
 
     @DisplayName("follow 추가시 fromUser가 없으면 실패한다")
@@ -78,7 +116,6 @@ public class FollowServiceTest {
         User fromUser = createUser(1L);
         User toUser = createUser(2L);
         given(jwtService.getId()).willReturn(1L);
-        given(followRepository.findByFromAndToUserId(any(), any())).willReturn(Optional.empty());
         given(userRepository.findById(1L)).willReturn(Optional.empty());
 
         // when & then
@@ -94,7 +131,6 @@ public class FollowServiceTest {
         User fromUser = createUser(1L);
         User toUser = createUser(2L);
         given(jwtService.getId()).willReturn(1L);
-        given(followRepository.findByFromAndToUserId(any(), any())).willReturn(Optional.empty());
         given(userRepository.findById(1L)).willReturn(Optional.of(fromUser));
         given(userRepository.findById(2L)).willReturn(Optional.empty());
 
@@ -107,20 +143,44 @@ public class FollowServiceTest {
     @Test
     void follow_cancel_success() {
 
+        // given
+        given(jwtService.getId()).willReturn(1L);
+        given(followRepository.deleteByFromAndToUserId(1L, 2L)).willReturn(1);
+        given(userRepository.findFollowerCountById(2L)).willReturn(Optional.of(9999L));
+        givenResultTransaction();
+
+        // when
+        FollowDto.Response response = followService.follow(2L);
+
+        // then
+        assertThat(response.getIsFollowAdd()).isFalse();
+        then(userRepository).should().addFollowingCount(1L, -1);
+        then(userRepository).should().addFollowerCount(2L, -1);
+        // 취소가 반영된 팔로워 수로 이벤트 발행
+        then(eventPublisher).should().publishEvent(argThat((Object event) -> event instanceof FollowCanceledEvent e
+                && e.getToUserId() == 2L && e.getFollowerCount() == 9999L));
+    }
+
+    @DisplayName("동시에 같은 follow 가 먼저 추가되면 중복 추가하지 않고 추가로 응답한다")
+    @Test
+    void follow_add_conflict_success() {
+
         // given
         User fromUser = createUser(1L);
         User toUser = createUser(2L);
-        Follow follow = Follow.builder()
-                .fromUser(fromUser)
-                .toUser(toUser)
-                .build();
         given(jwtService.getId()).willReturn(1L);
-        given(followRepository.findByFromAndToUserId(any(), any())).willReturn(Optional.of(follow));
+        given(userRepository.findById(1L)).willReturn(Optional.of(fromUser));
+        given(userRepository.findById(2L)).willReturn(Optional.of(toUser));
+        given(followRepository.saveAndFlush(any())).willThrow(new DataIntegrityViolationException("duplicate"));
+        givenResultTransaction();
+        givenTransaction();
 
         // when
         FollowDto.Response response = followService.follow(2L);
 
         // then
-        assertThat(response.getIsFollowAdd()).isFalse();
+        assertThat(response.getIsFollowAdd()).isTrue();
+        then(userRepository).should(never()).addFollowingCount(any(), anyLong());
+        then(userRepository).should(never()).addFollowerCount(any(), anyLong());
     }
 }
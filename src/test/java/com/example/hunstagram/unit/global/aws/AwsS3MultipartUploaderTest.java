@@ -0,0 +1,283 @@
+package com.example.hunstagram.unit.global.aws;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import com.example.hunstagram.global.aws.service.AwsS3MultipartUploader;
+import com.example.hunstagram.global.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import static com.amazonaws.services.s3.model.CannedAccessControlList.PublicRead;
+import static com.example.hunstagram.global.aws.service.AwsS3MultipartUploader.MIN_PART_SIZE;
+import static com.example.hunstagram.global.exception.CustomErrorCode.IMAGE_UPLOAD_FAILED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+public class AwsS3MultipartUploaderTest {
+
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "a.png";
+    private static final String UPLOAD_ID = "upload-id";
+    private static final int MAX_BUFFERED_PARTS = 2;
+
+    @Mock
+    AmazonS3 amazonS3;
+
+    private AwsS3MultipartUploader createUploader(Executor partUploadExecutor) {
+        return new AwsS3MultipartUploader(amazonS3, partUploadExecutor, MIN_PART_SIZE, MAX_BUFFERED_PARTS);
+    }
+
+    private int availablePartBuffers(AwsS3MultipartUploader uploader) {
+        Semaphore partBuffers = (Semaphore) ReflectionTestUtils.getField(uploader, "partBuffers");
+        return partBuffers.availablePermits();
+    }
+
+    private void givenInitiate() {
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setUploadId(UPLOAD_ID);
+        given(amazonS3.initiateMultipartUpload(any())).willReturn(result);
+    }
+
+    // part 번호로 ETag 를 만들어 응답
+    private void givenUploadPart() {
+        willAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        }).given(amazonS3).uploadPart(any());
+    }
+
+    private List<UploadPartRequest> capturedParts(int count) {
+        ArgumentCaptor<UploadPartRequest> captor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        then(amazonS3).should(times(count)).uploadPart(captor.capture());
+        return captor.getAllValues();
+    }
+
+    @DisplayName("partSize 단위로 나누어 업로드하고, 마지막 part 는 남은 크기만 전송한 뒤 완료한다")
+    @Test
+    void upload_split_parts_success() {
+
+        // given
+        givenInitiate();
+        givenUploadPart();
+        AwsS3MultipartUploader uploader = createUploader(Runnable::run);
+        InputStream in = new ByteArrayInputStream(new byte[MIN_PART_SIZE * 2 + 100]);
+
+        // when
+        uploader.upload(BUCKET, KEY, in, "image/png");
+
+        // then
+        List<UploadPartRequest> parts = capturedParts(3);
+        assertThat(parts).extracting(UploadPartRequest::getPartNumber).containsExactly(1, 2, 3);
+        assertThat(parts).extracting(UploadPartRequest::getPartSize)
+                .containsExactly((long) MIN_PART_SIZE, (long) MIN_PART_SIZE, 100L);
+        assertThat(parts).extracting(UploadPartRequest::getUploadId).containsOnly(UPLOAD_ID);
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        then(amazonS3).should().completeMultipartUpload(complete.capture());
+        assertThat(complete.getValue().getPartETags()).extracting(PartETag::getPartNumber).containsExactly(1, 2, 3);
+        assertThat(complete.getValue().getPartETags()).extracting(PartETag::getETag)
+                .containsExactly("etag-1", "etag-2", "etag-3");
+        then(amazonS3).should(never()).abortMultipartUpload(any());
+        assertThat(availablePartBuffers(uploader)).isEqualTo(MAX_BUFFERED_PARTS);
+    }
+
+    @DisplayName("파일 크기가 partSize 의 배수이면 마지막 빈 part 는 전송하지 않는다")
+    @Test
+    void upload_exact_multiple_of_part_size() {
+
+        // given
+        givenInitiate();
+        givenUploadPart();
+        AwsS3MultipartUploader uploader = createUploader(Runnable::run);
+        InputStream in = new ByteArrayInputStream(new byte[MIN_PART_SIZE * 2]);
+
+        // when
+        uploader.upload(BUCKET, KEY, in, "image/png");
+
+        // then
+        List<UploadPartRequest> parts = capturedParts(2);
+        assertThat(parts).extracting(UploadPartRequest::getPartSize)
+                .containsExactly((long) MIN_PART_SIZE, (long) MIN_PART_SIZE);
+        then(amazonS3).should().completeMultipartUpload(any());
+        assertThat(availablePartBuffers(uploader)).isEqualTo(MAX_BUFFERED_PARTS);
+    }
+
+    @DisplayName("빈 파일은 크기 0 인 part 하나로 업로드하고, public-read 로 시작한다")
+    @Test
+    void upload_empty_single_part() {
+
+        // given
+        givenInitiate();
+        givenUploadPart();
+        AwsS3MultipartUploader uploader = createUploader(Runnable::run);
+
+        // when
+        uploader.upload(BUCKET, KEY, new ByteArrayInputStream(new byte[0]), "image/png");
+
+        // then
+        assertThat(capturedParts(1)).extracting(UploadPartRequest::getPartSize).containsExactly(0L);
+        then(amazonS3).should().initiateMultipartUpload(
+                argThat(request -> request.getCannedACL() == PublicRead
+                        && "image/png".equals(request.getObjectMetadata().getContentType())));
+        assertThat(availablePartBuffers(uploader)).isEqualTo(MAX_BUFFERED_PARTS);
+    }
+
+    @DisplayName("part 업로드가 실패하면 더 읽지 않고 multipart upload 를 abort 한 뒤 실패한다")
+    @Test
+    void upload_part_fail_abort() {
+
+        // given
+        givenInitiate();
+        willThrow(new IllegalStateException("part failed")).given(amazonS3).uploadPart(any());
+        AwsS3MultipartUploader uploader = createUploader(Runnable::run);
+        InputStream in = new ByteArrayInputStream(new byte[MIN_PART_SIZE * 3]);
+
+        // when
+        CustomException e = assertThrows(CustomException.class,
+                () -> uploader.upload(BUCKET, KEY, in, "image/png"));
+
+        // then
+        assertThat(e.getErrorCode()).isEqualTo(IMAGE_UPLOAD_FAILED);
+        capturedParts(1);
+        ArgumentCaptor<AbortMultipartUploadRequest> abort = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        then(amazonS3).should().abortMultipartUpload(abort.capture());
+        assertThat(abort.getValue().getUploadId()).isEqualTo(UPLOAD_ID);
+        then(amazonS3).should(never()).completeMultipartUpload(any());
+        assertThat(availablePartBuffers(uploader)).isEqualTo(MAX_BUFFERED_PARTS);
+    }
+
+    @DisplayName("파일을 읽다가 실패하면 abort 하고, 확보한 part 버퍼를 돌려준다")
+    @Test
+    void upload_read_fail_abort() {
+
+        // given - 첫 part 이후 읽기 실패
+        givenInitiate();
+        givenUploadPart();
+        AwsS3MultipartUploader uploader = createUploader(Runnable::run);
+        InputStream in = new InputStream() {
+            private int remaining = MIN_PART_SIZE;
+
+            @Override
+            public int read() throws IOException {
+                byte[] b = new byte[1];
+                return read(b, 0, 1) == -1 ? -1 : b[0];
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if (remaining == 0) {
+                    throw new IOException("read failed");
+                }
+                int read = Math.min(len, remaining);
+                remaining -= read;
+                return read;
+            }
+        };
+
+        // when
+        CustomException e = assertThrows(CustomException.class,
+                () -> uploader.upload(BUCKET, KEY, in, "image/png"));
+
+        // then
+        assertThat(e.getErrorCode()).isEqualTo(IMAGE_UPLOAD_FAILED);
+        capturedParts(1);
+        then(amazonS3).should().abortMultipartUpload(any());
+        then(amazonS3).should(never()).completeMultipartUpload(any());
+        assertThat(availablePartBuffers(uploader)).isEqualTo(MAX_BUFFERED_PARTS);
+    }
+
+    @DisplayName("part 업로드 executor 가 작업을 거절하면 abort 하고 예외를 그대로 던진다")
+    @Test
+    void upload_executor_rejected_abort() {
+
+        // given
+        givenInitiate();
+        AwsS3MultipartUploader uploader = createUploader(task -> {
+            throw new RejectedExecutionException("queue full");
+        });
+
+        // when & then
+        assertThrows(RejectedExecutionException.class,
+                () -> uploader.upload(BUCKET, KEY, new ByteArrayInputStream(new byte[100]), "image/png"));
+        then(amazonS3).should(never()).uploadPart(any());
+        then(amazonS3).should().abortMultipartUpload(any());
+        assertThat(availablePartBuffers(uploader)).isEqualTo(MAX_BUFFERED_PARTS);
+    }
+
+    @DisplayName("part 버퍼를 기다리다 interrupt 되면 abort 하고 interrupt 상태를 유지한다")
+    @Test
+    void upload_interrupted_abort() {
+
+        // given
+        givenInitiate();
+        AwsS3MultipartUploader uploader = createUploader(Runnable::run);
+        Thread.currentThread().interrupt();
+
+        // when
+        CustomException e;
+        try {
+            e = assertThrows(CustomException.class,
+                    () -> uploader.upload(BUCKET, KEY, new ByteArrayInputStream(new byte[100]), "image/png"));
+        } finally {
+            // then - interrupt 상태가 유지되었는지 확인하며 초기화
+            assertThat(Thread.interrupted()).isTrue();
+        }
+        assertThat(e.getErrorCode()).isEqualTo(IMAGE_UPLOAD_FAILED);
+        then(amazonS3).should(never()).uploadPart(any());
+        then(amazonS3).should().abortMultipartUpload(any());
+        assertThat(availablePartBuffers(uploader)).isEqualTo(MAX_BUFFERED_PARTS);
+    }
+
+    @DisplayName("abort 가 실패해도 원래 실패로 응답한다")
+    @Test
+    void upload_abort_fail() {
+
+        // given
+        givenInitiate();
+        willThrow(new IllegalStateException("part failed")).given(amazonS3).uploadPart(any());
+        willThrow(new IllegalStateException("abort failed")).given(amazonS3).abortMultipartUpload(any());
+        AwsS3MultipartUploader uploader = createUploader(Runnable::run);
+
+        // when
+        CustomException e = assertThrows(CustomException.class,
+                () -> uploader.upload(BUCKET, KEY, new ByteArrayInputStream(new byte[100]), "image/png"));
+
+        // then
+        assertThat(e.getErrorCode()).isEqualTo(IMAGE_UPLOAD_FAILED);
+        assertThat(availablePartBuffers(uploader)).isEqualTo(MAX_BUFFERED_PARTS);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.hunstagram.unit.global.aws;
+
+import com.example.hunstagram.global.aws.service.AwsS3Service;
+import com.example.hunstagram.global.aws.service.StoredImageService;
+import com.example.hunstagram.global.dto.UploadedImage;
+import com.example.hunstagram.global.exception.CustomException;
+import com.example.hunstagram.global.image.ImageProcessor;
+import com.example.hunstagram.global.storage.HotObjectCache;
+import com.example.hunstagram.global.storage.ObjectStorage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.hunstagram.global.exception.CustomErrorCode.IMAGE_PROCESSING_BUSY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+public class AwsS3ServiceTest {
+
+    @Mock
+    ObjectStorage objectStorage;
+
+    @Mock
+    HotObjectCache hotObjectCache;
+
+    @Mock
+    ImageProcessor imageProcessor;
+
+    @Mock
+    StoredImageService storedImageService;
+
+    @DisplayName("이미지 처리 큐가 가득 차면 요청 스레드에서 처리하지 않고 503 으로 거절하며, 먼저 처리된 이미지의 참조를 해제한다")
+    @Test
+    void upload_images_processing_busy_fail() {
+
+        // given - 첫 번째 이미지만 받고 이후는 거절하는 executor
+        AtomicInteger submitted = new AtomicInteger();
+        Executor processingExecutor = task -> {
+            if (submitted.incrementAndGet() > 1) {
+                throw new RejectedExecutionException("queue full");
+            }
+            task.run();
+        };
+        AwsS3Service awsS3Service = new AwsS3Service(objectStorage, hotObjectCache, imageProcessor,
+                storedImageService, processingExecutor, Runnable::run);
+        UploadedImage stored = new UploadedImage("/images/a.png", "/images/a_thumb.jpg", "/images/a_medium.jpg");
+        given(storedImageService.acquire(anyString())).willReturn(Optional.of(stored));
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("images", "a.png", "image/png", "a".getBytes()),
+                new MockMultipartFile("images", "b.png", "image/png", "b".getBytes()));
+
+        // when
+        CustomException e = assertThrows(CustomException.class, () -> awsS3Service.uploadImages(files));
+
+        // then
+        assertThat(e.getErrorCode()).isEqualTo(IMAGE_PROCESSING_BUSY);
+        assertThat(submitted.get()).isEqualTo(2);
+        then(storedImageService).should().release(List.of(stored));
+        then(imageProcessor).shouldHaveNoInteractions();
+    }
+}
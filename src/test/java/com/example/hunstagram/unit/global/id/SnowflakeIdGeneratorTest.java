@@ -0,0 +1,205 @@
+package com.example.hunstagram.unit.global.id;
+
+import com.example.hunstagram.global.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public class SnowflakeIdGeneratorTest {
+
+    // 테스트에서 시간을 직접 조절하기 위한 Clock
+    static class MutableClock extends Clock {
+        private long millis = SnowflakeIdGenerator.EPOCH + 1_000L;
+
+        void advanceMillis(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+
+    @DisplayName("id 에 생성 시각, 노드 번호, sequence 가 담긴다")
+    @Test
+    void id_layout() {
+
+        // given
+        MutableClock clock = new MutableClock();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, 1_000L, clock);
+
+        // when
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        // then
+        assertThat(SnowflakeIdGenerator.timestamp(first)).isEqualTo(clock.millis());
+        assertThat(SnowflakeIdGenerator.nodeId(first)).isEqualTo(7);
+        assertThat(SnowflakeIdGenerator.sequence(first)).isZero();
+        assertThat(SnowflakeIdGenerator.sequence(second)).isEqualTo(1);
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @DisplayName("다음 ms 에 생성한 id 는 이전 id 보다 크고 sequence 가 0 부터 다시 시작한다")
+    @Test
+    void next_millis_reset_sequence() {
+
+        // given
+        MutableClock clock = new MutableClock();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 1_000L, clock);
+        generator.nextId();
+        long prev = generator.nextId();
+
+        // when
+        clock.advanceMillis(1);
+        long next = generator.nextId();
+
+        // then
+        assertThat(next).isGreaterThan(prev);
+        assertThat(SnowflakeIdGenerator.sequence(next)).isZero();
+    }
+
+    @DisplayName("같은 ms 에 sequence 를 모두 사용하면 다음 ms 를 미리 사용한다")
+    @Test
+    void sequence_exhausted_borrow_next_millis() {
+
+        // given
+        MutableClock clock = new MutableClock();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 1_000L, clock);
+        long prev = 0;
+        for (int i = 0; i < 4096; i++) {
+            prev = generator.nextId();
+        }
+
+        // when
+        long next = generator.nextId();
+
+        // then
+        assertThat(next).isGreaterThan(prev);
+        assertThat(SnowflakeIdGenerator.timestamp(next)).isEqualTo(clock.millis() + 1);
+        assertThat(SnowflakeIdGenerator.sequence(next)).isZero();
+    }
+
+    @DisplayName("시계가 허용 범위 안에서 뒤로 가면 마지막 시각을 유지하며 증가하는 id 를 생성한다")
+    @Test
+    void clock_backwards_within_tolerance() {
+
+        // given
+        MutableClock clock = new MutableClock();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 1_000L, clock);
+        clock.advanceMillis(500);
+        long beforeSkew = generator.nextId();
+
+        // when
+        clock.advanceMillis(-300);
+        long afterSkew = generator.nextId();
+        clock.advanceMillis(400);
+        long recovered = generator.nextId();
+
+        // then
+        assertThat(afterSkew).isGreaterThan(beforeSkew);
+        assertThat(SnowflakeIdGenerator.timestamp(afterSkew)).isEqualTo(SnowflakeIdGenerator.timestamp(beforeSkew));
+        assertThat(recovered).isGreaterThan(afterSkew);
+        assertThat(SnowflakeIdGenerator.timestamp(recovered)).isEqualTo(clock.millis());
+    }
+
+    @DisplayName("시계가 허용 범위를 넘어 뒤로 가면 id 를 생성하지 않는다")
+    @Test
+    void clock_backwards_over_tolerance_fail() {
+
+        // given
+        MutableClock clock = new MutableClock();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 1_000L, clock);
+        clock.advanceMillis(5_000);
+        generator.nextId();
+
+        // when
+        clock.advanceMillis(-1_001);
+
+        // then
+        assertThatThrownBy(generator::nextId)
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("범위를 벗어난 노드 번호는 허용하지 않는다")
+    @Test
+    void invalid_node_id_fail() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(1024))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("여러 스레드에서 동시에 생성해도 id 가 중복되지 않고 스레드마다 증가한다")
+    @Test
+    void concurrent_unique() throws Exception {
+
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3);
+        int threads = 8;
+        int perThread = 20_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                long prev = Long.MIN_VALUE;
+                boolean increasing = true;
+                for (int i = 0; i < perThread; i++) {
+                    long id = generator.nextId();
+                    increasing &= id > prev;
+                    prev = id;
+                    ids.add(id);
+                }
+                return increasing;
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        executor.shutdown();
+        assertThat(ids).hasSize(threads * perThread);
+    }
+}
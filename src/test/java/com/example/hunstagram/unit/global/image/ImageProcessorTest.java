@@ -0,0 +1,82 @@
+package com.example.hunstagram.unit.global.image;
+
+import com.example.hunstagram.global.image.ImageProcessor;
+import com.example.hunstagram.global.type.ImageVariantType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static com.example.hunstagram.global.type.ImageVariantType.MEDIUM;
+import static com.example.hunstagram.global.type.ImageVariantType.THUMBNAIL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public class ImageProcessorTest {
+
+    ImageProcessor imageProcessor = new ImageProcessor();
+
+    private ByteArrayInputStream createImage(int width, int height, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    private BufferedImage read(byte[] bytes) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(bytes));
+    }
+
+    @DisplayName("썸네일은 가운데 기준 정사각형으로, 중간 크기는 비율을 유지해서 JPEG 로 만든다")
+    @Test
+    void process_variants() throws IOException {
+
+        // when
+        Map<ImageVariantType, byte[]> variants = imageProcessor.process(createImage(1200, 800, "png"));
+
+        // then
+        BufferedImage thumbnail = read(variants.get(THUMBNAIL));
+        BufferedImage medium = read(variants.get(MEDIUM));
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(320);
+        assertThat(medium.getWidth()).isEqualTo(640);
+        assertThat(medium.getHeight()).isEqualTo(427);
+    }
+
+    @DisplayName("변형 크기보다 작은 이미지는 늘리지 않는다")
+    @Test
+    void process_small_image_not_upscaled() throws IOException {
+
+        // when
+        Map<ImageVariantType, byte[]> variants = imageProcessor.process(createImage(300, 200, "png"));
+
+        // then
+        BufferedImage thumbnail = read(variants.get(THUMBNAIL));
+        BufferedImage medium = read(variants.get(MEDIUM));
+        assertThat(thumbnail.getWidth()).isEqualTo(200);
+        assertThat(thumbnail.getHeight()).isEqualTo(200);
+        assertThat(medium.getWidth()).isEqualTo(300);
+        assertThat(medium.getHeight()).isEqualTo(200);
+    }
+
+    @DisplayName("디코딩할 수 없는 파일은 변형 이미지를 만들지 않는다")
+    @Test
+    void process_not_image() {
+
+        // when
+        Map<ImageVariantType, byte[]> variants = imageProcessor.process(
+                new ByteArrayInputStream("not image".getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(variants).isEmpty();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.hunstagram.unit.global.scheduler;
+
+import com.example.hunstagram.global.aws.entity.ObjectDeletion;
+import com.example.hunstagram.global.aws.entity.ObjectDeletionRepository;
+import com.example.hunstagram.global.aws.service.AwsS3Service;
+import com.example.hunstagram.global.scheduler.ObjectDeletionScheduler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+public class ObjectDeletionSchedulerTest {
+
+    @InjectMocks
+    ObjectDeletionScheduler objectDeletionScheduler;
+
+    @Mock
+    ObjectDeletionRepository objectDeletionRepository;
+
+    @Mock
+    AwsS3Service awsS3Service;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    private ObjectDeletion createDeletion(Long id, String path) {
+        ObjectDeletion deletion = new ObjectDeletion(path);
+        ReflectionTestUtils.setField(deletion, "id", id);
+        return deletion;
+    }
+
+    // TransactionTemplate 내부 로직이 실제로 실행되도록 설정
+    private void givenTransaction() {
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @DisplayName("outbox 의 이미지를 한 번에 삭제하고, 삭제된 row 는 제거하고 실패한 row 는 실패 횟수를 올린다")
+    @Test
+    void drain_success() {
+
+        // given
+        givenTransaction();
+        List<ObjectDeletion> deletions = List.of(
+                createDeletion(1L, "https://bucket/a.png"),
+                createDeletion(2L, "https://bucket/b.png"),
+                createDeletion(3L, "https://bucket/c.png"));
+        given(objectDeletionRepository.findPending(anyInt(), any())).willReturn(deletions);
+        given(awsS3Service.deleteObjects(List.of("https://bucket/a.png", "https://bucket/b.png", "https://bucket/c.png")))
+                .willReturn(List.of("https://bucket/b.png"));
+
+        // when
+        objectDeletionScheduler.drain();
+
+        // then
+        then(objectDeletionRepository).should().deleteAllByIdInBatch(List.of(1L, 3L));
+        then(objectDeletionRepository).should().addAttempts(List.of(2L));
+    }
+
+    @DisplayName("S3 요청 자체가 실패하면 outbox 를 그대로 두고 다음 주기에 다시 시도한다")
+    @Test
+    void drain_s3_fail() {
+
+        // given
+        given(objectDeletionRepository.findPending(anyInt(), any()))
+                .willReturn(List.of(createDeletion(1L, "https://bucket/a.png")));
+        given(awsS3Service.deleteObjects(any())).willThrow(new IllegalStateException("s3 down"));
+
+        // when
+        objectDeletionScheduler.drain();
+
+        // then
+        then(transactionTemplate).shouldHaveNoInteractions();
+        then(objectDeletionRepository).should(never()).addAttempts(any());
+    }
+
+    @DisplayName("삭제할 이미지가 없으면 S3 를 호출하지 않는다")
+    @Test
+    void drain_empty() {
+
+        // given
+        given(objectDeletionRepository.findPending(anyInt(), any())).willReturn(List.of());
+
+        // when
+        objectDeletionScheduler.drain();
+
+        // then
+        then(awsS3Service).shouldHaveNoInteractions();
+    }
+}
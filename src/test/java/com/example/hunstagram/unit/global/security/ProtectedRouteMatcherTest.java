@@ -0,0 +1,178 @@
+package com.example.hunstagram.unit.global.security;
+
+import com.example.hunstagram.global.security.filter.ProtectedRouteMatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+import static com.example.hunstagram.global.security.filter.CustomAuthorizationFilter.PROTECTED_ROUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpMethod.DELETE;
+import static org.springframework.http.HttpMethod.POST;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public class ProtectedRouteMatcherTest {
+
+    private static final List<String> METHODS = List.of("GET", "POST", "PUT", "PATCH", "DELETE");
+
+    private static final List<String> PATHS = List.of(
+            "/v1/users/signup", "/v1/users/signup/info", "/v1/users/refresh", "/v1/users/logout",
+            "/v1/users/profile/my", "/v1/users/profile/1", "/v1/users/profile/1/posts",
+            "/v1/follow/1", "/v1/follow/abc", "/v1/follow/followee/1", "/v1/follow/following/1/cursor",
+            "/v1/posts", "/v1/posts/1", "/v1/posts/like", "/v1/posts/1/like", "/v1/posts/1/likes",
+            "/v1/comments", "/v1/comments/1", "/v1/comments/1/like",
+            "/v1/hashtags/search", "/v1/hashtags/trending", "/v1/feed", "/images/a.jpg");
+
+    // trie 도입 전 CustomAuthorizationFilter.shouldNotFilter 의 AntPathMatcher 조건 (보호 대상이면 true)
+    private static boolean baseline(String method, String path) {
+        AntPathMatcher pathMatcher = new AntPathMatcher();
+        return pathMatcher.match("/v1/users/logout", path) ||
+                pathMatcher.match("/v1/users/profile/my", path) ||
+                pathMatcher.match("/v1/follow/{toUserId:\\d+}", path) ||
+                pathMatcher.match("/v1/posts/**/like", path) ||
+                (pathMatcher.match("/v1/posts/**", path) && method.equals("POST")) ||
+                (pathMatcher.match("/v1/posts/**", path) && method.equals("DELETE")) ||
+                pathMatcher.match("/v1/comments/**/like", path) ||
+                (pathMatcher.match("/v1/comments/**", path) && method.equals("POST")) ||
+                (pathMatcher.match("/v1/comments/**", path) && method.equals("DELETE"));
+    }
+
+    // 이후 의도적으로 추가한 보호 대상 - 게시글 수정(PATCH /v1/posts/**), 홈 피드(/v1/feed)
+    private static boolean added(String method, String path) {
+        return (method.equals("PATCH") && new AntPathMatcher().match("/v1/posts/**", path))
+                || path.equals("/v1/feed");
+    }
+
+    @DisplayName("literal segment 는 같은 문자열의 segment 하나와만 매칭된다")
+    @Test
+    void match_literal() {
+
+        // given
+        ProtectedRouteMatcher matcher = new ProtectedRouteMatcher().add("/v1/users/logout");
+
+        // when & then
+        assertThat(matcher.matches("GET", "/v1/users/logout")).isTrue();
+        assertThat(matcher.matches("GET", "/v1/users/logou")).isFalse();
+        assertThat(matcher.matches("GET", "/v1/users/logouts")).isFalse();
+        assertThat(matcher.matches("GET", "/v1/users")).isFalse();
+        assertThat(matcher.matches("GET", "/v1/users/logout/1")).isFalse();
+        assertThat(matcher.matches("GET", "/")).isFalse();
+    }
+
+    @DisplayName("{name:\\d+} segment 는 숫자로만 구성된 segment 하나와 매칭된다")
+    @Test
+    void match_number() {
+
+        // given
+        ProtectedRouteMatcher matcher = new ProtectedRouteMatcher().add("/v1/follow/{toUserId:\\d+}");
+
+        // when & then
+        assertThat(matcher.matches("POST", "/v1/follow/1")).isTrue();
+        assertThat(matcher.matches("POST", "/v1/follow/1234567890")).isTrue();
+        assertThat(matcher.matches("POST", "/v1/follow/abc")).isFalse();
+        assertThat(matcher.matches("POST", "/v1/follow/12a")).isFalse();
+        assertThat(matcher.matches("POST", "/v1/follow")).isFalse();
+        assertThat(matcher.matches("POST", "/v1/follow/1/2")).isFalse();
+    }
+
+    @DisplayName("{name}, * segment 는 임의의 segment 하나와 매칭된다")
+    @Test
+    void match_wildcard() {
+
+        // given
+        ProtectedRouteMatcher matcher = new ProtectedRouteMatcher()
+                .add("/v1/users/{userId}/posts")
+                .add("/v1/images/*");
+
+        // when & then
+        assertThat(matcher.matches("GET", "/v1/users/abc/posts")).isTrue();
+        assertThat(matcher.matches("GET", "/v1/users/1/posts")).isTrue();
+        assertThat(matcher.matches("GET", "/v1/users/posts")).isFalse();
+        assertThat(matcher.matches("GET", "/v1/users/1/2/posts")).isFalse();
+        assertThat(matcher.matches("GET", "/v1/images/a.jpg")).isTrue();
+        assertThat(matcher.matches("GET", "/v1/images")).isFalse();
+        assertThat(matcher.matches("GET", "/v1/images/a/b.jpg")).isFalse();
+    }
+
+    @DisplayName("** segment 는 0개 이상의 segment 와 매칭된다")
+    @Test
+    void match_double_wildcard() {
+
+        // given
+        ProtectedRouteMatcher matcher = new ProtectedRouteMatcher()
+                .add("/v1/posts/**/like")
+                .add("/v1/comments/**");
+
+        // when & then
+        assertThat(matcher.matches("GET", "/v1/posts/like")).isTrue();
+        assertThat(matcher.matches("GET", "/v1/posts/1/like")).isTrue();
+        assertThat(matcher.matches("GET", "/v1/posts/1/2/3/like")).isTrue();
+        assertThat(matcher.matches("GET", "/v1/posts/1/likes")).isFalse();
+        assertThat(matcher.matches("GET", "/v1/posts/1/like/2")).isFalse();
+        assertThat(matcher.matches("GET", "/v1/posts")).isFalse();
+        assertThat(matcher.matches("GET", "/v1/comments")).isTrue();
+        assertThat(matcher.matches("GET", "/v1/comments/1")).isTrue();
+        assertThat(matcher.matches("GET", "/v1/comments/1/2/3")).isTrue();
+        assertThat(matcher.matches("GET", "/v1/commentsx")).isFalse();
+    }
+
+    @DisplayName("Http Method 를 지정하면 해당 Method 만, 지정하지 않으면 모든 Method 와 매칭된다")
+    @Test
+    void match_method() {
+
+        // given
+        ProtectedRouteMatcher matcher = new ProtectedRouteMatcher()
+                .add("/v1/posts/**", POST, DELETE)
+                .add("/v1/feed");
+
+        // when & then
+        assertThat(matcher.matches("POST", "/v1/posts/1")).isTrue();
+        assertThat(matcher.matches("DELETE", "/v1/posts/1")).isTrue();
+        assertThat(matcher.matches("GET", "/v1/posts/1")).isFalse();
+        assertThat(matcher.matches("PATCH", "/v1/posts/1")).isFalse();
+        assertThat(matcher.matches("PROPFIND", "/v1/posts/1")).isFalse();
+        assertThat(matcher.matches("GET", "/v1/feed")).isTrue();
+        assertThat(matcher.matches("PROPFIND", "/v1/feed")).isTrue();
+    }
+
+    @DisplayName("연속된 '/', 끝의 '/' 는 무시한다")
+    @Test
+    void match_repeated_and_trailing_slash() {
+
+        // given
+        ProtectedRouteMatcher matcher = new ProtectedRouteMatcher()
+                .add("/v1/users/logout")
+                .add("/v1/posts/**/like");
+
+        // when & then
+        assertThat(matcher.matches("POST", "/v1/users/logout/")).isTrue();
+        assertThat(matcher.matches("POST", "//v1///users/logout//")).isTrue();
+        assertThat(matcher.matches("POST", "v1/users/logout")).isTrue();
+        assertThat(matcher.matches("POST", "/v1/posts//1///like/")).isTrue();
+        assertThat(matcher.matches("POST", "/v1/users//")).isFalse();
+    }
+
+    @DisplayName("보호 대상 Endpoint 는 의도적으로 추가한 PATCH /v1/posts/**, /v1/feed 를 제외하면 AntPathMatcher 조건과 같게 매칭된다")
+    @Test
+    void protected_routes_same_as_baseline() {
+        for (String method : METHODS) {
+            for (String path : PATHS) {
+                assertThat(PROTECTED_ROUTES.matches(method, path))
+                        .as("%s %s", method, path)
+                        .isEqualTo(baseline(method, path) || added(method, path));
+            }
+        }
+
+        // 게시글 수정은 이전 조건에서 누락되어 토큰 없이 필터를 통과했다
+        assertThat(baseline("PATCH", "/v1/posts/1")).isFalse();
+        assertThat(PROTECTED_ROUTES.matches("PATCH", "/v1/posts/1")).isTrue();
+        assertThat(PROTECTED_ROUTES.matches("GET", "/v1/posts/1")).isFalse();
+        assertThat(baseline("GET", "/v1/feed")).isFalse();
+        assertThat(PROTECTED_ROUTES.matches("GET", "/v1/feed")).isTrue();
+    }
+}
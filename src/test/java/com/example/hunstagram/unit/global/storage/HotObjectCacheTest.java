@@ -0,0 +1,109 @@
+package com.example.hunstagram.unit.global.storage;
+
+import com.example.hunstagram.global.storage.HotObjectCache;
+import com.example.hunstagram.global.storage.StoredObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public class HotObjectCacheTest {
+
+    private StoredObject createObject(String key, int size) {
+        return new StoredObject(key, size, "image/jpeg", Instant.parse("2026-10-18T00:00:00Z"));
+    }
+
+    @DisplayName("admit-count 번 이상 요청된 객체만 적재 대상이 된다")
+    @Test
+    void admit_after_count() {
+
+        // given
+        HotObjectCache cache = new HotObjectCache(100, 10, 2);
+        StoredObject object = createObject("a.jpg", 10);
+
+        // when & then
+        assertThat(cache.admit(object)).isFalse();
+        assertThat(cache.admit(object)).isTrue();
+    }
+
+    @DisplayName("일정 횟수마다 요청 빈도를 초기화해서 예전 요청은 입장에 반영하지 않는다")
+    @Test
+    void admit_reset_interval() {
+
+        // given
+        HotObjectCache cache = new HotObjectCache(100, 10, 2);
+        StoredObject object = createObject("a.jpg", 10);
+        int interval = (int) ReflectionTestUtils.getField(HotObjectCache.class, "SKETCH_RESET_INTERVAL");
+        assertThat(cache.admit(object)).isFalse();
+        for (int i = 1; i < interval - 1; i++) {
+            cache.admit(createObject("other" + i + ".jpg", 10));
+        }
+
+        // when & then - interval 번째 요청에서 초기화되므로 a 는 다시 처음부터 센다
+        assertThat(cache.admit(object)).isFalse();
+        assertThat(cache.admit(object)).isTrue();
+    }
+
+    @DisplayName("객체 하나의 최대 크기를 넘는 객체는 적재하지 않는다")
+    @Test
+    void admit_large_object_rejected() {
+
+        // given
+        HotObjectCache cache = new HotObjectCache(100, 10, 1);
+        StoredObject object = createObject("a.jpg", 11);
+
+        // when
+        cache.put(object, new byte[11]);
+
+        // then
+        assertThat(cache.admit(object)).isFalse();
+        assertThat(cache.get("a.jpg")).isEmpty();
+    }
+
+    @DisplayName("전체 크기를 넘으면 최근에 조회되지 않은 객체부터 제거한다")
+    @Test
+    void put_evict_not_referenced_first() {
+
+        // given
+        HotObjectCache cache = new HotObjectCache(30, 10, 1);
+        cache.put(createObject("a.jpg", 10), new byte[10]);
+        cache.put(createObject("b.jpg", 10), new byte[10]);
+        cache.put(createObject("c.jpg", 10), new byte[10]);
+        cache.get("a.jpg");
+
+        // when
+        cache.put(createObject("d.jpg", 10), new byte[10]);
+
+        // then - a 는 조회되었으므로 한 번 더 남고, 조회되지 않은 b 가 제거된다
+        assertThat(cache.get("a.jpg")).isPresent();
+        assertThat(cache.get("b.jpg")).isEmpty();
+        assertThat(cache.get("c.jpg")).isPresent();
+        assertThat(cache.get("d.jpg")).isPresent();
+    }
+
+    @DisplayName("삭제된 객체는 캐시에서 제거하고 사용하던 크기를 돌려준다")
+    @Test
+    void invalidate_success() {
+
+        // given
+        HotObjectCache cache = new HotObjectCache(20, 10, 1);
+        cache.put(createObject("a.jpg", 10), new byte[10]);
+        cache.put(createObject("b.jpg", 10), new byte[10]);
+
+        // when
+        cache.invalidate("a.jpg");
+        cache.put(createObject("c.jpg", 10), new byte[10]);
+
+        // then
+        assertThat(cache.get("a.jpg")).isEmpty();
+        assertThat(cache.get("b.jpg")).isPresent();
+        assertThat(cache.get("c.jpg").orElseThrow().getBytes()).hasSize(10);
+    }
+}
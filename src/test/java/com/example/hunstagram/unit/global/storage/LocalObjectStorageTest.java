@@ -0,0 +1,173 @@
+package com.example.hunstagram.unit.global.storage;
+
+import com.example.hunstagram.global.exception.CustomException;
+import com.example.hunstagram.global.storage.LocalObjectStorage;
+import com.example.hunstagram.global.storage.StoredObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.example.hunstagram.global.exception.CustomErrorCode.IMAGE_UPLOAD_FAILED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public class LocalObjectStorageTest {
+
+    @TempDir
+    Path root;
+
+    LocalObjectStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalObjectStorage(root.toString(), "/images");
+    }
+
+    private byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @DisplayName("객체를 저장하면 key 이름의 파일로 쓰고 base url 기준 url 을 반환한다")
+    @Test
+    void put_success() throws IOException {
+
+        // when
+        String url = storage.put("a.png", new ByteArrayInputStream(bytes("image")), 5, "image/png");
+
+        // then
+        assertThat(url).isEqualTo("/images/a.png");
+        assertThat(Files.readAllBytes(root.resolve("a.png"))).isEqualTo(bytes("image"));
+        try (Stream<Path> files = Files.list(root)) {
+            assertThat(files).containsExactly(root.resolve("a.png"));
+        }
+    }
+
+    @DisplayName("업로드 스트림을 읽다가 실패하면 임시 파일을 지우고 예외를 던진다")
+    @Test
+    void put_read_fail() throws IOException {
+
+        // given
+        InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("broken");
+            }
+        };
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> storage.put("a.png", broken, 5, "image/png"));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(IMAGE_UPLOAD_FAILED);
+        try (Stream<Path> files = Files.list(root)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @DisplayName("하위 경로나 숨김 파일을 가리키는 key 는 사용할 수 없다")
+    @Test
+    void invalid_key_fail() throws IOException {
+        assertThrows(IllegalArgumentException.class,
+                () -> storage.put("../a.png", new ByteArrayInputStream(bytes("image")), 5, "image/png"));
+        assertThrows(IllegalArgumentException.class, () -> storage.read("dir/a.png"));
+        assertThat(storage.stat(".upload-1.tmp")).isEmpty();
+    }
+
+    @DisplayName("저장된 객체의 크기, content type, 수정 시각을 조회한다")
+    @Test
+    void stat_success() throws IOException {
+
+        // given
+        storage.put("a_thumb.jpg", bytes("thumbnail"), "image/jpeg");
+
+        // when
+        StoredObject object = storage.stat("a_thumb.jpg").orElseThrow();
+
+        // then
+        assertThat(object.getKey()).isEqualTo("a_thumb.jpg");
+        assertThat(object.getSize()).isEqualTo(9);
+        assertThat(object.getContentType()).isEqualTo("image/jpeg");
+        assertThat(object.getLastModified()).isNotNull();
+        assertThat(storage.stat("none.jpg")).isEmpty();
+    }
+
+    @DisplayName("지정한 범위만 target channel 로 전송하고, 파일 끝을 넘는 범위는 잘라낸다")
+    @Test
+    void transfer_range_success() throws IOException {
+
+        // given
+        storage.put("a.png", bytes("0123456789"), "image/png");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream tail = new ByteArrayOutputStream();
+
+        // when
+        long transferred = storage.transferTo("a.png", 2, 3, Channels.newChannel(out));
+        long tailTransferred = storage.transferTo("a.png", 8, 100, Channels.newChannel(tail));
+
+        // then
+        assertThat(transferred).isEqualTo(3);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("234");
+        assertThat(tailTransferred).isEqualTo(2);
+        assertThat(tail.toString(StandardCharsets.UTF_8)).isEqualTo("89");
+        assertThat(storage.transferTo("a.png", 20, 5, Channels.newChannel(new ByteArrayOutputStream())))
+                .isZero();
+    }
+
+    @DisplayName("객체 전체를 읽기 전용 버퍼로 읽는다")
+    @Test
+    void read_success() throws IOException {
+
+        // given
+        storage.put("a.png", bytes("image"), "image/png");
+
+        // when
+        ByteBuffer buffer = storage.read("a.png");
+
+        // then
+        byte[] read = new byte[buffer.remaining()];
+        buffer.get(read);
+        assertThat(read).isEqualTo(bytes("image"));
+        assertThat(buffer.isReadOnly()).isTrue();
+        assertThrows(NoSuchFileException.class, () -> storage.read("none.png"));
+    }
+
+    @DisplayName("객체를 삭제하고, 없는 객체를 삭제해도 실패하지 않는다")
+    @Test
+    void delete_success() {
+
+        // given
+        storage.put("a.png", bytes("a"), "image/png");
+        storage.put("b.png", bytes("b"), "image/png");
+        storage.put("c.png", bytes("c"), "image/png");
+
+        // when
+        storage.delete("a.png");
+        storage.delete("none.png");
+        List<String> failed = storage.deleteAll(List.of("b.png", "c.png", "none.png"));
+
+        // then
+        assertThat(failed).isEmpty();
+        assertThat(root.resolve("a.png")).doesNotExist();
+        assertThat(root.resolve("b.png")).doesNotExist();
+        assertThat(root.resolve("c.png")).doesNotExist();
+    }
+}
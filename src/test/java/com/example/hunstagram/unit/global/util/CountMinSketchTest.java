@@ -0,0 +1,152 @@
+package com.example.hunstagram.unit.global.util;
+
+import com.example.hunstagram.global.util.CountMinSketch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public class CountMinSketchTest {
+
+    @DisplayName("추정치는 실제 횟수보다 작지 않고, 충분한 width 에서는 오차가 작다")
+    @Test
+    void estimate_never_underestimates() {
+
+        // given
+        CountMinSketch sketch = new CountMinSketch(4, 2048);
+        for (int i = 0; i < 1000; i++) {
+            sketch.add("tag" + i);
+        }
+        for (int i = 0; i < 50; i++) {
+            sketch.add("hot");
+        }
+
+        // when & then
+        assertThat(sketch.estimate("hot")).isBetween(50, 55);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(sketch.estimate("tag" + i)).isGreaterThanOrEqualTo(1);
+        }
+    }
+
+    @DisplayName("String.hashCode 가 같은 key 도 서로 다른 카운터에 센다")
+    @Test
+    void estimate_same_string_hash_code() {
+
+        // given
+        CountMinSketch sketch = new CountMinSketch(4, 2048);
+        for (int i = 0; i < 10; i++) {
+            sketch.add("Aa");
+        }
+
+        // when & then
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        assertThat(sketch.estimate("Aa")).isEqualTo(10);
+        assertThat(sketch.estimate("BB")).isZero();
+    }
+
+    @DisplayName("길이(UTF-8 바이트 수)와 관계없이 key 마다 추정치를 센다")
+    @Test
+    void estimate_any_length() {
+
+        // given
+        CountMinSketch sketch = new CountMinSketch(4, 2048);
+        StringBuilder key = new StringBuilder();
+        for (int length = 0; length <= 33; length++) {
+            sketch.add(key.toString());
+            key.append(length % 2 == 0 ? "a" : "해");
+        }
+
+        // when & then
+        key.setLength(0);
+        for (int length = 0; length <= 33; length++) {
+            assertThat(sketch.estimate(key.toString())).isGreaterThanOrEqualTo(1);
+            key.append(length % 2 == 0 ? "a" : "해");
+        }
+        assertThat(sketch.estimate("spring")).isZero();
+    }
+
+    @DisplayName("여러 스레드에서 lock 없이 동시에 add 해도 증가가 유실되지 않는다")
+    @Test
+    void add_concurrent_no_loss() throws Exception {
+
+        // given
+        CountMinSketch sketch = new CountMinSketch(4, 2048);
+        int threads = 4;
+        int addsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < addsPerThread; j++) {
+                    sketch.add("hot");
+                }
+                return null;
+            }));
+        }
+
+        // when
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(sketch.estimate("hot")).isEqualTo(threads * addsPerThread);
+    }
+
+    @DisplayName("카운터가 최댓값이면 더 증가시키지 않는다")
+    @Test
+    void add_saturated() {
+
+        // given
+        CountMinSketch sketch = new CountMinSketch(2, 1);
+        for (AtomicIntegerArray counters : (AtomicIntegerArray[]) ReflectionTestUtils.getField(sketch, "counts")) {
+            counters.set(0, Integer.MAX_VALUE);
+        }
+
+        // when & then
+        assertThat(sketch.add("spring")).isEqualTo(Integer.MAX_VALUE);
+        assertThat(sketch.estimate("spring")).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @DisplayName("depth, width 는 1 이상이어야 한다")
+    @Test
+    void invalid_size() {
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(0, 64));
+        assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(4, 0));
+    }
+
+    @DisplayName("clear 하면 모든 추정치가 0 이 된다")
+    @Test
+    void clear() {
+
+        // given
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+        sketch.add("spring");
+
+        // when
+        sketch.clear();
+
+        // then
+        assertThat(sketch.estimate("spring")).isZero();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.hunstagram.unit.hashtag.controller;
+
+import com.example.hunstagram.domain.hashtag.controller.HashtagApiController;
+import com.example.hunstagram.domain.hashtag.dto.HashtagDto;
+import com.example.hunstagram.domain.hashtag.service.HashtagService;
+import com.example.hunstagram.domain.post.dto.PostDto;
+import com.example.hunstagram.domain.user.entity.UserRepository;
+import com.example.hunstagram.global.dto.CursorResponse;
+import com.example.hunstagram.global.security.SecurityConfig;
+import com.example.hunstagram.global.security.service.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@MockBean(JpaMetamodelMappingContext.class)
+@WebMvcTest(controllers = HashtagApiController.class,
+        excludeFilters = {
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SecurityConfig.class),
+        })
+public class HashtagApiControllerTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @MockBean
+    private HashtagService hashtagService;
+
+    @MockBean
+    private JwtService jwtService;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @DisplayName("해시태그 검색에 성공한다")
+    @WithMockUser
+    @Test
+    void search_success() throws Exception {
+
+        // given
+        HashtagDto.SearchResponse response = new HashtagDto.SearchResponse("spring", 1L,
+                CursorResponse.of(List.of(new PostDto.PostThumbnailResponse(3L, "thumbnail")), null));
+        given(hashtagService.search(eq("spring"), any(), any())).willReturn(response);
+
+        // when & then
+        mvc.perform(get("/v1/hashtags/search")
+                        .param("tag", "spring"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tag").value("spring"))
+                .andExpect(jsonPath("$.postCount").value(1L))
+                .andExpect(jsonPath("$.posts.content[0].postId").value("3"))
+                .andExpect(jsonPath("$.posts.hasNext").value(false))
+                .andDo(print());
+    }
+
+    @DisplayName("인기 해시태그 조회에 성공한다")
+    @WithMockUser
+    @Test
+    void get_trending_success() throws Exception {
+
+        // given
+        given(hashtagService.getTrending(any()))
+                .willReturn(List.of(new HashtagDto.TrendingResponse("spring", 12L)));
+
+        // when & then
+        mvc.perform(get("/v1/hashtags/trending"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].tag").value("spring"))
+                .andExpect(jsonPath("$[0].score").value(12L))
+                .andDo(print());
+    }
+
+    @DisplayName("해시태그 자동완성에 성공한다")
+    @WithMockUser
+    @Test
+    void autocomplete_success() throws Exception {
+
+        // given
+        given(hashtagService.autocomplete(eq("sp"), any()))
+                .willReturn(List.of(new HashtagDto.AutocompleteResponse("spring", 7L)));
+
+        // when & then
+        mvc.perform(get("/v1/hashtags/autocomplete")
+                        .param("prefix", "sp"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].tag").value("spring"))
+                .andExpect(jsonPath("$[0].postCount").value(7L))
+                .andDo(print());
+    }
+}
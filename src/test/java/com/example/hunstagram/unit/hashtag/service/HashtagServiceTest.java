@@ -0,0 +1,267 @@
+package com.example.hunstagram.unit.hashtag.service;
+
+import com.example.hunstagram.domain.hashtag.dto.HashtagDto;
+import com.example.hunstagram.domain.hashtag.entity.Tag;
+import com.example.hunstagram.domain.hashtag.entity.TagPostingRepository;
+import com.example.hunstagram.domain.hashtag.entity.TagRepository;
+import com.example.hunstagram.domain.hashtag.service.HashtagService;
+import com.example.hunstagram.domain.hashtag.service.TagRegistrationService;
+import com.example.hunstagram.domain.hashtag.store.HashtagAutocompleteStore;
+import com.example.hunstagram.domain.hashtag.store.HashtagTrie;
+import com.example.hunstagram.domain.hashtag.store.TrendingHashtagStore;
+import com.example.hunstagram.domain.post.dto.PostDto;
+import com.example.hunstagram.domain.post.entity.Post;
+import com.example.hunstagram.global.util.CursorUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+public class HashtagServiceTest {
+
+    @InjectMocks
+    HashtagService hashtagService;
+
+    @Mock
+    TagRepository tagRepository;
+
+    @Mock
+    TagPostingRepository tagPostingRepository;
+
+    @Mock
+    TrendingHashtagStore trendingHashtagStore;
+
+    @Mock
+    HashtagAutocompleteStore hashtagAutocompleteStore;
+
+    @Mock
+    TagRegistrationService tagRegistrationService;
+
+    private Tag createTag(Long id, String name) {
+        Tag tag = new Tag(name);
+        ReflectionTestUtils.setField(tag, "id", id);
+        ReflectionTestUtils.setField(tag, "postCount", 3L);
+        return tag;
+    }
+
+    @DisplayName("태그명은 '#', 앞뒤 공백을 제거하고 소문자로 정규화한다")
+    @Test
+    void normalize() {
+        assertThat(Tag.normalize(" #Spring ")).isEqualTo("spring");
+        assertThat(Tag.normalize("##JPA")).isEqualTo("jpa");
+        assertThat(Tag.normalize(" # ")).isNull();
+        assertThat(Tag.normalize(null)).isNull();
+    }
+
+    @DisplayName("해시태그 검색 시 사전에서 태그를 찾고 역색인에서 최신 게시글부터 조회한다")
+    @Test
+    void search_success() {
+
+        // given
+        given(tagRepository.findByName("spring")).willReturn(Optional.of(createTag(1L, "spring")));
+        given(tagPostingRepository.findThumbnailsByTagIdAndCursor(eq(1L), eq(10L), any()))
+                .willReturn(List.of(
+                        new PostDto.PostThumbnailResponse(9L, "thumbnail9"),
+                        new PostDto.PostThumbnailResponse(7L, "thumbnail7"),
+                        new PostDto.PostThumbnailResponse(5L, "thumbnail5")));
+
+        // when
+        HashtagDto.SearchResponse response = hashtagService.search("#Spring", CursorUtils.encode(10L), 2);
+
+        // then
+        assertThat(response.getTag()).isEqualTo("spring");
+        assertThat(response.getPostCount()).isEqualTo(3L);
+        assertThat(response.getPosts().getContent())
+                .extracting(PostDto.PostThumbnailResponse::getPostId).containsExactly(9L, 7L);
+        assertThat(CursorUtils.decode(response.getPosts().getNextCursor())).isEqualTo(7L);
+    }
+
+    @DisplayName("사전에 없는 태그를 검색하면 빈 결과를 반환한다")
+    @Test
+    void search_unknown_tag() {
+
+        // given
+        given(tagRepository.findByName("unknown")).willReturn(Optional.empty());
+
+        // when
+        HashtagDto.SearchResponse response = hashtagService.search("unknown", null, null);
+
+        // then
+        assertThat(response.getPostCount()).isZero();
+        assertThat(response.getPosts().getContent()).isEmpty();
+        assertThat(response.getPosts().isHasNext()).isFalse();
+        then(tagPostingRepository).should(never()).findThumbnailsByTagIdAndCursor(any(), any(), any());
+    }
+
+    @DisplayName("게시글 색인 시 중복 태그는 한 번만, 사전에 없는 태그는 새로 등록한다")
+    @Test
+    void index_success() {
+
+        // given
+        Post post = Post.builder().id(1L).build();
+        given(tagRepository.findAllByNameIn(Set.of("spring", "jpa")))
+                .willReturn(List.of(createTag(1L, "spring")));
+        given(tagRegistrationService.register(Set.of("jpa"))).willReturn(List.of(createTag(2L, "jpa")));
+
+        // when
+        hashtagService.index(post, List.of("Spring", "#spring", "JPA", " "));
+
+        // then
+        then(tagPostingRepository).should().saveAll(anyList());
+        then(tagRepository).should().addPostCount(List.of(1L, 2L), 1);
+        then(hashtagAutocompleteStore).should().add(List.of("spring", "jpa"), 1);
+    }
+
+    @DisplayName("게시글 트랜잭션 전에 사전에 없는 태그만 등록한다")
+    @Test
+    void register_tags_success() {
+
+        // given
+        given(tagRepository.findAllByNameIn(Set.of("spring", "jpa")))
+                .willReturn(List.of(createTag(1L, "spring")));
+
+        // when
+        hashtagService.registerTags(List.of("#Spring", "jpa", " "));
+
+        // then
+        then(tagRegistrationService).should().register(Set.of("jpa"));
+    }
+
+    @DisplayName("모두 사전에 있는 태그이거나 태그가 없으면 등록하지 않는다")
+    @Test
+    void register_tags_nothing_to_register() {
+
+        // given
+        given(tagRepository.findAllByNameIn(Set.of("spring")))
+                .willReturn(List.of(createTag(1L, "spring")));
+
+        // when
+        hashtagService.registerTags(List.of("spring"));
+        hashtagService.registerTags(List.of(" # "));
+        hashtagService.registerTags(null);
+
+        // then
+        then(tagRegistrationService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("다른 게시글이 같은 새 태그를 먼저 등록했으면 태그별로 다시 등록하고, 이미 있는 태그는 다시 조회해서 확인한다")
+    @Test
+    void register_tags_registered_concurrently() {
+
+        // given
+        given(tagRepository.findAllByNameIn(Set.of("spring", "jpa"))).willReturn(List.of());
+        given(tagRegistrationService.register(Set.of("spring", "jpa")))
+                .willThrow(new DataIntegrityViolationException("duplicate"));
+        given(tagRegistrationService.register(List.of("spring")))
+                .willThrow(new DataIntegrityViolationException("duplicate"));
+        given(tagRegistrationService.find("spring")).willReturn(Optional.of(createTag(1L, "spring")));
+
+        // when
+        hashtagService.registerTags(List.of("spring", "jpa"));
+
+        // then
+        then(tagRegistrationService).should().find("spring");
+        then(tagRegistrationService).should().register(List.of("jpa"));
+    }
+
+    @DisplayName("게시글 색인 해제 시 postings 를 지우고 태그별 게시글 수를 줄인다")
+    @Test
+    void unindex_success() {
+
+        // given
+        given(tagPostingRepository.findTagsByPostId(1L))
+                .willReturn(List.of(createTag(1L, "spring"), createTag(2L, "jpa")));
+
+        // when
+        hashtagService.unindex(1L);
+
+        // then
+        then(tagPostingRepository).should().deleteByPostId(1L);
+        then(tagRepository).should().addPostCount(List.of(1L, 2L), -1);
+        then(hashtagAutocompleteStore).should().add(List.of("spring", "jpa"), -1);
+    }
+
+    @DisplayName("인기 해시태그는 메모리 집계에서 조회하고, 요청 크기는 최대 50개로 제한한다")
+    @Test
+    void get_trending_success() {
+
+        // given
+        given(trendingHashtagStore.top(50)).willReturn(List.of(
+                new TrendingHashtagStore.TrendingHashtag("spring", 4.6),
+                new TrendingHashtagStore.TrendingHashtag("jpa", 2.0)));
+
+        // when
+        List<HashtagDto.TrendingResponse> trending = hashtagService.getTrending(1000);
+
+        // then
+        assertThat(trending).extracting(HashtagDto.TrendingResponse::getTag).containsExactly("spring", "jpa");
+        assertThat(trending.get(0).getScore()).isEqualTo(5L);
+        then(tagRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("자동완성 시 prefix 를 정규화해서 trie 에서 조회한다")
+    @Test
+    void autocomplete_success() {
+
+        // given
+        given(hashtagAutocompleteStore.search("sp", 10))
+                .willReturn(List.of(new HashtagTrie.Suggestion("spring", 7L), new HashtagTrie.Suggestion("sports", 3L)));
+
+        // when
+        List<HashtagDto.AutocompleteResponse> response = hashtagService.autocomplete("#Sp", null);
+
+        // then
+        assertThat(response).extracting(HashtagDto.AutocompleteResponse::getTag).containsExactly("spring", "sports");
+        assertThat(response.get(0).getPostCount()).isEqualTo(7L);
+    }
+
+    @DisplayName("prefix 가 비어 있으면 빈 목록을 반환한다")
+    @Test
+    void autocomplete_blank_prefix() {
+
+        // when
+        List<HashtagDto.AutocompleteResponse> response = hashtagService.autocomplete("#", null);
+
+        // then
+        assertThat(response).isEmpty();
+        then(hashtagAutocompleteStore).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("게시글 수정 시 제거된 태그 중 색인된 것만 postings 에서 지운다")
+    @Test
+    void unindex_names_success() {
+
+        // given
+        given(tagPostingRepository.findTagsByPostIdAndNames(1L, Set.of("jpa", "java")))
+                .willReturn(List.of(createTag(2L, "jpa")));
+
+        // when
+        hashtagService.unindex(1L, Set.of("jpa", "java"));
+
+        // then
+        then(tagPostingRepository).should().deleteByPostIdAndTagIds(1L, List.of(2L));
+        then(tagRepository).should().addPostCount(List.of(2L), -1);
+        then(hashtagAutocompleteStore).should().add(List.of("jpa"), -1);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.hunstagram.unit.hashtag.store;
+
+import com.example.hunstagram.domain.hashtag.store.HashtagTrie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public class HashtagTrieTest {
+
+    private List<String> tags(List<HashtagTrie.Suggestion> suggestions) {
+        return suggestions.stream().map(HashtagTrie.Suggestion::getTag).toList();
+    }
+
+    @DisplayName("prefix 로 시작하는 태그를 사용 횟수 순으로 반환한다 (edge 중간에서 끝나는 prefix 포함)")
+    @Test
+    void search_by_prefix() {
+
+        // given
+        HashtagTrie trie = new HashtagTrie(3);
+        trie.addAll(Map.of("spring", 5L, "springboot", 7L, "sports", 2L, "java", 9L, "sp", 1L));
+
+        // when & then
+        assertThat(tags(trie.search("sp", 3))).containsExactly("springboot", "spring", "sports");
+        assertThat(tags(trie.search("spr", 10))).containsExactly("springboot", "spring");
+        assertThat(tags(trie.search("springb", 10))).containsExactly("springboot");
+        assertThat(tags(trie.search("spx", 10))).isEmpty();
+        assertThat(tags(trie.search("", 1))).containsExactly("java");
+    }
+
+    @DisplayName("증분 반영 시 상위 목록이 갱신되고, 0 이 된 태그는 제외된다")
+    @Test
+    void add_incremental() {
+
+        // given
+        HashtagTrie trie = new HashtagTrie(2);
+        trie.add("spring", 3);
+        trie.add("sports", 2);
+        trie.add("spa", 1);
+
+        // when & then - 상위 2개 밖에 있던 태그가 올라온다
+        trie.add("spa", 5);
+        assertThat(tags(trie.search("sp", 10))).containsExactly("spa", "spring");
+
+        // when & then - 상위 태그가 줄어들면 밖에 있던 태그가 다시 올라온다
+        trie.add("spa", -6);
+        assertThat(tags(trie.search("sp", 10))).containsExactly("spring", "sports");
+        assertThat(trie.wordCount()).isEqualTo(2);
+
+        // when & then - 없는 태그의 감소는 무시
+        trie.add("unknown", -1);
+        assertThat(tags(trie.search("u", 10))).isEmpty();
+    }
+
+    @DisplayName("공통 prefix 는 edge 하나로 압축된다")
+    @Test
+    void compressed_edges() {
+
+        // given
+        HashtagTrie trie = new HashtagTrie(3);
+
+        // when
+        trie.add("springboot", 1);
+        trie.add("springbatch", 1);
+
+        // then - root, "springb", "oot", "atch"
+        assertThat(trie.nodeCount()).isEqualTo(4);
+        assertThat(trie.labelChars()).isEqualTo("springboot".length() + "atch".length());
+    }
+}
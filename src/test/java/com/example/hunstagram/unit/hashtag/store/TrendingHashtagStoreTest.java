@@ -0,0 +1,140 @@
+package com.example.hunstagram.unit.hashtag.store;
+
+import com.example.hunstagram.domain.hashtag.store.TrendingHashtagStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+public class TrendingHashtagStoreTest {
+
+    // 테스트에서 시간을 직접 흘려보내기 위한 Clock
+    static class MutableClock extends Clock {
+        private long millis;
+
+        void advanceSeconds(long seconds) {
+            millis += seconds * 1000;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+
+    private List<String> names(List<TrendingHashtagStore.TrendingHashtag> trending) {
+        return trending.stream().map(TrendingHashtagStore.TrendingHashtag::getName).toList();
+    }
+
+    @DisplayName("많이 사용된 태그 순으로 상위 태그를 반환하고, 같은 게시글의 중복 태그는 1번만 집계한다")
+    @Test
+    void top_by_usage() {
+
+        // given
+        TrendingHashtagStore store = new TrendingHashtagStore(60, 5, 10, 0.5, new MutableClock());
+        for (int i = 0; i < 3; i++) {
+            store.record(List.of("spring", "#Spring", "jpa"));
+        }
+        store.record(List.of("spring"));
+        store.record(List.of("java"));
+
+        // when
+        List<TrendingHashtagStore.TrendingHashtag> trending = store.top(2);
+
+        // then
+        assertThat(names(trending)).containsExactly("spring", "jpa");
+        assertThat(trending.get(0).getScore()).isEqualTo(4.0);
+    }
+
+    @DisplayName("오래된 bucket 의 사용량은 감쇠되고, window 를 벗어나면 집계에서 제외된다")
+    @Test
+    void top_decay_and_expire() {
+
+        // given
+        MutableClock clock = new MutableClock();
+        TrendingHashtagStore store = new TrendingHashtagStore(60, 3, 10, 0.5, clock);
+        for (int i = 0; i < 4; i++) {
+            store.record(List.of("old"));
+        }
+        clock.advanceSeconds(60);
+        for (int i = 0; i < 3; i++) {
+            store.record(List.of("new"));
+        }
+
+        // when & then - old : 4 * 0.5 = 2, new : 3
+        assertThat(names(store.top(10))).containsExactly("new", "old");
+
+        // when & then - window(3 bucket) 를 벗어난 old 는 제외
+        clock.advanceSeconds(120);
+        assertThat(names(store.top(10))).containsExactly("new");
+    }
+
+    @DisplayName("bucket 당 후보 수(K)를 넘으면 가장 적게 사용된 후보를 밀어낸다")
+    @Test
+    void top_k_evict_min() {
+
+        // given
+        TrendingHashtagStore store = new TrendingHashtagStore(60, 1, 2, 0.5, new MutableClock());
+        store.record(List.of("a"));
+        store.record(List.of("b"));
+        store.record(List.of("b"));
+        store.record(List.of("c"));
+        store.record(List.of("c"));
+
+        // when & then
+        assertThat(names(store.top(10))).containsExactly("b", "c");
+    }
+
+    @DisplayName("트랜잭션 안에서 기록한 태그는 커밋된 후에 집계하고, 롤백되면 집계하지 않는다")
+    @Test
+    void record_after_commit() {
+
+        // given
+        TrendingHashtagStore store = new TrendingHashtagStore(60, 5, 10, 0.5, new MutableClock());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            store.record(List.of("spring"));
+            List<TransactionSynchronization> committed = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationManager.initSynchronization();
+            store.record(List.of("rollback"));
+            List<TransactionSynchronization> rolledBack = TransactionSynchronizationManager.getSynchronizations();
+
+            // then
+            assertThat(store.top(10)).isEmpty();
+            committed.forEach(TransactionSynchronization::afterCommit);
+            rolledBack.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            assertThat(names(store.top(10))).containsExactly("spring");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.hunstagram.unit.image.controller;
+
+import com.example.hunstagram.domain.image.controller.ImageController;
+import com.example.hunstagram.domain.image.service.ImageService;
+import com.example.hunstagram.domain.user.entity.UserRepository;
+import com.example.hunstagram.global.exception.CustomException;
+import com.example.hunstagram.global.security.SecurityConfig;
+import com.example.hunstagram.global.security.service.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.example.hunstagram.global.exception.CustomErrorCode.IMAGE_NOT_FOUND;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@MockBean(JpaMetamodelMappingContext.class)
+@WebMvcTest(controllers = ImageController.class,
+        excludeFilters = {
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SecurityConfig.class),
+        })
+public class ImageControllerTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @MockBean
+    private ImageService imageService;
+
+    @MockBean
+    private JwtService jwtService;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @DisplayName("이미지 요청은 key 전체(확장자 포함)로 이미지 서빙을 요청한다")
+    @WithMockUser
+    @Test
+    void get_image_success() throws Exception {
+
+        // when & then
+        mvc.perform(get("/images/a1b2_c3d4e5_thumb.jpg"))
+                .andExpect(status().isOk())
+                .andDo(print());
+        then(imageService).should().serve(eq("a1b2_c3d4e5_thumb.jpg"), any(), any());
+    }
+
+    @DisplayName("저장소에 없는 이미지는 404 로 응답한다")
+    @WithMockUser
+    @Test
+    void get_image_not_found_fail() throws Exception {
+
+        // given
+        willThrow(new CustomException(IMAGE_NOT_FOUND))
+                .given(imageService).serve(eq("none.jpg"), any(), any());
+
+        // when & then
+        mvc.perform(get("/images/none.jpg"))
+                .andExpect(status().isNotFound())
+                .andDo(print());
+    }
+}
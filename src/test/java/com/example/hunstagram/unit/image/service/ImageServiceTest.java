@@ -0,0 +1,259 @@
+package com.example.hunstagram.unit.image.service;
+
+import com.example.hunstagram.domain.image.service.ImageService;
+import com.example.hunstagram.global.exception.CustomException;
+import com.example.hunstagram.global.storage.HotObjectCache;
+import com.example.hunstagram.global.storage.ObjectStorage;
+import com.example.hunstagram.global.storage.StoredObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+
+import static com.example.hunstagram.global.exception.CustomErrorCode.IMAGE_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+public class ImageServiceTest {
+
+    private static final String KEY = "a_thumb.jpg";
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+    private static final Instant LAST_MODIFIED = Instant.parse("2026-10-18T00:00:00Z");
+    private static final String ETAG = "\"" + Long.toHexString(LAST_MODIFIED.toEpochMilli()) + "-a\"";
+
+    @Mock
+    ObjectStorage objectStorage;
+
+    // admit-count 가 크면 캐시에 적재되지 않는다
+    private ImageService createImageService(int admitCount) {
+        ImageService imageService = new ImageService(objectStorage, new HotObjectCache(1024, 1024, admitCount));
+        ReflectionTestUtils.setField(imageService, "cacheControl", "public, max-age=31536000, immutable");
+        return imageService;
+    }
+
+    private void givenImage() throws IOException {
+        given(objectStorage.stat(KEY)).willReturn(Optional.of(new StoredObject(KEY, CONTENT.length, "image/jpeg", LAST_MODIFIED)));
+    }
+
+    // 저장소 전송 시 요청 범위의 내용을 channel 에 쓴다
+    private void givenTransfer() throws IOException {
+        willAnswer(invocation -> {
+            long position = invocation.getArgument(1);
+            long count = invocation.getArgument(2);
+            WritableByteChannel target = invocation.getArgument(3);
+            return (long) target.write(ByteBuffer.wrap(CONTENT, (int) position, (int) count));
+        }).given(objectStorage).transferTo(eq(KEY), anyLong(), anyLong(), any());
+    }
+
+    private MockHttpServletRequest createRequest() {
+        return new MockHttpServletRequest("GET", "/images/" + KEY);
+    }
+
+    @DisplayName("이미지 전체를 캐시 헤더와 함께 응답한다")
+    @Test
+    void serve_success() throws IOException {
+
+        // given
+        givenImage();
+        givenTransfer();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        createImageService(100).serve(KEY, createRequest(), response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).isEqualTo("image/jpeg");
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+        assertThat(response.getHeader("ETag")).isEqualTo(ETAG);
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("public, max-age=31536000, immutable");
+        assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(response.getDateHeader("Last-Modified")).isEqualTo(LAST_MODIFIED.toEpochMilli());
+        assertThat(response.getContentAsByteArray()).isEqualTo(CONTENT);
+    }
+
+    @DisplayName("If-None-Match 가 ETag 와 같으면 본문 없이 304 로 응답한다")
+    @Test
+    void serve_not_modified() throws IOException {
+
+        // given
+        givenImage();
+        MockHttpServletRequest request = createRequest();
+        request.addHeader("If-None-Match", ETAG);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        createImageService(100).serve(KEY, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader("ETag")).isEqualTo(ETAG);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        then(objectStorage).should(never()).transferTo(anyString(), anyLong(), anyLong(), any());
+    }
+
+    @DisplayName("Range 요청은 해당 범위만 206 으로 응답한다")
+    @Test
+    void serve_range_success() throws IOException {
+
+        // given
+        givenImage();
+        givenTransfer();
+        MockHttpServletRequest request = createRequest();
+        request.addHeader("Range", "bytes=2-4");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        createImageService(100).serve(KEY, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 2-4/10");
+        assertThat(response.getContentLengthLong()).isEqualTo(3);
+        assertThat(response.getContentAsString()).isEqualTo("234");
+    }
+
+    @DisplayName("If-Range 가 현재 ETag 와 다르면 Range 를 무시하고 전체를 응답한다")
+    @Test
+    void serve_if_range_mismatch_full() throws IOException {
+
+        // given
+        givenImage();
+        givenTransfer();
+        MockHttpServletRequest request = createRequest();
+        request.addHeader("Range", "bytes=2-4");
+        request.addHeader("If-Range", "\"old\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        createImageService(100).serve(KEY, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(CONTENT);
+    }
+
+    @DisplayName("만족할 수 없는 Range 요청은 416 으로 응답한다")
+    @Test
+    void serve_range_not_satisfiable() throws IOException {
+
+        // given
+        givenImage();
+        MockHttpServletRequest request = createRequest();
+        request.addHeader("Range", "bytes=20-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        createImageService(100).serve(KEY, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */10");
+    }
+
+    @DisplayName("로컬 파일이고 sendfile 을 지원하면 본문은 Tomcat 이 sendfile 로 전송한다")
+    @Test
+    void serve_sendfile() throws IOException {
+
+        // given
+        givenImage();
+        given(objectStorage.localPath(KEY)).willReturn(Optional.of(Path.of("/storage", KEY)));
+        MockHttpServletRequest request = createRequest();
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader("Range", "bytes=-4");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        createImageService(100).serve(KEY, request, response);
+
+        // then
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename"))
+                .isEqualTo(Path.of("/storage", KEY).toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(6L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(10L);
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+        then(objectStorage).should(never()).transferTo(anyString(), anyLong(), anyLong(), any());
+    }
+
+    @DisplayName("자주 요청된 이미지는 캐시에 적재하고, 이후 요청은 저장소를 거치지 않는다")
+    @Test
+    void serve_hot_object_cached() throws IOException {
+
+        // given
+        givenImage();
+        given(objectStorage.read(KEY)).willReturn(ByteBuffer.wrap(CONTENT).asReadOnlyBuffer());
+        ImageService imageService = createImageService(1);
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        // when
+        imageService.serve(KEY, createRequest(), first);
+        imageService.serve(KEY, createRequest(), second);
+
+        // then
+        assertThat(first.getContentAsByteArray()).isEqualTo(CONTENT);
+        assertThat(second.getContentAsByteArray()).isEqualTo(CONTENT);
+        assertThat(second.getHeader("ETag")).isEqualTo(ETAG);
+        then(objectStorage).should().stat(KEY);
+        then(objectStorage).should().read(KEY);
+        then(objectStorage).should(never()).transferTo(anyString(), anyLong(), anyLong(), any());
+    }
+
+    @DisplayName("HEAD 요청은 헤더만 응답한다")
+    @Test
+    void serve_head() throws IOException {
+
+        // given
+        givenImage();
+        MockHttpServletRequest request = new MockHttpServletRequest("HEAD", "/images/" + KEY);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        createImageService(1).serve(KEY, request, response);
+
+        // then
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        then(objectStorage).should(never()).read(anyString());
+    }
+
+    @DisplayName("저장소에 없는 이미지는 실패한다")
+    @Test
+    void serve_not_found_fail() throws IOException {
+
+        // given
+        given(objectStorage.stat(KEY)).willReturn(Optional.empty());
+
+        // when
+        CustomException e = assertThrows(CustomException.class,
+                () -> createImageService(100).serve(KEY, createRequest(), new MockHttpServletResponse()));
+
+        // then
+        assertThat(e.getErrorCode()).isEqualTo(IMAGE_NOT_FOUND);
+    }
+}
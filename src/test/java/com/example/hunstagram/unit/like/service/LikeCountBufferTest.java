@@ -0,0 +1,274 @@
+package com.example.hunstagram.unit.like.service;
+
+import com.example.hunstagram.domain.comment.entity.CommentRepository;
+import com.example.hunstagram.domain.like.service.LikeCountBuffer;
+import com.example.hunstagram.domain.post.entity.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * @author : Hunseong-Park
+ * @date : 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+public class LikeCountBufferTest {
+
+    @InjectMocks
+    LikeCountBuffer likeCountBuffer;
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    CommentRepository commentRepository;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    // TransactionTemplate 내부 로직이 실제로 실행되도록 설정
+    private void givenTransaction() {
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Object> postDeltas() {
+        return (Map<Long, Object>) ReflectionTestUtils.getField(likeCountBuffer, "postDeltas");
+    }
+
+    @DisplayName("좋아요 증감을 모아 게시글/댓글마다 한 번씩 반영한다")
+    @Test
+    void flush_aggregated_deltas() {
+
+        // given
+        givenTransaction();
+        likeCountBuffer.addPostLike(1L, 1);
+        likeCountBuffer.addPostLike(1L, 1);
+        likeCountBuffer.addPostLike(1L, 1);
+        likeCountBuffer.addPostLike(2L, 1);
+        likeCountBuffer.addPostLike(2L, -1);
+        likeCountBuffer.addCommentLike(3L, -1);
+
+        // when
+        likeCountBuffer.flush();
+
+        // then
+        then(postRepository).should().addLikeCount(1L, 3);
+        then(postRepository).should(never()).addLikeCount(2L, 0);
+        then(commentRepository).should().addLikeCount(3L, -1);
+        then(transactionTemplate).should(times(2)).executeWithoutResult(any());
+    }
+
+    @DisplayName("반영한 증감은 다음 flush 에서 다시 반영하지 않는다")
+    @Test
+    void flush_twice_no_duplicate() {
+
+        // given
+        givenTransaction();
+        likeCountBuffer.addPostLike(1L, 1);
+
+        // when
+        likeCountBuffer.flush();
+        likeCountBuffer.flush();
+
+        // then
+        then(postRepository).should(times(1)).addLikeCount(anyLong(), anyLong());
+    }
+
+    @DisplayName("반영에 실패하면 다음 flush 에서 재시도한다")
+    @Test
+    void flush_fail_retry() {
+
+        // given
+        likeCountBuffer.addPostLike(1L, 2);
+        willThrow(new IllegalStateException("db down"))
+                .given(transactionTemplate).executeWithoutResult(any());
+        likeCountBuffer.flush();
+
+        // when
+        givenTransaction();
+        likeCountBuffer.addPostLike(1L, 1);
+        likeCountBuffer.flush();
+
+        // then
+        then(postRepository).should().addLikeCount(1L, 3);
+    }
+
+    @DisplayName("버퍼가 비어 있으면 트랜잭션을 열지 않는다")
+    @Test
+    void flush_empty() {
+
+        // when
+        likeCountBuffer.flush();
+
+        // then
+        then(transactionTemplate).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("flush 가 유휴 항목을 제거하는 중에 들어온 증감도 유실하지 않는다")
+    @Test
+    void flush_concurrent_add_no_loss() throws Exception {
+
+        // given
+        givenTransaction();
+        AtomicLong flushed = new AtomicLong();
+        willAnswer(invocation -> {
+            flushed.addAndGet(invocation.getArgument(1));
+            return null;
+        }).given(postRepository).addLikeCount(anyLong(), anyLong());
+        int threads = 4;
+        int addsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            // 절반은 좋아요/취소를 번갈아 - 증감이 서로 상쇄되어 0 이 되는 순간에도 유실이 없어야 한다
+            long undo = i % 2 == 0 ? 1 : -1;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < addsPerThread; j++) {
+                    likeCountBuffer.addPostLike(1L, j % 2 == 0 ? 1 : undo);
+                }
+                return null;
+            }));
+        }
+
+        // when - 증감이 들어오는 동안 계속 flush (증감이 0 인 순간에는 항목 제거를 시도)
+        start.countDown();
+        while (futures.stream().anyMatch(f -> !f.isDone())) {
+            likeCountBuffer.flush();
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        likeCountBuffer.flush();
+
+        // then
+        assertThat(flushed.get()).isEqualTo((long) threads / 2 * addsPerThread);
+    }
+
+    @DisplayName("남은 증감이 없는 항목은 flush 에서 제거하고, 이후 증감은 새 항목에 모은다")
+    @Test
+    void flush_idle_entry_removed() {
+
+        // given
+        givenTransaction();
+        likeCountBuffer.addPostLike(1L, 1);
+        likeCountBuffer.flush();
+
+        // when
+        likeCountBuffer.flush();
+
+        // then
+        assertThat(postDeltas()).isEmpty();
+        likeCountBuffer.addPostLike(1L, 1);
+        likeCountBuffer.flush();
+        then(postRepository).should(times(2)).addLikeCount(1L, 1);
+    }
+
+    @DisplayName("제거 표시된 항목에는 더하지 않고, 새 항목에 다시 더한다")
+    @Test
+    void add_retired_entry_retry() throws Exception {
+
+        // given
+        givenTransaction();
+        likeCountBuffer.addPostLike(1L, 1);
+        likeCountBuffer.flush();
+        Object retired = postDeltas().get(1L);
+        ReflectionTestUtils.setField(retired, "retired", true);
+        LongAdder entered = (LongAdder) ReflectionTestUtils.getField(retired, "entered");
+
+        // when - 표시된 항목에서 재시도하는 동안 flush 가 항목을 제거
+        Thread adder = new Thread(() -> likeCountBuffer.addPostLike(1L, 1));
+        adder.start();
+        while (entered.sum() < 3) {
+            Thread.onSpinWait();
+        }
+        postDeltas().remove(1L);
+        adder.join();
+        likeCountBuffer.flush();
+
+        // then
+        assertThat(((LongAdder) ReflectionTestUtils.getField(retired, "sum")).sum()).isZero();
+        then(postRepository).should(times(2)).addLikeCount(1L, 1);
+    }
+
+    @DisplayName("진행 중인 증감이 있으면 항목을 제거하지 않는다")
+    @Test
+    void flush_in_flight_add_keeps_entry() {
+
+        // given - add 가 들어왔지만 아직 끝나지 않은 상태
+        givenTransaction();
+        likeCountBuffer.addPostLike(1L, 1);
+        likeCountBuffer.flush();
+        Object delta = postDeltas().get(1L);
+        ((LongAdder) ReflectionTestUtils.getField(delta, "entered")).increment();
+
+        // when
+        likeCountBuffer.flush();
+
+        // then
+        assertThat(postDeltas()).containsEntry(1L, delta);
+        assertThat(ReflectionTestUtils.getField(delta, "retired")).isEqualTo(false);
+    }
+
+    @DisplayName("증감을 읽은 뒤 제거 표시 전에 들어온 증감이 있으면 항목을 제거하지 않고 다음 flush 에서 반영한다")
+    @Test
+    void flush_add_before_retire_keeps_entry() {
+
+        // given - 첫 sum 조회 이후에 1 이 더해진 상태를 흉내
+        givenTransaction();
+        likeCountBuffer.addPostLike(1L, 1);
+        likeCountBuffer.flush();
+        Object delta = postDeltas().get(1L);
+        AtomicBoolean firstRead = new AtomicBoolean(true);
+        LongAdder sum = new LongAdder() {
+            @Override
+            public long sum() {
+                return firstRead.getAndSet(false) ? 0 : super.sum();
+            }
+        };
+        sum.increment();
+        ReflectionTestUtils.setField(delta, "sum", sum);
+
+        // when
+        likeCountBuffer.flush();
+        likeCountBuffer.flush();
+
+        // then
+        assertThat(postDeltas()).containsEntry(1L, delta);
+        then(postRepository).should(times(2)).addLikeCount(1L, 1);
+    }
+}
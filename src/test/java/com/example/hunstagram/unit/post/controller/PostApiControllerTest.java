@@ -59,6 +59,17 @@ public class PostApiControllerTest {
     @MockBean
     private UserRepository userRepository;
 
+    @DisplayName("post 상세 조회에 성공한다")
+    @WithMockUser
+    @Test
+    void get_post_success() throws Exception {
+
+        // given & when & then
+        mvc.perform(get("/v1/posts/1"))
+                .andExpect(status().isOk())
+                .andDo(print());
+    }
+
     @DisplayName("post 등록에 성공한다")
     @WithMockUser
     @Test
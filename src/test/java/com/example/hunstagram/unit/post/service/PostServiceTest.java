@@ -1,18 +1,27 @@
 package com.example.hunstagram.unit.post.service;
 
+import com.example.hunstagram.domain.comment.dto.CommentDto;
+import com.example.hunstagram.domain.comment.entity.CommentRepository;
+import com.example.hunstagram.domain.hashtag.dto.HashtagDto;
+import com.example.hunstagram.domain.hashtag.entity.Hashtag;
 import com.example.hunstagram.domain.hashtag.entity.HashtagRepository;
+import com.example.hunstagram.domain.hashtag.service.HashtagService;
+import com.example.hunstagram.domain.hashtag.store.TrendingHashtagStore;
 import com.example.hunstagram.domain.like.dto.LikeDto;
-import com.example.hunstagram.domain.like.entity.Like;
 import com.example.hunstagram.domain.like.entity.LikeRepository;
+import com.example.hunstagram.domain.like.service.LikeCountBuffer;
 import com.example.hunstagram.domain.post.dto.PostDto;
 import com.example.hunstagram.domain.post.entity.Post;
 import com.example.hunstagram.domain.post.entity.PostRepository;
+import com.example.hunstagram.domain.post.event.PostCreatedEvent;
 import com.example.hunstagram.domain.post.service.PostService;
 import com.example.hunstagram.domain.postimage.entity.PostImage;
 import com.example.hunstagram.domain.postimage.entity.PostImageRepository;
 import com.example.hunstagram.domain.user.entity.User;
 import com.example.hunstagram.domain.user.entity.UserRepository;
 import com.example.hunstagram.global.aws.service.AwsS3Service;
+import com.example.hunstagram.global.aws.service.StoredImageService;
+import com.example.hunstagram.global.dto.UploadedImage;
 import com.example.hunstagram.global.exception.CustomException;
 import com.example.hunstagram.global.security.service.JwtService;
 import org.junit.jupiter.api.DisplayName;
@@ -21,19 +30,32 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static com.example.hunstagram.global.exception.CustomErrorCode.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
 
 /**
  * @author : Hunseong-Park
@@ -60,12 +82,110 @@ public class PostServiceTest {
     @Mock
     HashtagRepository hashtagRepository;
 
+    @Mock
+    HashtagService hashtagService;
+
+    @Mock
+    TrendingHashtagStore trendingHashtagStore;
+
     @Mock
     PostImageRepository postImageRepository;
 
     @Mock
     LikeRepository likeRepository;
 
+    @Mock
+    CommentRepository commentRepository;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    LikeCountBuffer likeCountBuffer;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    StoredImageService storedImageService;
+
+    private UploadedImage createUploadedImage() {
+        return new UploadedImage(
+                "http://test.image.path.com/a.png",
+                "http://test.image.path.com/a_thumb.jpg",
+                "http://test.image.path.com/a_medium.jpg");
+    }
+
+    // TransactionTemplate 내부 로직이 실제로 실행되도록 설정
+    private void givenTransaction() {
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+    // 결과를 반환하는 TransactionTemplate 내부 로직이 실제로 실행되도록 설정
+    private void givenResultTransaction() {
+        willAnswer(invocation -> {
+            TransactionCallback<?> action = invocation.getArgument(0);
+            return action.doInTransaction(null);
+        }).given(transactionTemplate).execute(any());
+    }
+
+    @DisplayName("post 상세 조회에 성공한다")
+    @Test
+    void get_post_success() {
+
+        // given
+        User user = User.builder()
+                .id(1L)
+                .email("test@test.com")
+                .password("test12345!")
+                .name("test")
+                .nickname("test")
+                .build();
+        Post post = Post.builder()
+                .id(1L)
+                .content("content")
+                .user(user)
+                .likeCount(3)
+                .commentCount(1)
+                .build();
+        CommentDto.Response comment = new CommentDto.Response(
+                1L, user.getId(), user.getNickname(), "comment", 0L, null);
+        given(postRepository.findByIdWithUser(any())).willReturn(Optional.of(post));
+        given(postImageRepository.findImageUrlsByPostId(any())).willReturn(List.of("image1", "image2"));
+        given(hashtagRepository.findResponsesByPostId(any()))
+                .willReturn(List.of(new HashtagDto.Response(1L, "hash1")));
+        given(commentRepository.findResponsesByPostId(any(), any())).willReturn(List.of(comment));
+
+        // when
+        PostDto.PostResponse response = postService.getPost(post.getId());
+
+        // then
+        assertThat(response.getPostId()).isEqualTo(post.getId());
+        assertThat(response.getWriterId()).isEqualTo(user.getId());
+        assertThat(response.getWriterNickname()).isEqualTo(user.getNickname());
+        assertThat(response.getImages()).containsExactly("image1", "image2");
+        assertThat(response.getHashtags().get(0).getHashtag()).isEqualTo("hash1");
+        assertThat(response.getComments()).containsExactly(comment);
+        assertThat(response.getLikeCount()).isEqualTo(3L);
+        assertThat(response.getCommentCount()).isEqualTo(1L);
+    }
+
+    @DisplayName("post 상세 조회 시 게시글이 존재하지 않으면 실패한다")
+    @Test
+    void get_post_not_found_fail() {
+
+        // given
+        given(postRepository.findByIdWithUser(any())).willReturn(Optional.empty());
+
+        // when & then
+        CustomException e = assertThrows(CustomException.class, () -> postService.getPost(1L));
+        assertThat(e.getErrorCode()).isEqualTo(POST_NOT_FOUND);
+    }
+
     @DisplayName("post 등록에 성공한다 (content, hashtag 존재)")
     @Test
     void create_post_success_with_content_hashtag() throws IOException {
@@ -79,7 +199,8 @@ public class PostServiceTest {
                 .nickname("test")
                 .build();
         given(userRepository.findById(any())).willReturn(Optional.of(user));
-        given(awsS3Service.uploadImage(any())).willReturn("http://test.image.path.com");
+        given(awsS3Service.uploadImages(any())).willReturn(List.of(createUploadedImage()));
+        givenTransaction();
         String content = "content";
         ArrayList<String> hashtags = new ArrayList<>();
         hashtags.add("hash1");
@@ -95,8 +216,14 @@ public class PostServiceTest {
         MockMultipartFile image
                 = new MockMultipartFile("images", fileName, contentType, new FileInputStream(filePath));
 
-        // when & then
+        // when
         postService.createPost(requestDto, List.of(image));
+
+        // then
+        then(eventPublisher).should().publishEvent(any(PostCreatedEvent.class));
+        then(hashtagService).should().registerTags(hashtags);
+        then(hashtagService).should().index(any(), eq(hashtags));
+        then(trendingHashtagStore).should().record(hashtags);
     }
 
     @DisplayName("post 등록에 성공한다 (content 존재)")
@@ -112,7 +239,8 @@ public class PostServiceTest {
                 .nickname("test")
                 .build();
         given(userRepository.findById(any())).willReturn(Optional.of(user));
-        given(awsS3Service.uploadImage(any())).willReturn("http://test.image.path.com");
+        given(awsS3Service.uploadImages(any())).willReturn(List.of(createUploadedImage()));
+        givenTransaction();
         String content = "content";
         PostDto.Request requestDto = PostDto.Request.builder()
                 .content("content")
@@ -141,7 +269,8 @@ public class PostServiceTest {
                 .nickname("test")
                 .build();
         given(userRepository.findById(any())).willReturn(Optional.of(user));
-        given(awsS3Service.uploadImage(any())).willReturn("http://test.image.path.com");
+        given(awsS3Service.uploadImages(any())).willReturn(List.of(createUploadedImage()));
+        givenTransaction();
         ArrayList<String> hashtags = new ArrayList<>();
         hashtags.add("hash1");
         hashtags.add("hash2");
@@ -172,7 +301,8 @@ public class PostServiceTest {
                 .nickname("test")
                 .build();
         given(userRepository.findById(any())).willReturn(Optional.of(user));
-        given(awsS3Service.uploadImage(any())).willReturn("http://test.image.path.com");
+        given(awsS3Service.uploadImages(any())).willReturn(List.of(createUploadedImage()));
+        givenTransaction();
 
         String fileName = "tet";
         String contentType = "image";
@@ -184,6 +314,35 @@ public class PostServiceTest {
         postService.createPost(null, List.of(image));
     }
 
+    @DisplayName("post 등록 시 DB 저장에 실패하면 업로드 된 이미지 참조를 해제한다")
+    @Test
+    void create_post_save_fail_rollback_images() throws IOException {
+
+        // given
+        User user = User.builder()
+                .id(1L)
+                .email("test@test.com")
+                .password("test12345!")
+                .name("test")
+                .nickname("test")
+                .build();
+        given(userRepository.findById(any())).willReturn(Optional.of(user));
+        List<UploadedImage> uploadedImages = List.of(createUploadedImage());
+        given(awsS3Service.uploadImages(any())).willReturn(uploadedImages);
+        givenTransaction();
+        given(postRepository.save(any())).willThrow(new IllegalStateException());
+
+        String fileName = "tet";
+        String contentType = "image";
+        String filePath = "src/test/resources/img/tet.png";
+        MockMultipartFile image
+                = new MockMultipartFile("images", fileName, contentType, new FileInputStream(filePath));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> postService.createPost(null, List.of(image)));
+        then(storedImageService).should().release(uploadedImages);
+    }
+
     @DisplayName("post 등록 시 사용자가 존재하지 않으면 실패한다")
     @Test
     void create_post_user_not_found_fail() throws IOException {
@@ -250,6 +409,49 @@ public class PostServiceTest {
         assertThat(e.getErrorCode()).isEqualTo(IMAGE_NOT_EXIST);
     }
 
+    @DisplayName("post 수정 시 해시태그는 삭제된 것만 한 번에 지우고 추가된 것만 저장한다")
+    @Test
+    void update_post_hashtag_diff() {
+
+        // given
+        User user = User.builder()
+                .id(1L)
+                .email("test@test.com")
+                .password("test12345!")
+                .name("test")
+                .nickname("test")
+                .build();
+        Post post = Post.builder()
+                .id(1L)
+                .user(user)
+                .hashtags(new ArrayList<>())
+                .build();
+        Hashtag hash1 = new Hashtag("hash1", post);
+        Hashtag hash2 = new Hashtag("hash2", post);
+        ReflectionTestUtils.setField(hash1, "id", 1L);
+        ReflectionTestUtils.setField(hash2, "id", 2L);
+        post.getHashtags().addAll(List.of(hash1, hash2));
+        PostDto.Request requestDto = PostDto.Request.builder()
+                .content("changed")
+                .hashtags(List.of("hash2", "hash3"))
+                .build();
+        given(postRepository.findByIdWithHashtagAndUser(any())).willReturn(Optional.of(post));
+        given(jwtService.getId()).willReturn(user.getId());
+        givenTransaction();
+
+        // when
+        postService.updatePost(requestDto, post.getId());
+
+        // then
+        then(hashtagRepository).should().deleteAllByIdInBatch(List.of(1L));
+        then(hashtagRepository).should(never()).deleteAll(any());
+        assertThat(post.getHashtags()).extracting(Hashtag::getHashtag).containsExactly("hash2", "hash3");
+        then(hashtagService).should().registerTags(List.of("hash2", "hash3"));
+        then(hashtagService).should().unindex(1L, Set.of("hash1"));
+        then(hashtagService).should().index(post, Set.of("hash3"));
+        then(trendingHashtagStore).should().record(Set.of("hash3"));
+    }
+
     @DisplayName("post 삭제에 성공한다")
     @Test
     void delete_post_success() {
@@ -272,8 +474,12 @@ public class PostServiceTest {
         given(postRepository.findByIdWithImageAndUser(any())).willReturn(Optional.of(post));
         given(jwtService.getId()).willReturn(user.getId());
 
-        // when & then
+        // when
         postService.deletePost(post.getId());
+
+        // then - S3 는 직접 삭제하지 않고 이미지 참조만 해제
+        then(storedImageService).should().release(anyList());
+        then(awsS3Service).shouldHaveNoInteractions();
     }
 
     @DisplayName("post 삭제 시, post가 존재하지 않으면 실패한다")
@@ -337,13 +543,16 @@ public class PostServiceTest {
                 .build();
         given(postRepository.findById(any())).willReturn(Optional.of(post));
         given(userRepository.findById(any())).willReturn(Optional.of(user));
-        given(likeRepository.findByPostAndUserId(any(), any())).willReturn(Optional.empty());
+        givenResultTransaction();
+        givenTransaction();
 
         // when
         LikeDto.Response response = postService.like(post.getId());
 
         // then
         assertThat(response.getIsLikeAdd()).isTrue();
+        then(likeRepository).should().saveAndFlush(any());
+        then(likeCountBuffer).should().addPostLike(post.getId(), 1);
     }
 
     @DisplayName("post 좋아요에 성공한다 - 취소")
@@ -365,14 +574,45 @@ public class PostServiceTest {
                 .user(user)
                 .build();
         given(postRepository.findById(any())).willReturn(Optional.of(post));
-        given(userRepository.findById(any())).willReturn(Optional.of(user));
-        given(likeRepository.findByPostAndUserId(any(), any())).willReturn(Optional.of(Like.builder().build()));
+        given(likeRepository.deleteByPostAndUserId(any(), any())).willReturn(1);
+        givenResultTransaction();
 
         // when
         LikeDto.Response response = postService.like(post.getId());
 
         // then
         assertThat(response.getIsLikeAdd()).isFalse();
+        then(likeCountBuffer).should().addPostLike(post.getId(), -1);
+    }
+
+    @DisplayName("동시에 같은 좋아요가 먼저 추가되면 중복 추가하지 않고 추가로 응답한다")
+    @Test
+    void like_post_conflict_success() {
+
+        // given
+        User user = User.builder()
+                .id(1L)
+                .email("test@test.com")
+                .password("test12345!")
+                .name("test")
+                .nickname("test")
+                .build();
+        Post post = Post.builder()
+                .id(1L)
+                .user(user)
+                .build();
+        given(postRepository.findById(any())).willReturn(Optional.of(post));
+        given(userRepository.findById(any())).willReturn(Optional.of(user));
+        given(likeRepository.saveAndFlush(any())).willThrow(new DataIntegrityViolationException("duplicate"));
+        givenResultTransaction();
+        givenTransaction();
+
+        // when
+        LikeDto.Response response = postService.like(post.getId());
+
+        // then
+        assertThat(response.getIsLikeAdd()).isTrue();
+        then(likeCountBuffer).shouldHaveNoInteractions();
     }
 
     @DisplayName("post 좋아요 시 게시글이 존재하지 않으면 실패한다")
@@ -1,10 +1,12 @@
 package com.example.hunstagram.unit.user.controller;
 
+import com.example.hunstagram.domain.post.dto.PostDto;
 import com.example.hunstagram.domain.user.controller.UserApiController;
 import com.example.hunstagram.domain.user.dto.UserDto;
 import com.example.hunstagram.domain.user.entity.UserRepository;
 import com.example.hunstagram.domain.user.service.UserService;
 import com.example.hunstagram.global.aws.service.AwsS3Service;
+import com.example.hunstagram.global.dto.CursorResponse;
 import com.example.hunstagram.global.security.SecurityConfig;
 import com.example.hunstagram.global.security.service.JwtService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -23,6 +25,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -260,4 +263,26 @@ class UserApiControllerTest {
                 .andExpect(jsonPath("$.name").value("test"))
                 .andExpect(jsonPath("$.nickname").value("test"));
     }
-}
\ No newline at end of file
+
+    @DisplayName("프로필 게시글 썸네일 커서 조회에 성공한다")
+    @WithMockUser
+    @Test
+    void get_post_thumbnails() throws Exception {
+
+        // given
+        List<PostDto.PostThumbnailResponse> thumbnails = List.of(
+                new PostDto.PostThumbnailResponse(2L, "thumbnail2"),
+                new PostDto.PostThumbnailResponse(1L, "thumbnail1"));
+        given(userService.getPostThumbnails(any(), any(), any()))
+                .willReturn(CursorResponse.of(thumbnails, 1, PostDto.PostThumbnailResponse::getPostId));
+
+        // when & then
+        mvc.perform(get("/v1/users/profile/2/posts")
+                        .param("size", "1")
+                        .with(SecurityMockMvcRequestPostProcessors.csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].postId").value("2"))
+                .andExpect(jsonPath("$.content[0].imagePath").value("thumbnail2"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.hunstagram.unit.user.service;
 
 import com.example.hunstagram.domain.follow.entity.FollowRepository;
+import com.example.hunstagram.domain.post.dto.PostDto;
 import com.example.hunstagram.domain.post.entity.Post;
 import com.example.hunstagram.domain.post.entity.PostRepository;
 import com.example.hunstagram.domain.user.dto.UserDto;
@@ -151,7 +152,15 @@ class UserServiceTest {
     void get_my_profile_success() {
 
         // given
-        User me = createUser(1L);
+        User me = User.builder()
+                .id(1L)
+                .email("test1@test.com")
+                .name("test1")
+                .nickname("test1")
+                .followerCount(918)
+                .followingCount(1920)
+                .postCount(1)
+                .build();
 
         given(userRepository.findByEmail(any())).willReturn(Optional.of(me));
 
@@ -160,11 +169,8 @@ class UserServiceTest {
                 .thumbnailImage("test")
                 .build();
 
-        given(postRepository.findAllByUserId(any())).willReturn(List.of(post));
-        Integer followerCount = 918;
-        Integer followingCount = 1920;
-        given(followRepository.countFolloweeByUserId(any())).willReturn(followerCount);
-        given(followRepository.countFollowingByUserId(any())).willReturn(followingCount);
+        given(postRepository.findThumbnailsByUserIdAndCursor(any(), any(), any()))
+                .willReturn(List.of(PostDto.PostThumbnailResponse.fromEntity(post)));
 
         // when
         UserDto.MyProfileResponse response = userService.getMyProfile();
@@ -173,9 +179,10 @@ class UserServiceTest {
         assertThat(response.getUserId()).isEqualTo(me.getId());
         assertThat(response.getNickname()).isEqualTo(me.getNickname());
         assertThat(response.getName()).isEqualTo(me.getName());
-        assertThat(response.getPostThumbnails().get(0).getPostId()).isEqualTo(post.getId());
-        assertThat(response.getPostThumbnails().get(0).getImagePath()).isEqualTo(post.getThumbnailImage());
-        assertThat(response.getFollowerCount()).isEqualTo(followerCount.toString());
+        assertThat(response.getPostThumbnails().getContent().get(0).getPostId()).isEqualTo(post.getId());
+        assertThat(response.getPostThumbnails().getContent().get(0).getImagePath()).isEqualTo(post.getThumbnailImage());
+        assertThat(response.getFollowerCount()).isEqualTo("918");
+        assertThat(response.getPostCount()).isEqualTo("1");
         assertThat(response.getFollowingCount()).isEqualTo("1.92K");
     }
 
@@ -184,7 +191,15 @@ class UserServiceTest {
     void get_my_profile_success2() {
 
         // given
-        User me = createUser(1L);
+        User me = User.builder()
+                .id(1L)
+                .email("test1@test.com")
+                .name("test1")
+                .nickname("test1")
+                .followerCount(9957)
+                .followingCount(58201)
+                .postCount(1)
+                .build();
 
         given(userRepository.findByEmail(any())).willReturn(Optional.of(me));
 
@@ -193,11 +208,8 @@ class UserServiceTest {
                 .thumbnailImage("test")
                 .build();
 
-        given(postRepository.findAllByUserId(any())).willReturn(List.of(post));
-        Integer followerCount = 9957;
-        Integer followingCount = 58201;
-        given(followRepository.countFolloweeByUserId(any())).willReturn(followerCount);
-        given(followRepository.countFollowingByUserId(any())).willReturn(followingCount);
+        given(postRepository.findThumbnailsByUserIdAndCursor(any(), any(), any()))
+                .willReturn(List.of(PostDto.PostThumbnailResponse.fromEntity(post)));
 
         // when
         UserDto.MyProfileResponse response = userService.getMyProfile();
@@ -206,8 +218,8 @@ class UserServiceTest {
         assertThat(response.getUserId()).isEqualTo(me.getId());
         assertThat(response.getNickname()).isEqualTo(me.getNickname());
         assertThat(response.getName()).isEqualTo(me.getName());
-        assertThat(response.getPostThumbnails().get(0).getPostId()).isEqualTo(post.getId());
-        assertThat(response.getPostThumbnails().get(0).getImagePath()).isEqualTo(post.getThumbnailImage());
+        assertThat(response.getPostThumbnails().getContent().get(0).getPostId()).isEqualTo(post.getId());
+        assertThat(response.getPostThumbnails().getContent().get(0).getImagePath()).isEqualTo(post.getThumbnailImage());
         assertThat(response.getFollowerCount()).isEqualTo("9.96K");
         assertThat(response.getFollowingCount()).isEqualTo("5.82M");
     }